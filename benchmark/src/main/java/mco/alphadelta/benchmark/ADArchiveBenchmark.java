@@ -0,0 +1,68 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.implementation.ADFrontierArchive;
+import mco.alphadelta.metrics.ADNondominatedFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the insertion of points into the frontier archive of the box-decomposition engine and the
+ * nondominated filtering of the same points. The points are either a sphere frontier, every point of which is
+ * nondominated, or points spread through a cube, most of which are dominated.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ADArchiveBenchmark {
+
+    @Param({"3", "5"})
+    public int numObjectives;
+
+    /**
+     * sphere (2000 nondominated points) or cube (20000 points, mostly dominated)
+     */
+    @Param({"sphere", "cube"})
+    public String points;
+
+    private double[][] values = null;
+    private boolean[] maximize = null;
+    private double[] tolerances = null;
+    private double[] boxLower = null;
+    private double[] boxUpper = null;
+
+    @Setup
+    public void createPoints() {
+        this.values = points.equals("sphere")
+                ? ADSyntheticModel.sphereFrontier(2000, numObjectives, 2)
+                : ADSyntheticModel.cubePoints(20000, numObjectives, 3);
+        this.maximize = new boolean[numObjectives];
+        Arrays.fill(this.maximize, true);
+        this.tolerances = new double[numObjectives];
+        Arrays.fill(this.tolerances, 1e-4);
+        this.boxLower = new double[numObjectives];
+        this.boxUpper = new double[numObjectives];
+        Arrays.fill(this.boxLower, Double.NEGATIVE_INFINITY);
+        Arrays.fill(this.boxUpper, Double.POSITIVE_INFINITY);
+    }
+
+    @Benchmark
+    public int insert() {
+        ADFrontierArchive archive = new ADFrontierArchive(tolerances);
+        for (double[] point : values) archive.add(point, boxLower, boxUpper);
+        return archive.size();
+    }
+
+    @Benchmark
+    public int[] filter() {
+        return ADNondominatedFilter.filter(values, maximize, tolerances);
+    }
+}
@@ -0,0 +1,106 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.metrics.ADFrontier;
+import mco.alphadelta.metrics.ADFrontierReader;
+import mco.alphadelta.metrics.ADFrontierStudy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The frontiers the benchmarks run on: synthetic sphere frontiers large enough to show how the kernels scale,
+ * and the frontiers bundled under util/solutionSets. A data set is named source-&lt;objectives&gt;d, as
+ * synthetic-3d or solutionSets-2d.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADBenchmarkData {
+
+    /**
+     * The system property giving the directory of the bundled frontiers, which ADBenchmarkRun passes to the
+     * forked benchmark JVMs.
+     */
+    public static final String SETS_PROPERTY = "alphadelta.solutionSets";
+    public static final String DEFAULT_SETS_PATH = ADFrontierBenchmarkRun.DEFAULT_SETS_PATH;
+    public static final String SYNTHETIC = "synthetic";
+    public static final String SOLUTION_SETS = "solutionSets";
+
+    private ADBenchmarkData() {
+    }
+
+    /**
+     * @return the directory of the bundled frontiers
+     */
+    public static File getSetsPath() {
+        return new File(System.getProperty(SETS_PROPERTY, DEFAULT_SETS_PATH));
+    }
+
+    /**
+     * @param dataSet the name of the data set, as source-&lt;objectives&gt;d
+     * @return the study of the data set's frontiers, with every objective maximized (the cost of the metrics
+     * does not depend on the senses)
+     * @throws IllegalArgumentException if the name is not that of a data set
+     * @throws IllegalStateException    if no bundled frontier has that number of objectives
+     */
+    public static ADFrontierStudy load(String dataSet) {
+        int separator = dataSet.lastIndexOf('-');
+        if (separator < 0 || !dataSet.endsWith("d"))
+            throw new IllegalArgumentException("Not a data set: " + dataSet);
+        String source = dataSet.substring(0, separator);
+        int numObjectives = Integer.parseInt(dataSet.substring(separator + 1, dataSet.length() - 1));
+        switch (source) {
+            case SYNTHETIC:
+                return syntheticStudy(numObjectives);
+            case SOLUTION_SETS:
+                return bundledStudy(getSetsPath(), numObjectives);
+            default:
+                throw new IllegalArgumentException("Not a data set: " + dataSet);
+        }
+    }
+
+    /**
+     * @return a study of two sphere frontiers of the number of objectives, smaller the more objectives there are
+     */
+    public static ADFrontierStudy syntheticStudy(int numObjectives) {
+        int numPoints = (numObjectives <= 2) ? 10000 : (numObjectives == 3) ? 5000 : 500;
+        String[] names = new String[numObjectives];
+        for (int i = 0; i < numObjectives; i++) names[i] = "f" + (i + 1);
+
+        ADFrontierStudy study = new ADFrontierStudy(allMaximized(numObjectives));
+        for (int f = 0; f < 2; f++) {
+            double[][] points = ADSyntheticModel.sphereFrontier(numPoints, numObjectives, 10 + f);
+            int[] solutionIndices = new int[points.length];
+            for (int p = 0; p < points.length; p++) solutionIndices[p] = p;
+            study.addFrontier(new ADFrontier("sphere" + f, names, solutionIndices, points));
+        }
+        return study;
+    }
+
+    /**
+     * @return a study of the bundled frontiers of the number of objectives
+     */
+    public static ADFrontierStudy bundledStudy(File setsPath, int numObjectives) {
+        ADFrontierStudy study = new ADFrontierStudy(allMaximized(numObjectives));
+        for (File frontierFile : ADFrontierReader.findFrontierFiles(setsPath)) {
+            try {
+                ADFrontier frontier = ADFrontierReader.read(frontierFile);
+                if (frontier.getNumPoints() > 0 && frontier.getNumObjectives() == numObjectives)
+                    study.addFrontier(frontier);
+            } catch (IOException e) {
+                System.out.println("Skipping " + frontierFile + ": " + e.getMessage());
+            }
+        }
+        if (study.getNumFrontiers() == 0)
+            throw new IllegalStateException("No frontier of " + numObjectives + " objectives under " + setsPath);
+        return study;
+    }
+
+    private static boolean[] allMaximized(int numObjectives) {
+        boolean[] maximize = new boolean[numObjectives];
+        Arrays.fill(maximize, true);
+        return maximize;
+    }
+}
@@ -0,0 +1,162 @@
+package mco.alphadelta.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.TreeMap;
+
+/**
+ * Runs the JMH benchmarks of the framework's hot paths from the command line: objective discovery, solver
+ * parameter mapping, frontier archive insertion and filtering, and the metrics kernels, on the frontiers bundled
+ * under util/solutionSets and on synthetic frontiers and models.
+ * <pre>
+ * ADBenchmarkRun [-sets &lt;directory&gt;] [-filter &lt;regex&gt;] [-samples &lt;n&gt;] [-warmup &lt;n&gt;]
+ *                [-out &lt;csv file&gt;] [-baseline &lt;csv file&gt;] [-tolerance &lt;fraction&gt;]
+ * </pre>
+ * -sets is the directory of bundled frontiers (src/mco/alphadelta/util/solutionSets by default, relative to the
+ * working directory); if it does not exist, the benchmarks on the bundled frontiers are skipped. -filter runs
+ * only the benchmarks whose names match. -samples and -warmup override the number of measurement and warmup
+ * iterations of the benchmarks' annotations. Each benchmark's mean time, named with its parameters, is printed
+ * and, with -out, written as CSV. With -baseline, each mean time is compared with that in a CSV file written by
+ * an earlier run, and the run exits with status 1 if any is slower by more than the tolerance (0.2, that is
+ * 20%, by default), so that a build can fail on a performance regression.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADBenchmarkRun {
+
+    private static final String CSV_HEADER = "Benchmark, Mean, Error, Unit";
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        File setsPath = new File(ADBenchmarkData.DEFAULT_SETS_PATH);
+        String filter = null;
+        int samples = -1;
+        int warmup = -1;
+        File outFile = null;
+        File baselineFile = null;
+        double tolerance = 0.2;
+        for (int a = 0; a < args.length; a++) {
+            switch (args[a]) {
+                case "-sets":
+                    setsPath = new File(args[++a]);
+                    break;
+                case "-filter":
+                    filter = args[++a];
+                    break;
+                case "-samples":
+                    samples = Integer.parseInt(args[++a]);
+                    break;
+                case "-warmup":
+                    warmup = Integer.parseInt(args[++a]);
+                    break;
+                case "-out":
+                    outFile = new File(args[++a]);
+                    break;
+                case "-baseline":
+                    baselineFile = new File(args[++a]);
+                    break;
+                case "-tolerance":
+                    tolerance = Double.parseDouble(args[++a]);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[a]);
+                    System.out.println("Usage: ADBenchmarkRun [-sets <directory>] [-filter <regex>] [-samples <n>] "
+                            + "[-warmup <n>] [-out <csv file>] [-baseline <csv file>] [-tolerance <fraction>]");
+                    return;
+            }
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include((filter != null) ? filter : ADBenchmarkRun.class.getPackage().getName() + "\\.AD.*Benchmark")
+                .jvmArgsAppend("-D" + ADBenchmarkData.SETS_PROPERTY + "=" + setsPath.getAbsolutePath());
+        if (samples > 0) options.measurementIterations(samples);
+        if (warmup >= 0) options.warmupIterations(warmup);
+        if (!setsPath.exists()) {
+            System.out.println("No frontiers at " + setsPath + "; benchmarks on the bundled frontiers are skipped");
+            options.param("dataSet", ADBenchmarkData.SYNTHETIC + "-2d", ADBenchmarkData.SYNTHETIC + "-3d",
+                    ADBenchmarkData.SYNTHETIC + "-5d");
+        }
+        Collection<RunResult> runResults = new Runner(options.build()).run();
+
+        // each benchmark's result, named with its parameters, in name order
+        TreeMap<String, RunResult> results = new TreeMap<>();
+        for (RunResult runResult : runResults) results.put(nameOf(runResult), runResult);
+
+        System.out.println(CSV_HEADER);
+        for (String name : results.keySet()) System.out.println(toCSV(name, results.get(name)));
+        if (outFile != null) {
+            try (PrintStream out = new PrintStream(outFile)) {
+                out.println(CSV_HEADER);
+                for (String name : results.keySet()) out.println(toCSV(name, results.get(name)));
+            }
+        }
+
+        if (baselineFile != null && regressed(results, readMeans(baselineFile), tolerance)) System.exit(1);
+    }
+
+    /**
+     * @return the benchmark's method name, followed by its parameters, as
+     * ADMetricsBenchmark.hypervolume:dataSet=synthetic-2d
+     */
+    private static String nameOf(RunResult runResult) {
+        String benchmark = runResult.getParams().getBenchmark();
+        StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.',
+                benchmark.lastIndexOf('.') - 1) + 1));
+        ArrayList<String> keys = new ArrayList<>(runResult.getParams().getParamsKeys());
+        for (int k = 0; k < keys.size(); k++)
+            name.append((k == 0) ? ":" : ",").append(keys.get(k)).append("=")
+                    .append(runResult.getParams().getParam(keys.get(k)));
+        return name.toString();
+    }
+
+    /**
+     * @return true if some benchmark's mean time exceeds its baseline mean by more than the tolerance
+     */
+    private static boolean regressed(TreeMap<String, RunResult> results, HashMap<String, Double> baselineMeans,
+                                     double tolerance) {
+        boolean regressed = false;
+        for (String name : results.keySet()) {
+            Double baselineMean = baselineMeans.get(name);
+            if (baselineMean == null) continue;
+            double mean = results.get(name).getPrimaryResult().getScore();
+            double change = mean / baselineMean - 1;
+            if (change > tolerance) {
+                String unit = results.get(name).getPrimaryResult().getScoreUnit();
+                System.out.println("REGRESSION " + name + ": " + String.format("%.3f", mean) + " " + unit
+                        + " against " + String.format("%.3f", baselineMean) + " " + unit + " ("
+                        + String.format("%+.1f%%", 100 * change) + ")");
+                regressed = true;
+            }
+        }
+        if (!regressed) System.out.println("No benchmark is more than " + (100 * tolerance) + "% slower than the baseline");
+        return regressed;
+    }
+
+    private static HashMap<String, Double> readMeans(File csvFile) throws IOException {
+        HashMap<String, Double> means = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(csvFile))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(", ");
+                if (fields.length >= 2) means.put(fields[0].trim(), Double.parseDouble(fields[1].trim()));
+            }
+        }
+        return means;
+    }
+
+    private static String toCSV(String name, RunResult runResult) {
+        return name + ", " + String.format("%.3f", runResult.getPrimaryResult().getScore()) + ", "
+                + String.format("%.3f", runResult.getPrimaryResult().getScoreError()) + ", "
+                + runResult.getPrimaryResult().getScoreUnit();
+    }
+}
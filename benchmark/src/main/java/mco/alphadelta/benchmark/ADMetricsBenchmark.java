@@ -0,0 +1,67 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.metrics.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the metrics kernels (the nondominated filter, the hypervolume, the epsilon indicator matrix and the
+ * spacing) on the frontiers of each data set (see ADBenchmarkData). The epsilon matrix compares every frontier of the data set
+ * with every other; a data set of a single frontier compares it with itself.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ADMetricsBenchmark {
+
+    @Param({"synthetic-2d", "synthetic-3d", "synthetic-5d", "solutionSets-2d", "solutionSets-3d"})
+    public String dataSet;
+
+    private ADFrontierStudy study = null;
+    private double[][] oriented = null;
+    private ADFrontierComparison comparison = null;
+
+    @Setup
+    public void loadStudy() {
+        this.study = ADBenchmarkData.load(dataSet);
+        this.oriented = this.study.getOrientedPoints(true);
+        this.comparison = new ADFrontierComparison(this.study.getNumObjectives());
+    }
+
+    @Benchmark
+    public int nondominatedFilter() {
+        int kept = 0;
+        for (int f = 0; f < study.getNumFrontiers(); f++)
+            kept += ADNondominatedFilter.filter(study.getFrontier(f).getPoints(), study.getMaximize()).length;
+        return kept;
+    }
+
+    @Benchmark
+    public double hypervolume() {
+        double total = 0;
+        for (int f = 0; f < study.getNumFrontiers(); f++)
+            total += ADHypervolume.normalized(study.getFrontier(f), study.getMaximize());
+        return total;
+    }
+
+    @Benchmark
+    public double[][] epsilonMatrix() {
+        return comparison.epsilonMatrix(oriented);
+    }
+
+    @Benchmark
+    public double spacing() {
+        double total = 0;
+        for (double[] values : oriented)
+            total += ADFrontierSpacing.spacing(ADFrontierIndex.fromValues(values, study.getNumObjectives()));
+        return total;
+    }
+}
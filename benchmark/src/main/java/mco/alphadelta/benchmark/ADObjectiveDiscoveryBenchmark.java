@@ -0,0 +1,39 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.implementation.ADLinearModel;
+import mco.alphadelta.implementation.ADObjectiveDiscovery;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks objective discovery (the walk of getObjsAndSenses) on synthetic knapsack models of three
+ * objectives, whose objective function has a term for every item.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ADObjectiveDiscoveryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int numItems;
+
+    private ADLinearModel model = null;
+
+    @Setup
+    public void createModel() {
+        this.model = ADSyntheticModel.knapsack(3, numItems, 2, 1);
+    }
+
+    @Benchmark
+    public int[] discover() {
+        return ADObjectiveDiscovery.fromModel(this.model).getColumns();
+    }
+}
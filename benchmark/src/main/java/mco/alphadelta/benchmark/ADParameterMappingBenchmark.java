@@ -0,0 +1,47 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.implementation.ADSolverCPLEXParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the mapping of solver parameters that assignSolverParameters carries out: each accepted CPLEX
+ * parameter name (and an unknown one) is mapped to its canonical name and its value parsed, without CPLEX.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ADParameterMappingBenchmark {
+
+    private final String[][] parameters = {
+            {"Threads", "4"}, {"numthreads", "8"}, {"EpGap", "0.01"}, {"optgap", "0.05"},
+            {"OptimalityGap", "1e-4"}, {"WorkMem", "2048"}, {"workingmem", "1024"}, {"WorkingMemory", "512"},
+            {"memory", "4096"}, {"EpInt", "1e-6"}, {"integrality", "1e-5"}, {"IntGap", "1e-7"},
+            {"integralityGap", "1e-6"}, {"TiLim", "300"}, {"time", "60"}, {"TimeLimit", "3600"},
+            {"unknown", "1"}};
+
+    @Benchmark
+    public double mapAliases() {
+        double total = 0;
+        for (String[] parameter : parameters) {
+            String canonicalName = ADSolverCPLEXParameters.canonicalName(parameter[0]);
+            if (canonicalName == null) continue;
+            switch (canonicalName) {
+                case "threads":
+                    total += Integer.parseInt(parameter[1]);
+                    break;
+                default:
+                    total += Double.parseDouble(parameter[1]);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,223 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADAlgoSolver;
+import mco.alphadelta.implementation.ADAlgoParameters;
+import mco.alphadelta.implementation.ADAlgoSolverFactory;
+import mco.alphadelta.implementation.ADLPFormatWriter;
+import mco.alphadelta.metrics.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Regenerates the bundled reference frontiers end to end with the alpha-delta algorithm, to compare algorithm
+ * modes and solver settings on workloads shaped like real ones.
+ * <pre>
+ * ADFrontierBenchmarkRun [-sets &lt;directory&gt;] [-match &lt;regex&gt;] [-solver cplex|java] [-alpha &lt;degrees&gt;]
+ *                        [-delta &lt;percent&gt;] [-decoys &lt;n&gt;] [-workers &lt;n&gt;] [-work &lt;directory&gt;]
+ *                        [-out &lt;csv file&gt;]
+ * </pre>
+ * The models behind the bundled frontiers are not shipped, so each frontier under -sets (util/solutionSets by
+ * default) whose path matches -match is regenerated from a stand-in model (see ADSyntheticModel.standIn) with
+ * -decoys dominated decoys per point (2 by default). The senses of the reference frontier's objectives are not
+ * recorded with it, so they are taken to be those under which the most of its points are nondominated (the
+ * first objective maximized); its dominated points are dropped.
+ * <p>
+ * The frontier is generated with the given alpha (0.01 degrees by default) and a relative delta of -delta
+ * percent of each objective's range (1 by default), by the CPLEX solver if CPLEX can be loaded and the Java
+ * solver otherwise, unless -solver says which. Each run writes its stand-in model and output to its own
+ * directory under -work (the system temporary directory by default). For each frontier, the points found per
+ * hour of wall time, the solver seconds per point, and the hypervolume of the generated frontier as a fraction
+ * of that of the reference frontier (both normalized to the reference's bounds) are printed and, with -out,
+ * written as CSV.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierBenchmarkRun {
+
+    public static final String DEFAULT_SETS_PATH = "src/mco/alphadelta/util/solutionSets";
+    private static final String CSV_HEADER = "Frontier, Solver, Objectives, ReferencePoints, GeneratedPoints, "
+            + "WallSeconds, FrontierSolverSeconds, PointsPerHour, SolverSecondsPerPoint, HypervolumeRatio";
+
+    public static void main(String[] args) throws IOException {
+        File setsPath = new File(DEFAULT_SETS_PATH);
+        Pattern pathPattern = null;
+        String solverType = null;
+        double alpha = 0.01;
+        double delta = 1;
+        int decoysPerPoint = 2;
+        int frontierWorkers = 1;
+        File workPath = new File(System.getProperty("java.io.tmpdir"), "ADFrontierBenchmark");
+        File outFile = null;
+        for (int a = 0; a < args.length; a++) {
+            switch (args[a]) {
+                case "-sets":
+                    setsPath = new File(args[++a]);
+                    break;
+                case "-match":
+                    pathPattern = Pattern.compile(args[++a]);
+                    break;
+                case "-solver":
+                    solverType = args[++a].toLowerCase();
+                    break;
+                case "-alpha":
+                    alpha = Double.parseDouble(args[++a]);
+                    break;
+                case "-delta":
+                    delta = Double.parseDouble(args[++a]);
+                    break;
+                case "-decoys":
+                    decoysPerPoint = Integer.parseInt(args[++a]);
+                    break;
+                case "-workers":
+                    frontierWorkers = Integer.parseInt(args[++a]);
+                    break;
+                case "-work":
+                    workPath = new File(args[++a]);
+                    break;
+                case "-out":
+                    outFile = new File(args[++a]);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[a]);
+                    System.out.println("Usage: ADFrontierBenchmarkRun [-sets <directory>] [-match <regex>] "
+                            + "[-solver cplex|java] [-alpha <degrees>] [-delta <percent>] [-decoys <n>] "
+                            + "[-workers <n>] [-work <directory>] [-out <csv file>]");
+                    return;
+            }
+        }
+        if (solverType == null) solverType = ADAlgoSolverFactory.isCPLEXAvailable() ? "cplex" : "java";
+
+        ArrayList<String> rows = new ArrayList<>();
+        for (File frontierFile : ADFrontierReader.findFrontierFiles(setsPath)) {
+            String relativePath = setsPath.isDirectory()
+                    ? setsPath.toPath().relativize(frontierFile.toPath()).toString().replace(File.separatorChar, '/')
+                    : frontierFile.getName();
+            if (pathPattern != null && !pathPattern.matcher(relativePath).find()) continue;
+
+            ADFrontier reference;
+            try {
+                reference = ADFrontierReader.read(frontierFile);
+            } catch (IOException e) {
+                System.out.println("Skipping " + frontierFile + ": " + e.getMessage());
+                continue;
+            }
+            if (reference.getNumPoints() < 2) continue;
+
+            boolean[] maximize = inferSenses(reference);
+            reference = ADNondominatedFilter.filter(reference, maximize, null);
+
+            File runPath = new File(workPath, relativePath.replaceAll("[^A-Za-z0-9_.-]", "_"));
+            if (!runPath.isDirectory() && !runPath.mkdirs()) {
+                System.out.println("Cannot create " + runPath);
+                continue;
+            }
+            File modelFile = new File(runPath, "standIn.lp");
+            ADLPFormatWriter.write(ADSyntheticModel.standIn(reference, maximize, decoysPerPoint, 1), modelFile);
+
+            ADAlgoParameters algoParameters = new ADAlgoParameters();
+            algoParameters.setAlpha_degrees(alpha);
+            double[] deltas = new double[reference.getNumObjectives() - 1];
+            Arrays.fill(deltas, delta);
+            algoParameters.setDeltas(deltas);
+            algoParameters.setRelativeDeltas(true);
+            algoParameters.setFrontierWorkers(frontierWorkers);
+
+            System.out.println("Regenerating " + relativePath + " (" + reference.getNumPoints() + " points) with the "
+                    + solverType + " solver");
+            String row = regenerate(relativePath, solverType, reference, maximize, modelFile, runPath, algoParameters);
+            if (row == null) continue;
+            rows.add(row);
+            System.out.println(CSV_HEADER);
+            System.out.println(row);
+        }
+
+        if (outFile != null) {
+            try (PrintStream out = new PrintStream(outFile)) {
+                out.println(CSV_HEADER);
+                for (String row : rows) out.println(row);
+            }
+        }
+    }
+
+    /**
+     * Generates the frontier of the stand-in model and scores it against the reference.
+     *
+     * @return the CSV row of the run, or null if it failed
+     */
+    private static String regenerate(String name, String solverType, ADFrontier reference, boolean[] maximize,
+                                     File modelFile, File runPath, ADAlgoParameters algoParameters) {
+        IADAlgoSolver solver;
+        try {
+            solver = ADAlgoSolverFactory.newSolver(solverType);
+        } catch (ADAlgoSolverException e) {
+            e.printStackTrace();
+            return null;
+        }
+        solver.setAlgoParameters(algoParameters);
+        solver.setOutputPath(runPath);
+
+        ArrayList<double[]> generated = new ArrayList<>();
+        double[] frontierSolverSeconds = {0};
+        solver.addProgressListener((solutionIndex, objectiveValues, hypervolume, marginalGain, solverSeconds) -> {
+            synchronized (generated) {
+                generated.add(objectiveValues.clone());
+                frontierSolverSeconds[0] += solverSeconds;
+            }
+        });
+
+        long start = System.nanoTime();
+        try {
+            if (!solver.solve(modelFile)) {
+                System.out.println("The " + solverType + " solver did not generate a frontier for " + name);
+                return null;
+            }
+        } catch (ADAlgoSolverException | FileNotFoundException e) {
+            e.printStackTrace();
+            return null;
+        }
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+        double[] minimums = reference.getMinimums();
+        double[] maximums = reference.getMaximums();
+        double referenceVolume = ADHypervolume.normalized(reference.getPoints(), maximize, minimums, maximums);
+        double generatedVolume = ADHypervolume.normalized(generated.toArray(new double[0][]), maximize, minimums, maximums);
+        int numPoints = generated.size();
+
+        return name + ", " + solverType + ", " + reference.getNumObjectives() + ", " + reference.getNumPoints() + ", "
+                + numPoints + ", " + String.format("%.3f", wallSeconds) + ", "
+                + String.format("%.3f", frontierSolverSeconds[0]) + ", "
+                + String.format("%.1f", numPoints * 3600 / wallSeconds) + ", "
+                + String.format("%.4f", (numPoints > 0) ? frontierSolverSeconds[0] / numPoints : Double.NaN) + ", "
+                + String.format("%.4f", (referenceVolume > 0) ? generatedVolume / referenceVolume : Double.NaN);
+    }
+
+    /**
+     * @return the senses, with the first objective maximized, under which the most points of the frontier are
+     * nondominated
+     */
+    static boolean[] inferSenses(ADFrontier frontier) {
+        int numObjectives = frontier.getNumObjectives();
+        boolean[] best = null;
+        int mostKept = -1;
+        for (int combination = 0; combination < (1 << (numObjectives - 1)); combination++) {
+            boolean[] maximize = new boolean[numObjectives];
+            maximize[0] = true;
+            for (int i = 1; i < numObjectives; i++) maximize[i] = ((combination >> (i - 1)) & 1) == 0;
+            int kept = ADNondominatedFilter.filter(frontier.getPoints(), maximize).length;
+            if (kept > mostKept) {
+                mostKept = kept;
+                best = maximize;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,178 @@
+package mco.alphadelta.benchmark;
+
+import mco.alphadelta.implementation.ADLinearModel;
+import mco.alphadelta.metrics.ADFrontier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates synthetic multi-criterion models and frontiers of any size for benchmarks, reproducibly from a seed.
+ * <p>
+ * The models are multi-objective knapsack problems in the form the alpha-delta algorithm reads: binary item
+ * columns x_j, and one objective column f_i per objective tied to the items by the row
+ * f_i - sum_j c_ij x_j = 0. The objective function holds one term per objective column, +f_i for objectives
+ * maximized and -f_i for those minimized under Maximize; odd objectives (the first, third, ...) are values to
+ * maximize and even ones are costs to minimize. Capacity rows limit the weight of the items chosen, and a
+ * cardinality row requires at least a quarter of the items, so that minimizing the costs does not choose nothing.
+ * <p>
+ * A stand-in model for a reference frontier chooses one of the frontier's points, or one of a number of decoy
+ * points each dominated by a frontier point, with binary columns z_p and the row sum_p z_p = 1; the objective
+ * columns are tied to the choice by the rows f_i - sum_p v_pi z_p = 0. The nondominated points of the model are
+ * exactly those of the reference frontier, so a frontier generated from the model can be scored against it.
+ * <p>
+ * The frontiers are points on the positive part of the unit sphere, which are all nondominated for
+ * maximization, and uniform points in the unit cube, nearly all of which are dominated in a large set.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADSyntheticModel {
+
+    public static final int MAX_COEFFICIENT = 100;
+
+    private ADSyntheticModel() {
+    }
+
+    /**
+     * @param numObjectives   the number of objectives
+     * @param numItems        the number of binary item columns
+     * @param numCapacityRows the number of capacity rows
+     * @param seed            the seed of the coefficients
+     */
+    public static ADLinearModel knapsack(int numObjectives, int numItems, int numCapacityRows, long seed) {
+        Random random = new Random(seed);
+        ADLinearModel model = new ADLinearModel();
+        int[] items = new int[numItems];
+        for (int j = 0; j < numItems; j++) items[j] = model.addColumn("x" + (j + 1), 0, 1, true);
+
+        int[] indices = new int[numItems + 1];
+        double[] values = new double[numItems + 1];
+        int[] objectiveColumns = new int[numObjectives];
+        double[] objectiveSigns = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) {
+            objectiveColumns[i] = model.addColumn("f" + (i + 1), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false);
+            objectiveSigns[i] = (i % 2 == 0) ? 1 : -1;
+            indices[0] = objectiveColumns[i];
+            values[0] = 1;
+            for (int j = 0; j < numItems; j++) {
+                indices[j + 1] = items[j];
+                values[j + 1] = -(1 + random.nextInt(MAX_COEFFICIENT));
+            }
+            model.addRow("objective" + (i + 1), 0, 0, indices, values);
+        }
+
+        for (int r = 0; r < numCapacityRows; r++) {
+            double totalWeight = 0;
+            for (int j = 0; j < numItems; j++) {
+                values[j] = 1 + random.nextInt(MAX_COEFFICIENT);
+                totalWeight += values[j];
+            }
+            model.addRow("capacity" + (r + 1), Double.NEGATIVE_INFINITY, totalWeight / 2, items, values, numItems);
+        }
+
+        double[] ones = new double[numItems];
+        Arrays.fill(ones, 1);
+        model.addRow("cardinality", Math.ceil(numItems / 4.0), Double.POSITIVE_INFINITY, items, ones, numItems);
+
+        model.setObjective(true, objectiveColumns, objectiveSigns);
+        return model;
+    }
+
+    /**
+     * @param reference      the reference frontier
+     * @param maximize       the sense of each objective of the reference frontier
+     * @param decoysPerPoint the number of dominated decoy points added per reference point
+     * @param seed           the seed of the decoys
+     */
+    public static ADLinearModel standIn(ADFrontier reference, boolean[] maximize, int decoysPerPoint, long seed) {
+        Random random = new Random(seed);
+        int numObjectives = reference.getNumObjectives();
+        double[] minimums = reference.getMinimums();
+        double[] maximums = reference.getMaximums();
+
+        ArrayList<double[]> choices = new ArrayList<>();
+        for (double[] point : reference.getPoints()) choices.add(point);
+        for (double[] point : reference.getPoints())
+            for (int d = 0; d < decoysPerPoint; d++) {
+                // worse than the reference point by up to a fifth of the range in every objective
+                double[] decoy = new double[numObjectives];
+                for (int i = 0; i < numObjectives; i++) {
+                    double worsening = (1 - random.nextDouble()) * 0.2 * (maximums[i] - minimums[i]);
+                    decoy[i] = maximize[i] ? point[i] - worsening : point[i] + worsening;
+                }
+                choices.add(decoy);
+            }
+
+        ADLinearModel model = new ADLinearModel();
+        int[] choiceColumns = new int[choices.size()];
+        for (int p = 0; p < choices.size(); p++) {
+            String prefix = (p < reference.getNumPoints()) ? "z" : "d";
+            int number = (p < reference.getNumPoints()) ? p + 1 : p - reference.getNumPoints() + 1;
+            choiceColumns[p] = model.addColumn(prefix + number, 0, 1, true);
+        }
+
+        int[] indices = new int[choices.size() + 1];
+        double[] values = new double[choices.size() + 1];
+        int[] objectiveColumns = new int[numObjectives];
+        double[] objectiveSigns = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) {
+            objectiveColumns[i] = model.addColumn("f" + (i + 1), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false);
+            objectiveSigns[i] = maximize[i] ? 1 : -1;
+            indices[0] = objectiveColumns[i];
+            values[0] = 1;
+            for (int p = 0; p < choices.size(); p++) {
+                indices[p + 1] = choiceColumns[p];
+                values[p + 1] = -choices.get(p)[i];
+            }
+            model.addRow("objective" + (i + 1), 0, 0, indices, values);
+        }
+
+        double[] ones = new double[choices.size()];
+        Arrays.fill(ones, 1);
+        model.addRow("choice", 1, 1, choiceColumns, ones);
+
+        model.setObjective(true, objectiveColumns, objectiveSigns);
+        return model;
+    }
+
+    /**
+     * @return the senses of the objectives of a knapsack model
+     */
+    public static boolean[] knapsackSenses(int numObjectives) {
+        boolean[] maximize = new boolean[numObjectives];
+        for (int i = 0; i < numObjectives; i++) maximize[i] = (i % 2 == 0);
+        return maximize;
+    }
+
+    /**
+     * @return points spread over the positive part of the unit sphere, none dominating another
+     */
+    public static double[][] sphereFrontier(int numPoints, int numObjectives, long seed) {
+        Random random = new Random(seed);
+        double[][] points = new double[numPoints][numObjectives];
+        for (double[] point : points) {
+            double norm = 0;
+            for (int i = 0; i < numObjectives; i++) {
+                point[i] = Math.abs(random.nextGaussian()) + 1e-9;
+                norm += point[i] * point[i];
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < numObjectives; i++) point[i] /= norm;
+        }
+        return points;
+    }
+
+    /**
+     * @return points drawn uniformly from the unit cube
+     */
+    public static double[][] cubePoints(int numPoints, int numObjectives, long seed) {
+        Random random = new Random(seed);
+        double[][] points = new double[numPoints][numObjectives];
+        for (double[] point : points)
+            for (int i = 0; i < numObjectives; i++) point[i] = random.nextDouble();
+        return points;
+    }
+}
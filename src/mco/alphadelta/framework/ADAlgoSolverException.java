@@ -0,0 +1,23 @@
+/**
+ * Signals that a solver could not carry out the alpha-delta algorithm. Solver-specific exceptions
+ * (such as those raised by CPLEX) are wrapped in this exception so that the framework does not
+ * depend on any particular solver library.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+package mco.alphadelta.framework;
+
+public class ADAlgoSolverException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public ADAlgoSolverException(String message) {
+        super(message);
+    }
+
+    public ADAlgoSolverException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
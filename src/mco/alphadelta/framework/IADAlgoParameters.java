@@ -26,6 +26,21 @@ public interface IADAlgoParameters {
      */
     ArrayList<Double> getDeltas();
 
+    /**
+     * Returns the number of delta values currently set
+     *
+     * @return
+     */
+    int getNumDeltas();
+
+    /**
+     * Returns the delta value at the given index, without copying the set of deltas
+     *
+     * @param index
+     * @return
+     */
+    double getDelta(int index);
+
     /**
      * Set the value for the alpha parameter (in degrees).
      *
@@ -40,4 +55,13 @@ public interface IADAlgoParameters {
      */
     void setDeltas(ArrayList<Double> deltas);
 
+    /**
+     * Set the value of the delta parameters for all non-principal objectives from an array. The array is copied,
+     * so later changes to it do not affect the parameters; afterwards getNumDeltas() returns its length and
+     * getDelta(i) its i-th value.
+     *
+     * @param deltas
+     */
+    void setDeltas(double[] deltas);
+
 }
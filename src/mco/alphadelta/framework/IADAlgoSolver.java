@@ -7,8 +7,6 @@
  */
 package mco.alphadelta.framework;
 
-import ilog.concert.IloException;
-
 import java.io.File;
 import java.io.FileNotFoundException;
 
@@ -18,8 +16,9 @@ public interface IADAlgoSolver {
      * alpha-delta algorithm.
      *
      * @return true if the algorithm terminates successfully
+     * @throws ADAlgoSolverException if the underlying solver fails
      */
-    boolean solve(File mcoModel) throws IloException, FileNotFoundException;
+    boolean solve(File mcoModel) throws ADAlgoSolverException, FileNotFoundException;
 
     /**
      * Set the parameters of the solver using the IADSolverParameters object passed.
@@ -45,9 +44,16 @@ public interface IADAlgoSolver {
     boolean setOutputPath(File outputPath);
 
     /**
-     * Returns the type of this.solver, such as "CPLEX"
+     * Returns the type of this.solver, such as "CPLEX" or "Java"
      *
      * @return
      */
     String getType();
+
+    /**
+     * Registers a listener to be notified as each frontier point is found
+     *
+     * @param listener
+     */
+    void addProgressListener(IADProgressListener listener);
 }
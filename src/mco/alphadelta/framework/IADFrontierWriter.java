@@ -0,0 +1,38 @@
+/**
+ * Defines the interface for a destination of the efficient frontier points found by the alpha-delta algorithm.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+package mco.alphadelta.framework;
+
+import java.io.IOException;
+
+public interface IADFrontierWriter {
+
+    /**
+     * Prepares the output for a new frontier.
+     *
+     * @param objectiveNames the names of the objectives, principal objective first
+     * @throws IOException if the output cannot be created
+     */
+    void open(String[] objectiveNames) throws IOException;
+
+    /**
+     * Records a frontier point. The arrays may be reused by the caller once this returns.
+     *
+     * @param solutionIndex   the index of the point on the frontier
+     * @param objectiveValues the value of each objective at the point
+     * @param solution        the value of every model column at the point, or null if it is not available
+     * @throws IOException if an earlier write has failed
+     */
+    void writePoint(int solutionIndex, double[] objectiveValues, double[] solution) throws IOException;
+
+    /**
+     * Writes any points still held and closes the output.
+     *
+     * @throws IOException if the points cannot be written
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,25 @@
+/**
+ * Defines the interface for an observer of the progress of frontier generation, notified as each frontier
+ * point is found with the frontier's hypervolume so far.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+package mco.alphadelta.framework;
+
+public interface IADProgressListener {
+
+    /**
+     * Called from the thread running the frontier loop after each new frontier point.
+     *
+     * @param solutionIndex   the index of the point on the frontier
+     * @param objectiveValues the value of each objective at the point
+     * @param hypervolume     the hypervolume of the frontier so far, normalized to the box between the
+     *                        worst case and ideal values of the objectives
+     * @param marginalGain    the hypervolume added by this point
+     * @param solverSeconds   the solver time spent finding this point
+     */
+    void frontierPointFound(int solutionIndex, double[] objectiveValues, double hypervolume, double marginalGain,
+                            double solverSeconds);
+}
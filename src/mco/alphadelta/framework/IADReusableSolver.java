@@ -0,0 +1,44 @@
+/**
+ * Defines the interface for a solver that keeps a model loaded, along with its ideal and nadir values, so that
+ * the frontier can be generated from it many times (with different alpha and delta values, for instance)
+ * without importing the model or constructing its ideal solution again. solve(model) is the same as
+ * prepare(model) followed by generate().
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+package mco.alphadelta.framework;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+public interface IADReusableSolver extends IADAlgoSolver {
+
+    /**
+     * Imports the model and constructs its ideal solution, with the algorithm and solver parameters set at the
+     * time. A solver prepares one model only.
+     */
+    boolean prepare(File mcoModel) throws ADAlgoSolverException, FileNotFoundException;
+
+    /**
+     * Generates the frontier of the prepared model with the current algorithm and solver parameters, removing
+     * the frontier of any previous generation first.
+     */
+    boolean generate() throws ADAlgoSolverException, FileNotFoundException;
+
+    /**
+     * Returns the prepared model to its state before its first frontier was generated.
+     */
+    void resetFrontier() throws ADAlgoSolverException;
+
+    /**
+     * @return the model prepared, or null if none has been
+     */
+    File getPreparedModel();
+
+    /**
+     * Releases what the solver holds; it cannot be used afterwards.
+     */
+    void end();
+}
@@ -8,8 +8,34 @@
  */
 package mco.alphadelta.framework;
 
+import java.util.Set;
+
 public interface IADSolverParameters {
 
     public void addParam(String paramName, String paramValue);
 
+    /**
+     * Returns the value stored for the parameter, or null if none was stored
+     *
+     * @param paramName
+     * @return
+     */
+    public String getParam(String paramName);
+
+    /**
+     * Returns the names of all parameters stored
+     *
+     * @return
+     */
+    public Set<String> getParamSet();
+
+    /**
+     * Resolves any of the accepted spellings of a parameter, in any case, to its canonical name, such as tilim
+     * for the time limit or epgap for the relative optimality gap
+     *
+     * @param paramName
+     * @return the canonical name, or null if the solver does not recognize the name
+     */
+    public String resolveParamName(String paramName);
+
 }
@@ -9,6 +9,7 @@
 package mco.alphadelta.implementation;
 
 import ilog.concert.IloException;
+import mco.alphadelta.framework.ADAlgoSolverException;
 import mco.alphadelta.framework.IADAlgoInterface;
 import mco.alphadelta.framework.IADAlgoParameters;
 import mco.alphadelta.framework.IADAlgoSolver;
@@ -72,6 +73,8 @@ public class ADAlgoConsoleInterface implements IADAlgoInterface {
         IADSolverParameters solverParameters;
         if (this.algoSolver.getType().equalsIgnoreCase("cplex")){
             solverParameters = new ADSolverCPLEXParameters();
+        } else if (this.algoSolver.getType().equalsIgnoreCase("java")){
+            solverParameters = new ADSolverJavaParameters();
         } else {
             System.out.println("Currently assigned solver type unrecognized. Constructing a set of parameters for CPLEX.");
             solverParameters = new ADSolverCPLEXParameters();
@@ -143,6 +146,8 @@ public class ADAlgoConsoleInterface implements IADAlgoInterface {
             solverString = reader.readLine();
             if (solverString.equalsIgnoreCase("cplex")){
                 solver = new ADAlgoSolver_CPLEX();
+            } else if (solverString.equalsIgnoreCase("java")){
+                solver = new ADAlgoSolver_Java();
             } else {
                 System.out.println("Solver type not recognized. Using default solver: CPLEX.");
                 solver = new ADAlgoSolver_CPLEX();
@@ -190,7 +195,7 @@ public class ADAlgoConsoleInterface implements IADAlgoInterface {
 
         try {
             return this.algoSolver.solve(this.mcoModel);
-        } catch (IloException e) {
+        } catch (ADAlgoSolverException e) {
             e.printStackTrace();
             return false;
         } catch (IOException e) {
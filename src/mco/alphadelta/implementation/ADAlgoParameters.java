@@ -12,20 +12,40 @@ import java.util.ArrayList;
 public class ADAlgoParameters implements IADAlgoParameters {
 
     private double alpha_degrees = Double.NaN;
-    private ArrayList<Double> deltas = null;
+    private double[] deltas = null;
     private boolean relativeDeltas = false;
     private boolean printLogFiles = false;
-    private boolean printSolFiles = true;
+    private boolean printSolFiles = false;
+    private boolean printBinaryFrontier = false;
+    private boolean printSolutionDeltas = false;
+    private boolean printRunMetrics = true;
     private boolean hotStart = false;
     private File hotStartModel = null;
     private IADSolverParameters solverParamsForIdealConstruction = null;
+    private int idealConstructionInstances = 1;
+    private int threadsPerIdealInstance = 0;
+    private int frontierWorkers = 1;
+    private int threadsPerFrontierWorker = 0;
+    private double minHypervolumeGainRate = 0;
+    private double checkpointSeconds = 60;
+    private double solveBudgetSeconds = 0;
+    private double maxRelaxedGap = 0;
+    private boolean usePayoffTableCache = true;
+    private File payoffTableCachePath = null;
+    private ADNadirEstimator.Mode nadirEstimation = ADNadirEstimator.Mode.PAYOFF;
+    private boolean relaxationPrescreen = true;
 
     public void setAlpha_degrees(double alpha_degrees) {
         this.alpha_degrees = alpha_degrees;
     }
 
     public void setDeltas(ArrayList<Double> deltas) {
-        this.deltas = deltas;
+        this.deltas = new double[deltas.size()];
+        for (int i = 0; i < deltas.size(); i++) this.deltas[i] = deltas.get(i);
+    }
+
+    public void setDeltas(double[] deltas) {
+        this.deltas = deltas.clone();
     }
 
     public double getAlpha_degrees() {
@@ -40,14 +60,48 @@ public class ADAlgoParameters implements IADAlgoParameters {
         return clone;
     }
 
+    public int getNumDeltas() {
+        return this.deltas.length;
+    }
+
+    public double getDelta(int index) {
+        return this.deltas[index];
+    }
+
     public void setPrintLogFiles(boolean printLogFiles) {
         this.printLogFiles = printLogFiles;
     }
 
+    /**
+     * Sets whether a full solution file is written for every frontier point. Off by default; on long runs
+     * the binary frontier with solution deltas keeps the same information far more compactly.
+     */
     public void setPrintSolFiles(boolean printSolFiles) {
         this.printSolFiles = printSolFiles;
     }
 
+    /**
+     * Sets whether the frontier is also written in the binary columnar format (see ADFrontierWriter_Binary).
+     */
+    public void setPrintBinaryFrontier(boolean printBinaryFrontier) {
+        this.printBinaryFrontier = printBinaryFrontier;
+    }
+
+    /**
+     * Sets whether the binary frontier stores each point's solution vector, as changes from the previous point.
+     */
+    public void setPrintSolutionDeltas(boolean printSolutionDeltas) {
+        this.printSolutionDeltas = printSolutionDeltas;
+    }
+
+    /**
+     * Sets whether the time, solver statistics and model size of each phase of the run are written to the
+     * RunEvents.jsonl and RunSummary.json files (see ADRunMetrics). On by default.
+     */
+    public void setPrintRunMetrics(boolean printRunMetrics) {
+        this.printRunMetrics = printRunMetrics;
+    }
+
     public boolean willPrintLogFiles() {
         return printLogFiles;
     }
@@ -56,6 +110,18 @@ public class ADAlgoParameters implements IADAlgoParameters {
         return printSolFiles;
     }
 
+    public boolean willPrintBinaryFrontier() {
+        return printBinaryFrontier;
+    }
+
+    public boolean willPrintSolutionDeltas() {
+        return printSolutionDeltas;
+    }
+
+    public boolean willPrintRunMetrics() {
+        return printRunMetrics;
+    }
+
     public boolean willHotStart() {
         return hotStart;
     }
@@ -64,6 +130,11 @@ public class ADAlgoParameters implements IADAlgoParameters {
         return hotStartModel;
     }
 
+    /**
+     * Sets the checkpoint (the Checkpoint.adck file in the output directory of an interrupted run) from which the
+     * next solve resumes, skipping the ideal solution construction and continuing the frontier from the points
+     * already found. The solve must be given the same model as the interrupted run.
+     */
     public void setHotStartModel(File hotStartModel) {
         this.hotStart = true;
         this.hotStartModel = hotStartModel;
@@ -88,4 +159,147 @@ public class ADAlgoParameters implements IADAlgoParameters {
     public IADSolverParameters getSolverParamsForIdealConstruction() {
         return this.solverParamsForIdealConstruction;
     }
+
+    /**
+     * Sets the number of independent CPLEX instances used to solve the single-objective problems
+     * of the ideal solution construction at the same time. A value of 1 solves them one after another.
+     */
+    public void setIdealConstructionInstances(int idealConstructionInstances) {
+        this.idealConstructionInstances = Math.max(1, idealConstructionInstances);
+    }
+
+    public int getIdealConstructionInstances() {
+        return idealConstructionInstances;
+    }
+
+    /**
+     * Sets the number of threads given to each instance during parallel ideal construction.
+     * A value of 0 splits the Threads parameter evenly across the instances.
+     */
+    public void setThreadsPerIdealInstance(int threadsPerIdealInstance) {
+        this.threadsPerIdealInstance = Math.max(0, threadsPerIdealInstance);
+    }
+
+    public int getThreadsPerIdealInstance() {
+        return threadsPerIdealInstance;
+    }
+
+    /**
+     * Sets the number of frontier boxes solved at the same time, each on its own copy of the model.
+     * A value of 1 generates the frontier sequentially, one point after another.
+     */
+    public void setFrontierWorkers(int frontierWorkers) {
+        this.frontierWorkers = Math.max(1, frontierWorkers);
+    }
+
+    public int getFrontierWorkers() {
+        return frontierWorkers;
+    }
+
+    /**
+     * Sets the number of threads given to each frontier worker.
+     * A value of 0 splits the Threads parameter evenly across the workers.
+     */
+    public void setThreadsPerFrontierWorker(int threadsPerFrontierWorker) {
+        this.threadsPerFrontierWorker = Math.max(0, threadsPerFrontierWorker);
+    }
+
+    public int getThreadsPerFrontierWorker() {
+        return threadsPerFrontierWorker;
+    }
+
+    /**
+     * Sets the rate, in normalized hypervolume per solver-second over the last few frontier points, below which
+     * frontier generation stops early. A value of 0 generates the whole frontier.
+     */
+    public void setMinHypervolumeGainRate(double minHypervolumeGainRate) {
+        this.minHypervolumeGainRate = Math.max(0, minHypervolumeGainRate);
+    }
+
+    public double getMinHypervolumeGainRate() {
+        return minHypervolumeGainRate;
+    }
+
+    /**
+     * Sets the least time, in seconds, between saves of the run's checkpoint (see ADCheckpoint), from which an
+     * interrupted run can be resumed with setHotStartModel. A value of 0 saves no checkpoint.
+     */
+    public void setCheckpointSeconds(double checkpointSeconds) {
+        this.checkpointSeconds = Math.max(0, checkpointSeconds);
+    }
+
+    public double getCheckpointSeconds() {
+        return checkpointSeconds;
+    }
+
+    /**
+     * Sets the solver time, in seconds, of the whole run, from which the time limit of each solve is set (see
+     * ADSolveBudgetScheduler). A value of 0 sets no budget: the frontier points then have no time limit of their own.
+     */
+    public void setSolveBudgetSeconds(double solveBudgetSeconds) {
+        this.solveBudgetSeconds = Math.max(0, solveBudgetSeconds);
+    }
+
+    public double getSolveBudgetSeconds() {
+        return solveBudgetSeconds;
+    }
+
+    /**
+     * Sets the largest relative gap to which a frontier point that can add little to the frontier is solved
+     * (see ADSolveBudgetScheduler). A value of 0 solves every point to the configured gap.
+     */
+    public void setMaxRelaxedGap(double maxRelaxedGap) {
+        this.maxRelaxedGap = Math.max(0, maxRelaxedGap);
+    }
+
+    public double getMaxRelaxedGap() {
+        return maxRelaxedGap;
+    }
+
+    /**
+     * Sets whether the ideal and nadir values of a model are kept in, and taken from, the payoff table cache of
+     * the output root (see ADPayoffTableCache). On by default.
+     */
+    public void setUsePayoffTableCache(boolean usePayoffTableCache) {
+        this.usePayoffTableCache = usePayoffTableCache;
+    }
+
+    public boolean willUsePayoffTableCache() {
+        return usePayoffTableCache;
+    }
+
+    /**
+     * Sets the directory of the payoff table cache, in place of the PayoffTableCache directory of the output root.
+     */
+    public void setPayoffTableCachePath(File payoffTableCachePath) {
+        this.payoffTableCachePath = payoffTableCachePath;
+    }
+
+    public File getPayoffTableCachePath() {
+        return payoffTableCachePath;
+    }
+
+    /**
+     * Sets how the nadir values are estimated once the ideal solution is constructed (see ADNadirEstimator).
+     * PAYOFF, which keeps the payoff table's values, by default.
+     */
+    public void setNadirEstimation(ADNadirEstimator.Mode nadirEstimation) {
+        this.nadirEstimation = nadirEstimation;
+    }
+
+    public ADNadirEstimator.Mode getNadirEstimation() {
+        return nadirEstimation;
+    }
+
+    /**
+     * Sets whether each frontier solve is first screened by its LP relaxation, and skipped if the relaxation
+     * shows that no point remains (see ADRelaxationPrescreen). On by default.
+     */
+    public void setRelaxationPrescreen(boolean relaxationPrescreen) {
+        this.relaxationPrescreen = relaxationPrescreen;
+    }
+
+    public boolean willPrescreenRelaxation() {
+        return relaxationPrescreen;
+    }
 }
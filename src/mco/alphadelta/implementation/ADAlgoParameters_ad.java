@@ -19,6 +19,11 @@ public class ADAlgoParameters_ad implements IADAlgoParameters{
         this.deltas = deltas;
     }
 
+    public void setDeltas(double[] deltas) {
+        this.deltas = new ArrayList<>();
+        for (double delta : deltas) this.deltas.add(delta);
+    }
+
     public double getAlpha_degrees(){
         return this.alpha_degrees;
     }
@@ -26,4 +31,12 @@ public class ADAlgoParameters_ad implements IADAlgoParameters{
     public ArrayList<Double> getDeltas() {
         return this.deltas;
     }
+
+    public int getNumDeltas() {
+        return this.deltas.size();
+    }
+
+    public double getDelta(int index) {
+        return this.deltas.get(index);
+    }
 }
@@ -0,0 +1,606 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADAlgoParameters;
+import mco.alphadelta.framework.IADFrontierWriter;
+import mco.alphadelta.framework.IADProgressListener;
+import mco.alphadelta.framework.IADReusableSolver;
+import mco.alphadelta.framework.IADSolverParameters;
+import mco.alphadelta.metrics.ADHypervolumeTracker;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Executes the alpha-delta algorithm independently of the solver library: the preparation of the model (with the
+ * payoff table cache and the nadir estimation), the frontier loop with its checkpoints, budget, relaxation
+ * pre-screen and progress reports, and the output. A backend supplies the primitives that depend on its solver:
+ * loading the model, the ideal solution construction, the solve of a frontier point, the indicator blocks, the
+ * relaxation bounds, and the removal of the frontier.
+ *
+ * @param <E> the exception the backend's solver library raises, which runPhase wraps in an ADAlgoSolverException
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public abstract class ADAlgoSolver<E extends Exception> implements IADReusableSolver {
+
+    protected File outputPath = null;
+    protected File outputRoot = null;
+    protected boolean outputPathSpecified = false;
+    protected String timeOutputPathSpecified = null;
+    protected ADAlgoParameters algoParameters = null;
+    protected ADObjectiveSpace objectiveSpace = null;
+    protected int numObjectives = -1;
+    protected double[][] idealSolutions = null;
+    protected ArrayList<double[]> frontierPoints = null;
+    protected int numIndicatorVars = 0;
+    protected double[] lastIncumbent = null;
+    protected ArrayList<IADProgressListener> progressListeners = new ArrayList<>();
+    protected ADRunMetrics runMetrics = null;
+    protected ADSolveBudgetScheduler budgetScheduler = null;
+    protected File preparedModelFile = null;
+    protected int numPreparedRows = 0;
+    protected int numPreparedColumns = 0;
+    protected boolean frontierGenerated = false;
+    protected boolean nadirsExact = false;
+
+    protected ADAlgoSolver() {
+        this.frontierPoints = new ArrayList<>();
+
+        this.outputPath = new File(System.getProperty("user.home"));
+        this.timeOutputPathSpecified = new SimpleDateFormat("yyyyMMdd_HHmmss")
+                .format(Calendar.getInstance().getTime());
+    }
+
+    @Override
+    public boolean setAlgoParameters(IADAlgoParameters algoParameters) {
+        this.algoParameters = (ADAlgoParameters) algoParameters;
+        return true;
+    }
+
+    @Override
+    public boolean setOutputPath(File outputPath) {
+        // create a subdirectory of outputPath to store output
+        // subdirectory's name is a timestamp to ensure uniqueness
+        timeOutputPathSpecified = new SimpleDateFormat("yyyyMMdd_HHmmss")
+                .format(Calendar.getInstance().getTime());
+
+        this.outputRoot = outputPath.getAbsoluteFile();
+
+        // create directory
+        File outDir = new File(outputPath.getAbsolutePath() + "/alphadelta_" + timeOutputPathSpecified);
+        outDir.mkdir();
+
+        // set that folder to our output folder
+        this.outputPath = outDir;
+        this.outputPathSpecified = true;
+        return true;
+    }
+
+    @Override
+    public void addProgressListener(IADProgressListener listener) {
+        this.progressListeners.add(listener);
+    }
+
+    @Override
+    public boolean solve(File mcoModel) throws ADAlgoSolverException, FileNotFoundException {
+        return runPhase(() -> {
+            prepareModel(mcoModel);
+            return generateFromPreparedModel();
+        }, mcoModel);
+    }
+
+    @Override
+    public boolean prepare(File mcoModel) throws ADAlgoSolverException, FileNotFoundException {
+        return runPhase(() -> {
+            prepareModel(mcoModel);
+            return true;
+        }, mcoModel);
+    }
+
+    /**
+     * Generates the frontier of the prepared model, with a budget of its own.
+     */
+    @Override
+    public boolean generate() throws ADAlgoSolverException, FileNotFoundException {
+        if (this.preparedModelFile == null) throw new ADAlgoSolverException("No model has been prepared");
+        return runPhase(() -> {
+            if (!this.frontierGenerated) createBudgetScheduler();
+            return generateFromPreparedModel();
+        }, this.preparedModelFile);
+    }
+
+    /**
+     * Removes the frontier constraints from the model (see removeFrontier), leaving it as it was after its ideal
+     * solution was constructed.
+     */
+    @Override
+    public void resetFrontier() throws ADAlgoSolverException {
+        removeFrontier();
+        this.numIndicatorVars = 0;
+        this.lastIncumbent = null;
+        this.frontierPoints = new ArrayList<>();
+        createBudgetScheduler();
+        this.frontierGenerated = false;
+    }
+
+    @Override
+    public File getPreparedModel() {
+        return this.preparedModelFile;
+    }
+
+    /**
+     * @return the objective values of the frontier points found by the last solve
+     */
+    public ArrayList<double[]> getFrontierPoints() {
+        return frontierPoints;
+    }
+
+    /**
+     * @return the parameters of the frontier solves, or null if none were set
+     */
+    protected abstract IADSolverParameters getSolverParameters();
+
+    /**
+     * @return the solver's own default relative gap
+     */
+    protected abstract double getDefaultGap();
+
+    /**
+     * Loads the model into the solver, records its objectives (see recordObjectives) and sets numPreparedRows and
+     * numPreparedColumns.
+     */
+    protected abstract void loadModel(File mcoModel) throws E, IOException, ADAlgoSolverException;
+
+    /**
+     * Finds the single-objective best of each objective, recording its ideal value and solution, and improves
+     * each solution in the other objectives, recording their nadir values.
+     *
+     * @return true if every solve succeeded
+     */
+    protected abstract boolean constructIdealSolution(File mcoModel) throws E, ADAlgoSolverException;
+
+    /**
+     * @return the directory the ideal solution construction writes its MIP start files to, which the payoff
+     * table cache keeps, or null if it writes none
+     */
+    protected abstract File getMIPStartDirectory();
+
+    /**
+     * Optimizes the objectives in the given order (see ADNadirEstimator.LexicographicSolver).
+     */
+    protected abstract double[] solveLexicographically(int[] order, double[] bounds);
+
+    /**
+     * Sets the frontier objective function, a maximization with the given coefficient for each objective.
+     */
+    protected abstract void setFrontierObjectiveFunction(double[] weights) throws E;
+
+    /**
+     * Adds the indicator variables and constraints that exclude the region dominated by each of the given points
+     * (less the deltas), incrementing numIndicatorVars.
+     */
+    protected abstract void addIndicatorBlocks(List<double[]> points) throws E;
+
+    /**
+     * Solves for the next frontier point over the model as it stands, and records the solve (in the run's metrics
+     * and against the budget). Before the first point (numIndicatorVars is 0) the solve is seeded with the
+     * principal objective's ideal solution; after it, the backend may seed it from lastIncumbent.
+     *
+     * @param lastPoint the objective values of the latest frontier point, whose indicator block is in the model
+     * @param timeLimit the time limit of the solve, or infinity for none
+     * @param gap       the relative gap of the solve
+     * @return the values of the model columns at the point, or null if none was found
+     */
+    protected abstract double[] solveFrontierPoint(int solutionIndex, double[] lastPoint, double timeLimit, double gap)
+            throws E;
+
+    /**
+     * Screens the solve of the next frontier point by the LP relaxation of the model as it stands, which is
+     * left as it was found.
+     *
+     * @param timeLimit the time limit of the point's solve, which the LP solves are also given
+     */
+    protected abstract ADRelaxationPrescreen.Outcome screenRelaxation(ADRelaxationPrescreen prescreen,
+                                                                      double[] lastPoint, double timeLimit) throws E;
+
+    /**
+     * Writes the solution of a frontier point to a solution file in the output directory.
+     */
+    protected abstract void writeFrontierSolution(int solutionIndex, double[] solution) throws E, IOException;
+
+    /**
+     * Removes the indicator variables and constraints of the frontier points, and any solver state the frontier
+     * left behind.
+     */
+    protected abstract void removeFrontier() throws ADAlgoSolverException;
+
+    /**
+     * @return the number of rows of the model as it stands
+     */
+    protected abstract int getNumRows() throws E;
+
+    /**
+     * @return the number of columns of the model as it stands
+     */
+    protected abstract int getNumColumns() throws E;
+
+    protected void createBudgetScheduler() {
+        this.budgetScheduler = new ADSolveBudgetScheduler(this.algoParameters.getSolveBudgetSeconds(),
+                getSolverParameters(), getDefaultGap(), this.algoParameters.getMaxRelaxedGap());
+    }
+
+    /**
+     * A step of the algorithm, run by runPhase.
+     */
+    protected interface AlgorithmPhase<E extends Exception> {
+        boolean run() throws E, IOException, ADAlgoSolverException;
+    }
+
+    /**
+     * Runs a step of the algorithm on the given model, recording its metrics.
+     */
+    protected boolean runPhase(AlgorithmPhase<E> phase, File mcoModel) throws ADAlgoSolverException, FileNotFoundException {
+
+        // set the output directory if it has not already been set
+        if (!outputPathSpecified) setOutputPath(this.outputPath);
+
+        this.runMetrics = new ADRunMetrics(this.algoParameters.willPrintRunMetrics() ? outputPath : null);
+        boolean success = false;
+        try {
+            success = phase.run();
+            return success;
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new ADAlgoSolverException("Could not write the frontier to " + outputPath, e);
+        } catch (ADAlgoSolverException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // the solver library's exception
+            throw new ADAlgoSolverException("The " + getType() + " solver failed while solving " + mcoModel, e);
+        } finally {
+            this.runMetrics.close(success);
+        }
+    }
+
+    /**
+     * Loads the model and constructs its ideal solution, or takes it from the payoff table cache, unless the run
+     * hot starts from a checkpoint, whose ideals are restored when the frontier is generated.
+     */
+    protected void prepareModel(File mcoModel) throws E, IOException, ADAlgoSolverException {
+        if (this.preparedModelFile != null)
+            throw new ADAlgoSolverException("A model has already been prepared: " + this.preparedModelFile);
+        long importStart = System.nanoTime();
+        this.preparedModelFile = mcoModel;
+
+        loadModel(mcoModel);
+        this.runMetrics.record(ADRunMetrics.IMPORT, mcoModel.getName(), importStart, 0, -1, Double.NaN,
+                this.numPreparedRows, this.numPreparedColumns);
+
+        createBudgetScheduler();
+        if (this.algoParameters.willHotStart()) return;
+
+        ADPayoffTableCache payoffTableCache = openPayoffTableCache(mcoModel);
+        double[][] cachedIdealSolutions = (payoffTableCache != null)
+                ? payoffTableCache.load(this.objectiveSpace, this.numPreparedColumns) : null;
+        if (cachedIdealSolutions != null) {
+            this.idealSolutions = cachedIdealSolutions;
+            if (getMIPStartDirectory() != null)
+                payoffTableCache.restoreMIPStarts(this.objectiveSpace, getMIPStartDirectory());
+            System.out.println("Ideal solution taken from the payoff table cache (" + payoffTableCache.getKey() + ")");
+            System.out.println("Ideals: " + Arrays.toString(objectiveSpace.getIdeals()));
+            System.out.println("Nadirs: " + Arrays.toString(objectiveSpace.getNadirs()));
+            // an entry is stored only if its nadir estimation completed
+            this.nadirsExact = ADNadirEstimator.isExact(this.algoParameters.getNadirEstimation(), numObjectives);
+            return;
+        }
+
+        boolean complete = constructIdealSolution(mcoModel);
+
+        // tighten the payoff table's nadir values if the parameters ask for it
+        complete = estimateNadirs() && complete;
+        if (complete && payoffTableCache != null)
+            payoffTableCache.store(this.objectiveSpace, this.numPreparedColumns, this.idealSolutions,
+                    getMIPStartDirectory());
+        this.nadirsExact = complete
+                && ADNadirEstimator.isExact(this.algoParameters.getNadirEstimation(), numObjectives);
+    }
+
+    /**
+     * Generates the frontier of the prepared model, after removing that of any previous generation.
+     */
+    protected boolean generateFromPreparedModel() throws E, IOException, ADAlgoSolverException {
+        if (this.frontierGenerated) resetFrontier();
+        this.frontierGenerated = true;
+
+        ADCheckpoint checkpoint;
+        if (this.algoParameters.willHotStart()) {
+            // a resumed run takes the ideals, nadirs, deltas and frontier points found so far from its checkpoint
+            checkpoint = resumeFromCheckpoint(this.algoParameters.getHotStartModel());
+        } else {
+            // assign the deltas, scaling them by the objectives' ranges if relative values were specified
+            this.objectiveSpace.setDeltas(this.algoParameters, this.algoParameters.areRelativeDeltas());
+            checkpoint = new ADCheckpoint(this.objectiveSpace, this.numPreparedColumns, this.idealSolutions);
+        }
+        checkpoint.setFile(new File(outputPath, ADCheckpoint.FILE_NAME), this.algoParameters.getCheckpointSeconds());
+        checkpoint.save();
+
+        // set objective function for frontier generation
+        setFrontierObjectiveFunction(getFrontierObjectiveWeights());
+
+        // generate frontier
+        return generateFrontier(checkpoint);
+    }
+
+    /**
+     * Reads the checkpoint of an interrupted run and restores the objective space and ideal solutions from it.
+     */
+    protected ADCheckpoint resumeFromCheckpoint(File checkpointFile) throws ADAlgoSolverException {
+        try {
+            ADCheckpoint checkpoint = ADCheckpoint.read(checkpointFile);
+            checkpoint.restoreObjectiveSpace(this.objectiveSpace, this.numPreparedColumns);
+            this.idealSolutions = checkpoint.getIdealSolutions();
+            System.out.println("Resuming from " + checkpointFile + " with " + checkpoint.getPoints().size() + " frontier points.");
+            System.out.println("Ideals: " + Arrays.toString(objectiveSpace.getIdeals()));
+            System.out.println("Nadirs: " + Arrays.toString(objectiveSpace.getNadirs()));
+            return checkpoint;
+        } catch (IOException e) {
+            throw new ADAlgoSolverException("Could not resume from checkpoint " + checkpointFile, e);
+        }
+    }
+
+    /**
+     * @return the payoff table cache entry of the model and the parameters of the ideal solution construction,
+     * or null if the cache is not used
+     */
+    protected ADPayoffTableCache openPayoffTableCache(File mcoModel) {
+        if (!this.algoParameters.willUsePayoffTableCache()) return null;
+        File cachePath = (this.algoParameters.getPayoffTableCachePath() != null)
+                ? this.algoParameters.getPayoffTableCachePath()
+                : new File(this.outputRoot, ADPayoffTableCache.DIRECTORY_NAME);
+        try {
+            return new ADPayoffTableCache(cachePath, mcoModel, getType(),
+                    this.budgetScheduler.getIdealTimeLimit(numObjectives), this.algoParameters.getNadirEstimation(),
+                    getSolverParameters(), this.algoParameters.getSolverParamsForIdealConstruction());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Records the objectives of the multi-criterion model (see ADObjectiveDiscovery).
+     */
+    protected void recordObjectives(ADObjectiveDiscovery discovery) {
+        // store each objective's column in the model and whether it is maximized
+        this.objectiveSpace = ADObjectiveSpace.fromDiscovery(discovery);
+
+        // for ease of access, save the number of objectives
+        this.numObjectives = this.objectiveSpace.getNumObjectives();
+        this.idealSolutions = new double[numObjectives][];
+    }
+
+    /**
+     * Estimates the nadir values with the mode of the algorithm parameters (see ADNadirEstimator).
+     *
+     * @return true if the estimation completed
+     */
+    protected boolean estimateNadirs() {
+        ADNadirEstimator.Mode mode = this.algoParameters.getNadirEstimation();
+        if (mode == ADNadirEstimator.Mode.PAYOFF) return true;
+        return new ADNadirEstimator(this.objectiveSpace, this::solveLexicographically, this.budgetScheduler)
+                .estimate(mode);
+    }
+
+    /**
+     * Returns the coefficient of each objective in the frontier objective function.
+     */
+    protected double[] getFrontierObjectiveWeights() {
+        // define objective function weights sans normalization by ideal values
+        double alphaRadians = Math.toRadians(this.algoParameters.getAlpha_degrees());
+        double otherWeightNonNorm = Math.tan(alphaRadians) / (1 + Math.tan(alphaRadians));
+        double mainWeightNonNorm = (1 - (numObjectives - 1) * otherWeightNonNorm);
+
+        // assign objective function weights (normalized by the largest value the objective takes)
+        double[] weights = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) {
+            // the first objective is different (greater weight (in absolute value at least))
+            double weightNonNorm = (i == 0) ? mainWeightNonNorm : otherWeightNonNorm;
+            double scale = objectiveSpace.isMaximize(i) ? objectiveSpace.getIdeal(i) : -objectiveSpace.getWorstCase(i);
+            weights[i] = weightNonNorm / ((scale == 0) ? 1 : scale);
+        }
+        return weights;
+    }
+
+    /**
+     * Generates the frontier one point at a time, each solve requiring the next point to improve on the latest by
+     * its delta in some non-principal objective.
+     */
+    protected boolean generateFrontier(ADCheckpoint checkpoint) throws E, IOException {
+        // objective values of the most recent frontier point.
+        // before the first point is found these are the worst case values
+        double[] lastPoint = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++)
+            lastPoint[i] = objectiveSpace.getWorstCase(i);
+
+        IADFrontierWriter frontierWriter = openFrontierWriter();
+        ADHypervolumeTracker hypervolumeTracker = createHypervolumeTracker();
+
+        // the points of a resumed run are written out again
+        int counterSolutionNum = 0;
+        ArrayList<double[]> restoredPoints = checkpoint.getPoints();
+        for (double[] point : restoredPoints) {
+            System.arraycopy(point, 0, lastPoint, 0, numObjectives);
+            this.frontierPoints.add(point.clone());
+            printFrontierPoint(frontierWriter, counterSolutionNum++, point, null);
+            hypervolumeTracker.add(point, 0);
+        }
+        if (!restoredPoints.isEmpty()) {
+            // rebuild the indicator constraints of every point found so far together; the next solve may be
+            // seeded with the latest incumbent
+            addIndicatorBlocks(restoredPoints);
+            this.lastIncumbent = checkpoint.getLastIncumbent();
+        }
+
+        ADRelaxationPrescreen prescreen = this.algoParameters.willPrescreenRelaxation()
+                ? new ADRelaxationPrescreen(objectiveSpace) : null;
+
+        boolean go = frontierCanContinue(lastPoint);
+        while (go) {
+            if (this.budgetScheduler.isExhausted()) {
+                System.out.println("The solve budget of " + this.budgetScheduler.getBudgetSeconds()
+                        + " seconds is spent. Frontier generation stopped.");
+                break;
+            }
+            int remainingPoints = ADSolveBudgetScheduler.estimateRemainingPoints(objectiveSpace, counterSolutionNum);
+            double timeLimit = this.budgetScheduler.getPointTimeLimit(remainingPoints);
+            double gap = this.budgetScheduler.getPointGap();
+
+            // the block of the latest point may leave no room for another, which the relaxation often shows
+            if (prescreen != null && counterSolutionNum > 0
+                    && skipByRelaxation(prescreen, lastPoint, counterSolutionNum, timeLimit)) break;
+
+            // the model is edited in place between iterations, so it can be solved as it stands
+            long solveStart = System.nanoTime();
+            double[] solution = solveFrontierPoint(counterSolutionNum, lastPoint, timeLimit, gap);
+            double solverSeconds = (System.nanoTime() - solveStart) / 1e9;
+            if (solution == null) {
+                System.out.println("Solver could not optimize after frontier point " + (counterSolutionNum - 1) + ". Algorithm terminated.");
+                break;
+            }
+            System.out.println("New solution found on efficient frontier.");
+
+            if (this.algoParameters.willPrintSolFiles())
+                writeFrontierSolution(counterSolutionNum, solution);
+
+            // record the objective values of the new point
+            this.lastIncumbent = solution;
+            for (int i = 0; i < numObjectives; i++)
+                lastPoint[i] = solution[objectiveSpace.getColumn(i)];
+            this.frontierPoints.add(lastPoint.clone());
+
+            printFrontierPoint(frontierWriter, counterSolutionNum, lastPoint, solution);
+            boolean worthContinuing = reportProgress(hypervolumeTracker, counterSolutionNum, lastPoint, solverSeconds);
+
+            // require the next point to improve on this one in at least one non-principal objective
+            addIndicatorBlock(lastPoint);
+
+            checkpoint.addPoint(lastPoint);
+            checkpoint.setLastIncumbent(solution);
+            checkpoint.saveIfDue();
+
+            counterSolutionNum++;
+            go = worthContinuing && frontierCanContinue(lastPoint);
+            if (go && this.nadirsExact && ADNadirEstimator.endsFrontier(objectiveSpace, lastPoint)) {
+                System.out.println("Frontier point " + (counterSolutionNum - 1) + " reached the nadir value of "
+                        + objectiveSpace.getName(0) + ". Frontier generation stopped.");
+                go = false;
+            }
+        }
+
+        if (prescreen != null) System.out.println(prescreen.summary());
+        checkpoint.save();
+        frontierWriter.close();
+        return counterSolutionNum > 0;
+    }
+
+    /**
+     * Screens the solve of the next frontier point by the LP relaxation of the model (see ADRelaxationPrescreen),
+     * recording the screen in the run's metrics and against the budget.
+     *
+     * @param timeLimit the time limit of the solve, which each LP is also given
+     * @return true if no point remains, so the solve can be skipped
+     */
+    protected boolean skipByRelaxation(ADRelaxationPrescreen prescreen, double[] lastPoint, int solutionIndex,
+                                       double timeLimit) throws E {
+        long phaseStart = System.nanoTime();
+        double secondsBefore = prescreen.getLPSeconds();
+        ADRelaxationPrescreen.Outcome outcome = screenRelaxation(prescreen, lastPoint, timeLimit);
+        double lpSeconds = prescreen.getLPSeconds() - secondsBefore;
+        this.budgetScheduler.recordSolve(lpSeconds);
+        this.runMetrics.record(ADRunMetrics.PRESCREEN, solutionIndex + ":" + outcome.name().toLowerCase(), phaseStart,
+                lpSeconds, 0, Double.NaN, getNumRows(), getNumColumns());
+        if (!outcome.skipsSolve()) return false;
+        System.out.println("The LP relaxation after frontier point " + (solutionIndex - 1) + " is "
+                + ((outcome == ADRelaxationPrescreen.Outcome.INFEASIBLE) ? "infeasible" : "bound-dominated")
+                + ". Algorithm terminated.");
+        return true;
+    }
+
+    /**
+     * Adds the indicator block of a single point (see addIndicatorBlocks).
+     */
+    protected void addIndicatorBlock(double[] point) throws E {
+        addIndicatorBlocks(Collections.singletonList(point));
+    }
+
+    /**
+     * Determines whether the non-principal objectives can each still improve by their deltas
+     * without passing their ideal values.
+     */
+    protected boolean frontierCanContinue(double[] point) {
+        for (int i = 1; i < numObjectives; i++)
+            if (!objectiveSpace.isBetter(i, objectiveSpace.getIdeal(i), objectiveSpace.improvedByDelta(i, point[i])))
+                return false;
+        return true;
+    }
+
+    protected ADHypervolumeTracker createHypervolumeTracker() {
+        double[] worstCases = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) worstCases[i] = objectiveSpace.getWorstCase(i);
+        return new ADHypervolumeTracker(objectiveSpace.getMaximize(), worstCases, objectiveSpace.getIdeals());
+    }
+
+    /**
+     * Adds the point to the frontier's hypervolume and notifies the progress listeners.
+     *
+     * @return false if the frontier is gaining hypervolume too slowly to be worth continuing
+     */
+    protected boolean reportProgress(ADHypervolumeTracker tracker, int solutionIndex, double[] point, double solverSeconds) {
+        double gain = tracker.add(point, solverSeconds);
+        this.budgetScheduler.recordPoint(solverSeconds, gain);
+        System.out.println("Hypervolume: " + tracker.getHypervolume() + " (+" + gain + ")");
+        for (IADProgressListener listener : progressListeners)
+            listener.frontierPointFound(solutionIndex, point, tracker.getHypervolume(), gain, solverSeconds);
+
+        double minGainRate = this.algoParameters.getMinHypervolumeGainRate();
+        if (minGainRate > 0 && tracker.getGainRate() < minGainRate) {
+            System.out.println("Hypervolume gain of " + tracker.getGainRate() + " per solver-second is below "
+                    + minGainRate + ". Frontier generation stopped.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the frontier output files requested by the algorithm parameters.
+     */
+    protected IADFrontierWriter openFrontierWriter() throws IOException {
+        IADFrontierWriter frontierWriter = ADFrontierWriterSet.forParameters(this.algoParameters, outputPath);
+        frontierWriter.open(objectiveSpace.getNames());
+        return frontierWriter;
+    }
+
+    /**
+     * Echoes the point to the console and hands it to the frontier writer, which writes it in the background.
+     */
+    protected void printFrontierPoint(IADFrontierWriter frontierWriter, int solutionIndex, double[] point, double[] solution) {
+        StringBuilder printThisLine = new StringBuilder(Integer.toString(solutionIndex));
+        for (double objVal : point) printThisLine.append(", ").append(objVal);
+        System.out.println(printThisLine);
+        try {
+            frontierWriter.writePoint(solutionIndex, point, solution);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
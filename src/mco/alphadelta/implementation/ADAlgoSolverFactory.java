@@ -0,0 +1,49 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADAlgoSolver;
+import mco.alphadelta.framework.IADSolverParameters;
+
+/**
+ * Creates solvers and their parameter sets by solver type ("cplex" or "java"). The CPLEX solver is created
+ * reflectively, so that callers load and run the Java solver without CPLEX on the class path.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADAlgoSolverFactory {
+
+    private ADAlgoSolverFactory() {
+    }
+
+    public static IADAlgoSolver newSolver(String solverType) throws ADAlgoSolverException {
+        String className;
+        if (solverType.equalsIgnoreCase("cplex")) className = "mco.alphadelta.implementation.ADAlgoSolver_CPLEX";
+        else if (solverType.equalsIgnoreCase("java")) className = "mco.alphadelta.implementation.ADAlgoSolver_Java";
+        else throw new ADAlgoSolverException("Solver type not recognized: " + solverType);
+        try {
+            return (IADAlgoSolver) Class.forName(className).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+            throw new ADAlgoSolverException("Could not create the " + solverType + " solver", cause);
+        }
+    }
+
+    public static IADSolverParameters newSolverParameters(String solverType) {
+        if (solverType.equalsIgnoreCase("java")) return new ADSolverJavaParameters();
+        return new ADSolverCPLEXParameters();
+    }
+
+    /**
+     * @return true if the CPLEX library can be loaded
+     */
+    public static boolean isCPLEXAvailable() {
+        try {
+            Class.forName("ilog.cplex.IloCplex");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
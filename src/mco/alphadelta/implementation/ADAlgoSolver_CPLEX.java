@@ -2,53 +2,40 @@ package mco.alphadelta.implementation;
 
 import ilog.concert.*;
 import ilog.cplex.IloCplex;
-import mco.alphadelta.framework.IADAlgoParameters;
-import mco.alphadelta.framework.IADAlgoSolver;
+import ilog.cplex.IloCplex.BooleanParam;
+import ilog.cplex.IloCplex.DoubleParam;
+import ilog.cplex.IloCplex.IntParam;
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADFrontierWriter;
 import mco.alphadelta.framework.IADSolverParameters;
+import mco.alphadelta.metrics.ADHypervolumeTracker;
 
 import java.io.File;
-import java.text.SimpleDateFormat;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
 
 /**
  * Created by Nick on 4/22/2016.
  */
-public class ADAlgoSolver_CPLEX extends ilog.cplex.IloCplex implements IADAlgoSolver {
+public class ADAlgoSolver_CPLEX extends ADAlgoSolver<IloException> {
 
     private IloCplex cplex = null;
-    private File originalModelFile = null;
-    private File lastModelFile = null;
-    private File outputPath = null;
-    private boolean outputPathSpecified = false;
-    private String timeOutputPathSpecified = null;
-    private ADAlgoParameters algoParameters = null;
     private ADSolverCPLEXParameters cplexParameters = null;
-    private ArrayList<String> objectives = null;
-    private int numObjectives = -1;
-    private Map<String, Integer> objectiveSenses = null;
-    private Map<String, Integer> objectiveColumns = null;
-    private Map<String, Double> objectiveIdeals = null;
-    private Map<String, Double> objectiveNadirs = null;
     private IloLPMatrix baseLPMatrix = null;
+    private ArrayList<ADCPLEXInstance> idealInstances = null;
+    private ADLinearModel parsedModel = null;
+
+    // CPLEX's default relative gap, and its largest time limit (which stands for none)
+    private static final double CPLEX_DEFAULT_GAP = 1e-4;
+    private static final double CPLEX_NO_TIME_LIMIT = 1e75;
 
     public ADAlgoSolver_CPLEX() throws IloException {
 
         this.cplex = new IloCplex();
-
-        this.objectives = new ArrayList<>();
-        this.objectiveSenses = new HashMap<>();
-        this.objectiveColumns = new HashMap<>();
-        this.objectiveIdeals = new HashMap<>();
-        this.objectiveNadirs = new HashMap<>();
-
-        this.outputPath = new File(System.getProperty("user.home"));
-        this.timeOutputPathSpecified = new SimpleDateFormat("yyyyMMdd_HHmmss")
-                .format(Calendar.getInstance().getTime());
     }
 
     @Override
@@ -63,7 +50,7 @@ public class ADAlgoSolver_CPLEX extends ilog.cplex.IloCplex implements IADAlgoSo
         return true;
     }
 
-    private void assignSolverParameters(IloCplex cplex, ADSolverCPLEXParameters cplexParameters) {
+    static void assignSolverParameters(IloCplex cplex, ADSolverCPLEXParameters cplexParameters) {
 
         try {
             // clear any existing parameters
@@ -71,58 +58,28 @@ public class ADAlgoSolver_CPLEX extends ilog.cplex.IloCplex implements IADAlgoSo
 
             // assign new ones
             for (String paramName : cplexParameters.getParamSet()) {
-                switch (paramName.toLowerCase()) {
+                String canonicalName = ADSolverCPLEXParameters.canonicalName(paramName);
+                String value = cplexParameters.getParam(paramName);
+                if (canonicalName == null) {
+                    System.out.println("Unrecognized CPLEX parameter: " + paramName);
+                    System.out.println("No value set for this parameter.");
+                    continue;
+                }
+                switch (canonicalName) {
                     case "threads":
-                        cplex.setParam(IntParam.Threads, Integer.parseInt(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "numthreads":
-                        cplex.setParam(IntParam.Threads, Integer.parseInt(this.cplexParameters.getParam(paramName)));
+                        cplex.setParam(IntParam.Threads, Integer.parseInt(value));
                         break;
                     case "epgap":
-                        cplex.setParam(DoubleParam.EpGap, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "optgap":
-                        cplex.setParam(DoubleParam.EpGap, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "optimalitygap":
-                        cplex.setParam(DoubleParam.EpGap, Double.parseDouble(this.cplexParameters.getParam(paramName)));
+                        cplex.setParam(DoubleParam.EpGap, Double.parseDouble(value));
                         break;
                     case "workmem":
-                        cplex.setParam(DoubleParam.WorkMem, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "workingmem":
-                        cplex.setParam(DoubleParam.WorkMem, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "workingmemory":
-                        cplex.setParam(DoubleParam.WorkMem, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "memory":
-                        cplex.setParam(DoubleParam.WorkMem, Double.parseDouble(this.cplexParameters.getParam(paramName)));
+                        cplex.setParam(DoubleParam.WorkMem, Double.parseDouble(value));
                         break;
                     case "epint":
-                        cplex.setParam(DoubleParam.EpInt, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "integrality":
-                        cplex.setParam(DoubleParam.EpInt, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "intgap":
-                        cplex.setParam(DoubleParam.EpInt, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "integralitygap":
-                        cplex.setParam(DoubleParam.EpInt, Double.parseDouble(this.cplexParameters.getParam(paramName)));
+                        cplex.setParam(DoubleParam.EpInt, Double.parseDouble(value));
                         break;
                     case "tilim":
-                        cplex.setParam(DoubleParam.TiLim, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "time":
-                        cplex.setParam(DoubleParam.TiLim, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    case "timelimit":
-                        cplex.setParam(DoubleParam.TiLim, Double.parseDouble(this.cplexParameters.getParam(paramName)));
-                        break;
-                    default:
-                        System.out.println("Unrecognized CPLEX parameter: " + paramName);
-                        System.out.println("No value set for this parameter.");
+                        cplex.setParam(DoubleParam.TiLim, Double.parseDouble(value));
                         break;
                 }
             }
@@ -131,283 +88,844 @@ public class ADAlgoSolver_CPLEX extends ilog.cplex.IloCplex implements IADAlgoSo
         }
     }
 
-
     @Override
-    public boolean setAlgoParameters(IADAlgoParameters algoParameters) {
-        this.algoParameters = (ADAlgoParameters) algoParameters;
-        return true;
+    public String getType() {
+        return "cplex";
     }
 
+    /**
+     * Removes the indicator variables and constraints of the frontier points from the LP matrix, along with
+     * the MIP starts.
+     */
     @Override
-    public boolean setOutputPath(File outputPath) {
-        // create a subdirectory of outputPath to store output
-        // subdirectory's name is a timestamp to ensure uniqueness
-        timeOutputPathSpecified = new SimpleDateFormat("yyyyMMdd_HHmmss")
-                .format(Calendar.getInstance().getTime());
-
-        // create directory
-        File outDir = new File(outputPath.getAbsolutePath() + "/alphadelta_" + timeOutputPathSpecified);
-        outDir.mkdir();
-
-        // set that folder to our output folder
-        this.outputPath = outDir;
-        this.outputPathSpecified = true;
-        return true;
+    protected void removeFrontier() throws ADAlgoSolverException {
+        try {
+            if (this.baseLPMatrix != null) {
+                int numFrontierRows = this.baseLPMatrix.getNrows() - this.numPreparedRows;
+                if (numFrontierRows > 0) this.baseLPMatrix.removeRows(this.numPreparedRows, numFrontierRows);
+                int numFrontierColumns = this.baseLPMatrix.getNcols() - this.numPreparedColumns;
+                if (numFrontierColumns > 0) this.baseLPMatrix.removeCols(this.numPreparedColumns, numFrontierColumns);
+            }
+            if (cplex.getNMIPStarts() > 0)
+                cplex.deleteMIPStarts(0, cplex.getNMIPStarts());
+        } catch (IloException e) {
+            throw new ADAlgoSolverException("CPLEX could not remove the frontier constraints", e);
+        }
     }
 
     @Override
-    public String getType() {
-        return "cplex";
+    public void end() {
+        this.cplex.end();
     }
 
     @Override
-    public boolean solve(File mcoModel) throws IloException {
-
-        // set the output directory if it has not already been set
-        if (!outputPathSpecified) setOutputPath(this.outputPath);
-
+    protected IADSolverParameters getSolverParameters() {
+        return this.cplexParameters;
+    }
 
-        // the below procedure will need to be altered in the event of a hot start
+    @Override
+    protected double getDefaultGap() {
+        return CPLEX_DEFAULT_GAP;
+    }
 
-        this.originalModelFile = mcoModel;
-        this.lastModelFile = mcoModel;
+    @Override
+    protected int getNumRows() throws IloException {
+        return this.baseLPMatrix.getNrows();
+    }
 
-        cplex.importModel(mcoModel.getAbsolutePath());
+    @Override
+    protected int getNumColumns() throws IloException {
+        return this.baseLPMatrix.getNcols();
+    }
 
-        // store the LP matrix
-        this.baseLPMatrix = (IloLPMatrix) cplex.LPMatrixIterator().next();
+    /**
+     * Reads the model ourselves and loads it into CPLEX, or lets CPLEX import it if the reader cannot handle it.
+     */
+    @Override
+    protected void loadModel(File mcoModel) throws IloException, FileNotFoundException {
+        this.parsedModel = readModel(mcoModel);
+        if (this.parsedModel != null) {
+            this.baseLPMatrix = ADCPLEXInstance.loadModel(cplex, this.parsedModel);
+        } else {
+            cplex.importModel(mcoModel.getAbsolutePath());
+            this.baseLPMatrix = (IloLPMatrix) cplex.LPMatrixIterator().next();
+        }
+        this.numPreparedRows = this.baseLPMatrix.getNrows();
+        this.numPreparedColumns = this.baseLPMatrix.getNcols();
 
         // record the objectives and their senses (max or min)
         getObjsAndSenses(cplex.getObjective());
+    }
 
+    @Override
+    protected boolean constructIdealSolution(File mcoModel) throws ADAlgoSolverException {
         // solve for single-objective bests
-        for (String objective : this.objectives)
-            getSingleObjectiveBest(cplex, objective);
+        this.idealInstances = new ArrayList<>();
+        this.idealInstances.add(new ADCPLEXInstance(this.cplex, this.baseLPMatrix));
+        try {
+            if (this.algoParameters.getIdealConstructionInstances() > 1)
+                createIdealInstances(mcoModel);
+            ArrayList<double[]> singleObjectiveBests = solveForEachObjective(this::getSingleObjectiveBest);
+            for (int i = 0; i < numObjectives; i++)
+                recordSingleObjectiveBest(i, singleObjectiveBests.get(i));
+
+            // improve other objs single-objective bests (reqs all three bests to be known so that proper obj fn weights may be used)
+            boolean allImproved = improveSecondaryVarsInIdealSolution();
+            return allImproved && !singleObjectiveBests.contains(null);
+        } finally {
+            // the additional copies of the model are not needed for frontier generation
+            for (int i = 1; i < this.idealInstances.size(); i++)
+                this.idealInstances.get(i).end();
+        }
+    }
 
-        // improve other objs single-objective bests (reqs all three bests to be known so that proper obj fn weights may be used)
-        improveSecondaryVarsInIdealSolution(cplex, objectiveIdeals);
+    /**
+     * @return the output directory, which holds the MIP start files of the single-objective bests
+     */
+    @Override
+    protected File getMIPStartDirectory() {
+        return this.outputPath;
+    }
+
+    @Override
+    protected void setFrontierObjectiveFunction(double[] weights) throws IloException {
+        IloLinearNumExpr frontierObj = cplex.linearNumExpr();
+        for (int i = 0; i < numObjectives; i++)
+            frontierObj.addTerm(weights[i], this.baseLPMatrix.getNumVar(objectiveSpace.getColumn(i)));
+        // remove previous objective function
+        cplex.remove(cplex.getObjective());
+        // reassign the new one
+        cplex.add(cplex.objective(IloObjectiveSense.Maximize, frontierObj, "objective"));
+
+        System.out.println("Objective function used to generate efficient frontier:");
+        System.out.println(frontierObj);
+    }
 
-        // adjust detlas if relative values were specified
-        if (this.algoParameters.areRelativeDeltas())
-            this.algoParameters.setDeltas(getRelativeDeltaValues());
+    /**
+     * Generates the frontier one point at a time (see ADAlgoSolver.generateFrontier), or with the
+     * box-decomposition engine if several frontier workers are configured.
+     */
+    @Override
+    protected boolean generateFrontier(ADCheckpoint checkpoint) throws IloException, IOException {
+        if (this.algoParameters.getFrontierWorkers() > 1)
+            return generateFrontierInParallel(this.preparedModelFile, checkpoint);
+        return super.generateFrontier(checkpoint);
+    }
 
-        // set objective function for frontier generation
-        // setFrontierObjectiveFunction();
+    /**
+     * Solves the model as it stands within the given time limit and gap. The first point is seeded with the
+     * (improved) ideal solution of the principal objective, and each later point with the latest incumbent
+     * (see addFrontierMIPStart), after the pre-screen, whose conversion of the columns would discard it.
+     */
+    @Override
+    protected double[] solveFrontierPoint(int solutionIndex, double[] lastPoint, double timeLimit, double gap)
+            throws IloException {
+        cplex.setParam(DoubleParam.TiLim, Math.min(CPLEX_NO_TIME_LIMIT, timeLimit));
+        cplex.setParam(DoubleParam.EpGap, gap);
+        if (numIndicatorVars == 0) {
+            if (this.idealSolutions[0] != null)
+                setMIPStart(this.idealSolutions[0], IloCplex.MIPStartEffort.CheckFeas);
+        } else if (this.lastIncumbent != null) {
+            addFrontierMIPStart(lastPoint);
+        }
 
-        // generate frontier
-        // boolean newPointFound = true;
-        // while (newPointFound){
-        // findNextFrontierPoint();
-        //}
+        long solveStart = System.nanoTime();
+        boolean solved = cplex.solve();
+        recordSolve(ADRunMetrics.FRONTIER_POINT, Integer.toString(solutionIndex), solveStart,
+                (System.nanoTime() - solveStart) / 1e9, this.cplex, solved);
+        return solved ? cplex.getValues(this.baseLPMatrix) : null;
+    }
 
-        //return cplex.solve();
-        return false;
+    @Override
+    protected void writeFrontierSolution(int solutionIndex, double[] solution) throws IloException {
+        cplex.writeSolution(outputPath.toString() + "/Soln_FrontierPoint_" + solutionIndex + ".sol");
     }
 
-    private ArrayList<Double> getRelativeDeltaValues() {
-        ArrayList<Double> result = new ArrayList<>();
+    /**
+     * Screens the next solve by the LP relaxation of the model (see ADRelaxationPrescreen), solved with a
+     * conversion of every column to a continuous one. The conversion is removed and the frontier's objective
+     * function restored afterwards.
+     */
+    @Override
+    protected ADRelaxationPrescreen.Outcome screenRelaxation(ADRelaxationPrescreen prescreen, double[] lastPoint,
+                                                             double timeLimit) throws IloException {
+        cplex.setParam(DoubleParam.TiLim, Math.min(CPLEX_NO_TIME_LIMIT, timeLimit));
+        IloObjective frontierObjective = cplex.getObjective();
+        IloConversion relaxation = cplex.conversion(this.baseLPMatrix.getNumVars(), IloNumVarType.Float);
+        cplex.add(relaxation);
+        try {
+            return prescreen.screen(lastPoint, this::relaxationBound);
+        } finally {
+            cplex.remove(relaxation);
+            IloObjective boundObjective = cplex.getObjective();
+            if (boundObjective != frontierObjective) {
+                if (boundObjective != null) cplex.remove(boundObjective);
+                cplex.add(frontierObjective);
+            }
+        }
+    }
 
-        // for each objective, set its delta value
-        // to: abs(range of values for that obj)*current delta value (which is a relative delta)
+    /**
+     * Optimizes the objective alone over the model as it stands, which skipByRelaxation has relaxed.
+     *
+     * @return the optimum (see ADRelaxationPrescreen.RelaxationSolver)
+     */
+    private double relaxationBound(int objective) {
+        boolean maximize = objectiveSpace.isMaximize(objective);
+        try {
+            IloLinearNumExpr objectiveExpr = cplex.linearNumExpr();
+            objectiveExpr.addTerm(1, this.baseLPMatrix.getNumVar(objectiveSpace.getColumn(objective)));
+            cplex.remove(cplex.getObjective());
+            cplex.add(cplex.objective(maximize ? IloObjectiveSense.Maximize : IloObjectiveSense.Minimize,
+                    objectiveExpr, "relaxationBound"));
+            if (solveRelaxation(cplex) && cplex.getStatus() == IloCplex.Status.Optimal) return cplex.getObjValue();
+            if (cplex.getStatus() == IloCplex.Status.Infeasible) return Double.NaN;
+        } catch (IloException e) {
+            e.printStackTrace();
+        }
+        return maximize ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+    }
 
-        return result;
+    /**
+     * Solves a relaxation. Presolve may report only that the relaxation is infeasible or unbounded; it is then
+     * solved again without presolve to tell the two apart, since only an infeasible relaxation lets a solve be
+     * skipped. The presolve setting is restored afterwards.
+     *
+     * @return whether the solve found a solution; the status tells an infeasible relaxation from the others
+     */
+    static boolean solveRelaxation(IloCplex cplex) throws IloException {
+        boolean solved = cplex.solve();
+        if (cplex.getStatus() != IloCplex.Status.InfeasibleOrUnbounded) return solved;
+        boolean presolve = cplex.getParam(BooleanParam.PreInd);
+        cplex.setParam(BooleanParam.PreInd, false);
+        try {
+            return cplex.solve();
+        } finally {
+            cplex.setParam(BooleanParam.PreInd, presolve);
+        }
     }
 
-    private boolean improveSecondaryVarsInIdealSolution(IloCplex cplex, Map<String, Double> objectiveIdeals) {
+    /**
+     * Reads the model with the native LP/MPS readers.
+     *
+     * @return the parsed model, or null if the model uses a feature the readers do not support
+     */
+    private ADLinearModel readModel(File mcoModel) throws FileNotFoundException {
+        try {
+            return ADModelReader.read(mcoModel);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (ADModelFormatException e) {
+            System.out.println("Model could not be read natively (" + e.getMessage() + "); importing it with CPLEX.");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
 
-        // temporarily reset the solver parameters to those specific to the construction of the ideal solution
-        if (this.algoParameters != null && this.algoParameters.getSolverParamsForIdealConstruction() != null)
-            assignSolverParameters(this.cplex,
-                    (ADSolverCPLEXParameters) this.algoParameters.getSolverParamsForIdealConstruction());
+    /**
+     * Generates the frontier with the box-decomposition engine, solving several boxes at once.
+     */
+    private boolean generateFrontierInParallel(File mcoModel, ADCheckpoint checkpoint) throws IloException, IOException {
+        ADFrontierBoxEngine_CPLEX engine = new ADFrontierBoxEngine_CPLEX(mcoModel, objectiveSpace.getColumns(),
+                objectiveSpace.getMaximize(), getFrontierObjectiveWeights(), objectiveSpace.getIdeals(), objectiveSpace.getDeltas());
+        int numWorkers = this.algoParameters.getFrontierWorkers();
+        engine.setWorkers(numWorkers, getThreadsPerInstance(numWorkers, this.algoParameters.getThreadsPerFrontierWorker()));
+        engine.setSolverParameters(this.cplexParameters);
+        engine.setParsedModel(this.parsedModel);
+        engine.setBudgetScheduler(this.budgetScheduler);
+        ADRelaxationPrescreen prescreen = this.algoParameters.willPrescreenRelaxation()
+                ? new ADRelaxationPrescreen(objectiveSpace) : null;
+        engine.setRelaxationPrescreen(prescreen);
+        if (this.algoParameters.willPrintSolFiles()) engine.setSolFileDirectory(outputPath);
+
+        IADFrontierWriter frontierWriter = openFrontierWriter();
+        ADHypervolumeTracker hypervolumeTracker = createHypervolumeTracker();
+
+        // the points of a resumed run are written out again, and the engine passes over the boxes they settled.
+        // A checkpoint of a sequential run has no boxes, so its points only keep the engine from reporting them again
+        for (double[] point : checkpoint.getPoints()) {
+            int solutionIndex = this.frontierPoints.size();
+            this.frontierPoints.add(point.clone());
+            printFrontierPoint(frontierWriter, solutionIndex, point, null);
+            hypervolumeTracker.add(point, 0);
+        }
+        ArrayList<double[][]> archiveEntries = checkpoint.getArchiveEntries();
+        if (archiveEntries.isEmpty()) {
+            for (double[] point : checkpoint.getPoints()) {
+                double[] oriented = new double[numObjectives];
+                for (int i = 0; i < numObjectives; i++) oriented[i] = objectiveSpace.isMaximize(i) ? point[i] : -point[i];
+                archiveEntries.add(new double[][]{oriented, oriented, oriented});
+            }
+        }
+        engine.restoreArchive(archiveEntries);
+
+        // the engine reports the solver time of every box solved since the previous point, but not their statistics
+        long[] previousPointNanos = {System.nanoTime()};
+        engine.generateFrontier((point, solution, solverSeconds) -> {
+            int solutionIndex = this.frontierPoints.size();
+            this.runMetrics.record(ADRunMetrics.FRONTIER_POINT, Integer.toString(solutionIndex), previousPointNanos[0],
+                    solverSeconds, -1, Double.NaN, -1, -1);
+            previousPointNanos[0] = System.nanoTime();
+            this.frontierPoints.add(point);
+            System.out.println("New solution found on efficient frontier.");
+            printFrontierPoint(frontierWriter, solutionIndex, point, solution);
+            boolean worthContinuing = reportProgress(hypervolumeTracker, solutionIndex, point, solverSeconds);
+
+            checkpoint.addPoint(point);
+            if (checkpoint.isDue()) {
+                checkpoint.setArchiveEntries(engine.getArchive().getEntries());
+                checkpoint.save();
+            }
+            return worthContinuing;
+        });
+        if (prescreen != null) System.out.println(prescreen.summary());
+        checkpoint.setArchiveEntries(engine.getArchive().getEntries());
+        checkpoint.save();
+        frontierWriter.close();
+
+        return !this.frontierPoints.isEmpty();
+    }
 
-        // iterate over objectives, improving each's ideal solution as we go
-        for (String objective : objectiveIdeals.keySet()) {
+    /**
+     * Adds the indicator blocks of several points with a single call each for their columns and their rows,
+     * as when the frontier of a resumed run is rebuilt. The columns and rows are appended to the live LP matrix,
+     * so the model never needs to be exported and re-imported between frontier points.
+     */
+    @Override
+    protected void addIndicatorBlocks(List<double[]> points) throws IloException {
+        int numIndicators = numObjectives - 1;
+        int numBlocks = points.size();
+
+        // create the new indicator variables, one per non-principal objective of each point
+        IloNumVar[] indicators = new IloNumVar[numBlocks * numIndicators];
+        for (int k = 0; k < indicators.length; k++)
+            indicators[k] = cplex.boolVar("y_" + (numIndicatorVars + k));
+        int firstNewColumn = this.baseLPMatrix.addCols(indicators);
+        numIndicatorVars += indicators.length;
+
+        double[] lb = new double[numBlocks * numObjectives];
+        double[] ub = new double[numBlocks * numObjectives];
+        int[][] ind = new int[numBlocks * numObjectives][];
+        double[][] val = new double[numBlocks * numObjectives][];
+
+        for (int b = 0; b < numBlocks; b++) {
+            double[] point = points.get(b);
+            int firstIndicatorColumn = firstNewColumn + b * numIndicators;
+            int sumRow = b * numObjectives;
+
+            // the constraint specifying that the new indicator variables must have sum equal to 1
+            lb[sumRow] = 1;
+            ub[sumRow] = 1;
+            ind[sumRow] = new int[numIndicators];
+            val[sumRow] = new double[numIndicators];
+            for (int j = 0; j < numIndicators; j++) {
+                ind[sumRow][j] = firstIndicatorColumn + j;
+                val[sumRow][j] = 1;
+            }
 
-            try {
-                // TODO remove temp time limit and opt gap
-                cplex.setParam(DoubleParam.TiLim, 300);
-                cplex.setParam(DoubleParam.EpGap, .05);
-
-                // construct objective function with a term for each of the other objectives
-                IloLinearNumExpr newObj = cplex.linearNumExpr();
-                for (String secondaryObj : objectiveSenses.keySet()) {
-                    if (secondaryObj.equals(objective)) continue;
-
-                    double objWeight = (1 / (numObjectives - 1)) * // equal weight given to each secondary objective
-                            ((objectiveSenses.get(secondaryObj) > 0) ? 1 : -1) * // assign the proper sign (pos or neg)
-                            ((this.objectiveIdeals.get(secondaryObj) == 0) ? 1 : (1 / this.objectiveIdeals.get(secondaryObj))); // scale it based on ideal value (or 1 if ideal would throw error)
-                    newObj.addTerm(objWeight,
-                            this.baseLPMatrix.getNumVar(objectiveColumns.get(secondaryObj)));
+            // one constraint per non-principal objective. For a maximization objective:
+            // obj_i - (obj_iPrevVal + delta_i)*y_i - sum_{j != i} obj_iWorstCase*y_j >= 0
+            // and for a minimization objective:
+            // obj_i - (obj_iPrevVal - delta_i)*y_i - sum_{j != i} obj_iWorstCase*y_j <= 0
+            for (int i = 1; i < numObjectives; i++) {
+                boolean maximize = objectiveSpace.isMaximize(i);
+                double worstCase = objectiveSpace.getWorstCase(i);
+                int row = sumRow + i;
+
+                ind[row] = new int[numIndicators + 1];
+                val[row] = new double[numIndicators + 1];
+                ind[row][0] = objectiveSpace.getColumn(i);
+                val[row][0] = 1;
+                for (int j = 0; j < numIndicators; j++) {
+                    ind[row][j + 1] = firstIndicatorColumn + j;
+                    if (j == i - 1)
+                        val[row][j + 1] = -objectiveSpace.improvedByDelta(i, point[i]);
+                    else
+                        val[row][j + 1] = -worstCase;
                 }
-                // remove previous objective function
+                lb[row] = maximize ? 0 : -Double.MAX_VALUE;
+                ub[row] = maximize ? Double.MAX_VALUE : 0;
+            }
+        }
+
+        this.baseLPMatrix.addRows(lb, ub, ind, val);
+    }
+
+    /**
+     * Seeds the next frontier solve with the incumbent of the latest frontier point. The incumbent violates
+     * the indicator block that was just added, so the new indicator is switched on for the objective with
+     * the most room left to improve and CPLEX is asked to repair the remainder of the start.
+     */
+    private void addFrontierMIPStart(double[] point) throws IloException {
+        int numCols = this.baseLPMatrix.getNcols();
+        int firstIndicatorColumn = numCols - (numObjectives - 1);
+
+        // choose the objective whose improvement by its delta leaves the largest share of its range
+        int chosenObjective = -1;
+        double mostRoom = 0;
+        for (int i = 1; i < numObjectives; i++) {
+            double ideal = objectiveSpace.getIdeal(i);
+            double range = objectiveSpace.getRange(i);
+            double target = objectiveSpace.improvedByDelta(i, point[i]);
+            double room = objectiveSpace.isMaximize(i) ? ideal - target : target - ideal;
+            if (range > 0 && room / range > mostRoom) {
+                mostRoom = room / range;
+                chosenObjective = i;
+            }
+        }
+        if (chosenObjective < 0) return;
+
+        double[] start = new double[numCols];
+        System.arraycopy(this.lastIncumbent, 0, start, 0, this.lastIncumbent.length);
+        start[firstIndicatorColumn + chosenObjective - 1] = 1;
+        setMIPStart(start, IloCplex.MIPStartEffort.Repair);
+    }
+
+    /**
+     * Replaces any MIP starts held by CPLEX with the given values for the columns of the LP matrix.
+     */
+    private void setMIPStart(double[] values, IloCplex.MIPStartEffort effort) throws IloException {
+        setMIPStart(this.cplex, this.baseLPMatrix, values, effort);
+    }
+
+    private void setMIPStart(ADCPLEXInstance instance, double[] values, IloCplex.MIPStartEffort effort) throws IloException {
+        setMIPStart(instance.getCplex(), instance.getLPMatrix(), values, effort);
+    }
+
+    private void setMIPStart(IloCplex cplex, IloLPMatrix lpMatrix, double[] values, IloCplex.MIPStartEffort effort) throws IloException {
+        if (cplex.getNMIPStarts() > 0)
+            cplex.deleteMIPStarts(0, cplex.getNMIPStarts());
+        cplex.addMIPStart(lpMatrix.getNumVars(), values, effort);
+    }
+
+
+    private boolean improveSecondaryVarsInIdealSolution() throws ADAlgoSolverException {
+        // improve each objective's ideal solution, on separate copies of the model if there are several
+        ArrayList<double[]> improvedSolutions = solveForEachObjective(this::improveIdealSolution);
+
+        // reduce the improved solutions into nadir values, in objective order
+        for (int i = 0; i < numObjectives; i++) {
+            double[] solution = improvedSolutions.get(i);
+            if (solution == null) continue;
+            this.idealSolutions[i] = solution;
+
+            // store the nadir values for the other objectives:
+            // a value worse than any seen before becomes the objective's nadir value
+            for (int secondaryObj = 0; secondaryObj < numObjectives; secondaryObj++)
+                if (secondaryObj != i)
+                    objectiveSpace.updateNadir(secondaryObj, solution[objectiveSpace.getColumn(secondaryObj)]);
+        }
+
+        System.out.println("Ideals: " + Arrays.toString(objectiveSpace.getIdeals()));
+        System.out.println("Nadirs: " + Arrays.toString(objectiveSpace.getNadirs()));
+
+        return !improvedSolutions.contains(null);
+    }
+
+    /**
+     * Optimizes the objectives in the given order, holding each at its optimum while the next is optimized (see
+     * ADNadirEstimator.LexicographicSolver). The solves are to the frontier's gap (so that the points found are
+     * nondominated) within the time limit of a solve of the ideal solution construction. The constraints added
+     * are removed again afterwards, and the frontier's objective function replaces the last one set.
+     */
+    @Override
+    protected double[] solveLexicographically(int[] order, double[] bounds) {
+        ArrayList<IloRange> addedRows = new ArrayList<>();
+        try {
+            cplex.setParam(DoubleParam.TiLim, Math.min(CPLEX_NO_TIME_LIMIT,
+                    Math.min(this.budgetScheduler.getPointTimeLimit(0), this.budgetScheduler.getIdealTimeLimit(numObjectives))));
+            // no frontier point has been found, so this is the frontier's configured gap
+            cplex.setParam(DoubleParam.EpGap, this.budgetScheduler.getPointGap());
+            for (int i = 0; i < numObjectives; i++)
+                if (!Double.isNaN(bounds[i])) addedRows.add(addObjectiveBound(i, bounds[i]));
+
+            String label = Arrays.toString(order);
+            double[] solution = null;
+            for (int p = 0; p < order.length; p++) {
+                long phaseStart = System.nanoTime();
+                int objective = order[p];
+                IloLinearNumExpr objectiveExpr = cplex.linearNumExpr();
+                objectiveExpr.addTerm(1, this.baseLPMatrix.getNumVar(objectiveSpace.getColumn(objective)));
                 cplex.remove(cplex.getObjective());
-                // reassign the new one
-                cplex.add(cplex.objective(IloObjectiveSense.Maximize, newObj, "objective"));
-
-                // add a constraint to hold the primary objective at its ideal value
-                IloLinearNumExpr objConstraint = cplex.linearNumExpr();
-                objConstraint.addTerm(1, this.baseLPMatrix.getNumVar(objectiveColumns.get(objective)));
-                if (objectiveSenses.get(objective) == 1)
-                    cplex.addGe(objConstraint, objectiveIdeals.get(objective));
-                else
-                    cplex.addLe(objConstraint, objectiveIdeals.get(objective));
-
-                // read in a MIP start to help the solution along
-                cplex.readMIPStarts(outputPath.toString() + "/singleObjMipStart_" + objective + ".mst");
-                // solve the LP
-                if (cplex.solve()) {
-                    System.out.println("Ideal improved for " + objective);
-
-                    // store the nadir values for the other objectives
-                    for (String secondaryObj : objectiveIdeals.keySet()) {
-                        if (secondaryObj.equals(objective)) continue;
-
-                        double secondaryObjVal = cplex.getValue(this.baseLPMatrix.getNumVar(objectiveColumns.get(secondaryObj)));
-
-                        // if the nadir value does not already exist for the objective,
-                        // then assign it to the new one
-                        if (!objectiveNadirs.containsKey(secondaryObj))
-                            objectiveNadirs.put(secondaryObj, secondaryObjVal);
-                        else {
-                            // if the solution is worse than the previous,
-                            // then assign it to be the new nadir value for the objective
-                            if (objectiveSenses.get(secondaryObj) == 1 && secondaryObjVal < objectiveNadirs.get(secondaryObj)) {
-                                objectiveNadirs.put(secondaryObj, secondaryObjVal);
-                            } else if (objectiveSenses.get(secondaryObj) == 0 && secondaryObjVal > objectiveNadirs.get(secondaryObj)) {
-                                objectiveNadirs.put(secondaryObj, secondaryObjVal);
-                            }
-                        }
-                    }
-                } else {
-                    System.out.println("In ideal solution construction, could not improve for objective " + objective);
-                }
-                // clear mipstarts
+                cplex.add(cplex.objective(objectiveSpace.isMaximize(objective) ? IloObjectiveSense.Maximize
+                        : IloObjectiveSense.Minimize, objectiveExpr, "objective"));
+
+                // the optimum of the previous objective is feasible for this one
+                if (solution != null) setMIPStart(solution, IloCplex.MIPStartEffort.CheckFeas);
+                long solveStart = System.nanoTime();
+                boolean solved = cplex.solve();
+                double solverSeconds = (System.nanoTime() - solveStart) / 1e9;
+                recordSolve(ADRunMetrics.NADIR, label, phaseStart, solverSeconds, this.cplex, solved);
+                if (!solved) return null;
+                solution = cplex.getValues(this.baseLPMatrix);
+
+                if (p < order.length - 1)
+                    addedRows.add(addObjectiveBound(objective, ADNadirEstimator.relaxedOptimum(
+                            objectiveSpace.isMaximize(objective), solution[objectiveSpace.getColumn(objective)])));
+            }
+
+            double[] point = new double[numObjectives];
+            for (int i = 0; i < numObjectives; i++) point[i] = solution[objectiveSpace.getColumn(i)];
+            return point;
+        } catch (IloException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            try {
+                for (IloRange row : addedRows) cplex.remove(row);
                 if (cplex.getNMIPStarts() > 0)
                     cplex.deleteMIPStarts(0, cplex.getNMIPStarts());
-                // remove the newly added constraint the LP matrix
-                ((IloLPMatrix) cplex.LPMatrixIterator().next()).removeRow(((IloLPMatrix) cplex.LPMatrixIterator().next()).getNrows() - 1);
-
-                System.out.println("Ideals: " + objectiveIdeals.toString());
-                System.out.println("Nadirs: " + objectiveNadirs.toString());
             } catch (IloException e) {
                 e.printStackTrace();
-                return false;
             }
         }
+    }
 
-        // return the solver parameters to their original values
-        if (this.cplexParameters != null)
-            assignSolverParameters(this.cplex, this.cplexParameters);
-
-        return true;
+    /**
+     * Adds a constraint requiring the objective to be no worse than the given value.
+     */
+    private IloRange addObjectiveBound(int objective, double value) throws IloException {
+        IloLinearNumExpr objectiveExpr = cplex.linearNumExpr();
+        objectiveExpr.addTerm(1, this.baseLPMatrix.getNumVar(objectiveSpace.getColumn(objective)));
+        return objectiveSpace.isMaximize(objective) ? cplex.addGe(objectiveExpr, value) : cplex.addLe(objectiveExpr, value);
     }
 
-    private boolean getSingleObjectiveBest(IloCplex cplex, String objective) {
+    /**
+     * Holds the primary objective at its ideal value and maximizes the (scaled) secondary objectives.
+     * The bound on the primary objective, the MIP start and the solver parameters are restored afterwards,
+     * even if the solve fails, so the instance is left as it was found.
+     *
+     * @param threads the number of threads to use, or 0 to keep the configured value
+     * @return the values of the LP matrix columns at the improved solution, or null if none was found
+     */
+    private double[] improveIdealSolution(ADCPLEXInstance instance, int objective, int threads) {
+        long phaseStart = System.nanoTime();
+        IloCplex cplex = instance.getCplex();
+        IloLPMatrix lpMatrix = instance.getLPMatrix();
+        double[] solution = null;
+        IloRange idealBound = null;
+
         // temporarily reset the solver parameters to those specific to the construction of the ideal solution
         if (this.algoParameters != null && this.algoParameters.getSolverParamsForIdealConstruction() != null)
-            assignSolverParameters(this.cplex,
+            assignSolverParameters(cplex,
                     (ADSolverCPLEXParameters) this.algoParameters.getSolverParamsForIdealConstruction());
 
         try {
+            if (threads > 0)
+                cplex.setParam(IntParam.Threads, threads);
 
-            // TODO remove temp time limit and opt gap
-            cplex.setParam(DoubleParam.TiLim, 300);
-            cplex.setParam(DoubleParam.EpGap, .05);
+            setIdealConstructionLimits(cplex);
 
-            // construct single-objective objective function
+            // construct objective function with a term for each of the other objectives
             IloLinearNumExpr newObj = cplex.linearNumExpr();
-            newObj.addTerm(1, this.baseLPMatrix.getNumVar(objectiveColumns.get(objective)));
+            for (int secondaryObj = 0; secondaryObj < numObjectives; secondaryObj++) {
+                if (secondaryObj == objective) continue;
+
+                double secondaryIdeal = objectiveSpace.getIdeal(secondaryObj);
+                double objWeight = (1.0 / (numObjectives - 1)) * // equal weight given to each secondary objective
+                        (objectiveSpace.isMaximize(secondaryObj) ? 1 : -1) * // assign the proper sign (pos or neg)
+                        ((secondaryIdeal == 0) ? 1 : (1 / secondaryIdeal)); // scale it based on ideal value (or 1 if ideal would throw error)
+                newObj.addTerm(objWeight, lpMatrix.getNumVar(objectiveSpace.getColumn(secondaryObj)));
+            }
             // remove previous objective function
             cplex.remove(cplex.getObjective());
             // reassign the new one
-            cplex.add(cplex.objective((objectiveSenses.get(objective) == 0) ? IloObjectiveSense.Minimize : IloObjectiveSense.Maximize, newObj, "objective"));
+            cplex.add(cplex.objective(IloObjectiveSense.Maximize, newObj, "objective"));
+
+            // add a constraint to hold the primary objective at its ideal value
+            IloLinearNumExpr objConstraint = cplex.linearNumExpr();
+            objConstraint.addTerm(1, lpMatrix.getNumVar(objectiveSpace.getColumn(objective)));
+            idealBound = objectiveSpace.isMaximize(objective) ?
+                    cplex.addGe(objConstraint, objectiveSpace.getIdeal(objective)) :
+                    cplex.addLe(objConstraint, objectiveSpace.getIdeal(objective));
+
+            // seed the solve with the single-objective solution held in memory
+            setMIPStart(instance, this.idealSolutions[objective], IloCplex.MIPStartEffort.Auto);
             // solve the LP
-            if (cplex.solve()) {
-                // store the ideal value for this objective
-                this.objectiveIdeals.put(objective, cplex.getObjValue());
-                System.out.println("Ideal value for " + objective + ": " + cplex.getObjValue());
-                // save the mipstarts for when we go back to improve the solution later
-                cplex.writeMIPStarts(outputPath.toString() + "/singleObjMipStart_" + objective + ".mst");
+            long solveStart = System.nanoTime();
+            boolean solved = cplex.solve();
+            double solverSeconds = (System.nanoTime() - solveStart) / 1e9;
+            recordSolve(ADRunMetrics.IDEAL_IMPROVEMENT, objectiveSpace.getName(objective), phaseStart, solverSeconds,
+                    cplex, solved);
+            if (solved) {
+                System.out.println("Ideal improved for " + objectiveSpace.getName(objective));
+                solution = cplex.getValues(lpMatrix);
             } else {
-                System.out.println("In ideal solution construction, could not solve for objective " + objective);
-                return false;
+                System.out.println("In ideal solution construction, could not improve for objective " + objectiveSpace.getName(objective));
             }
+            return solution;
         } catch (IloException e) {
             e.printStackTrace();
-            return false;
+            return null;
+        } finally {
+            try {
+                // clear mipstarts
+                if (cplex.getNMIPStarts() > 0)
+                    cplex.deleteMIPStarts(0, cplex.getNMIPStarts());
+                // remove the newly added constraint
+                if (idealBound != null) cplex.remove(idealBound);
+            } catch (IloException e) {
+                e.printStackTrace();
+            }
+            restoreSolverParameters(cplex);
         }
+    }
 
-        // return the solver parameters to their original values
-        if (this.cplexParameters != null)
-            assignSolverParameters(this.cplex, this.cplexParameters);
+    /**
+     * A step of the ideal solution construction that is carried out once per objective.
+     */
+    private interface IdealConstructionTask {
+        double[] run(ADCPLEXInstance instance, int objective, int threads);
+    }
 
-        return true;
+    /**
+     * Runs the task once per objective. With a single instance the objectives are handled one after
+     * another; otherwise each objective borrows whichever instance is free. The results are returned
+     * in the order of the objectives, so they do not depend on which solve finishes first.
+     *
+     * @throws ADAlgoSolverException if the construction is interrupted or a task fails
+     */
+    private ArrayList<double[]> solveForEachObjective(IdealConstructionTask task) throws ADAlgoSolverException {
+        ArrayList<double[]> results = new ArrayList<>();
+
+        if (this.idealInstances.size() == 1) {
+            for (int objective = 0; objective < numObjectives; objective++)
+                results.add(task.run(this.idealInstances.get(0), objective, 0));
+            return results;
+        }
+
+        int threadsPerInstance = getThreadsPerInstance(this.idealInstances.size(), this.algoParameters.getThreadsPerIdealInstance());
+        ExecutorService executor = Executors.newFixedThreadPool(this.idealInstances.size());
+        BlockingQueue<ADCPLEXInstance> availableInstances = new LinkedBlockingQueue<>(this.idealInstances);
+        try {
+            ArrayList<Future<double[]>> futures = new ArrayList<>();
+            for (int i = 0; i < numObjectives; i++) {
+                int objective = i;
+                futures.add(executor.submit(() -> {
+                    ADCPLEXInstance instance = availableInstances.take();
+                    try {
+                        return task.run(instance, objective, threadsPerInstance);
+                    } finally {
+                        availableInstances.put(instance);
+                    }
+                }));
+            }
+
+            for (Future<double[]> future : futures)
+                results.add(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ADAlgoSolverException("The ideal solution construction was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ADAlgoSolverException("A solve of the ideal solution construction failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
     }
 
-    private void getObjsAndSenses(IloObjective objective) {
+    /**
+     * Loads the model into additional, independent solver instances (alongside each other) so that
+     * the ideal solution construction can solve for several objectives at once. If a copy cannot be loaded,
+     * those that were (or are still being) loaded are ended.
+     *
+     * @throws ADAlgoSolverException if the loading is interrupted or a copy cannot be loaded
+     */
+    private void createIdealInstances(File mcoModel) throws ADAlgoSolverException {
+        int numInstances = Math.min(this.algoParameters.getIdealConstructionInstances(), numObjectives);
+
+        // the copies loaded so far, which a failure ends; a copy loaded after the failure ends itself
+        ArrayList<ADCPLEXInstance> loadedInstances = new ArrayList<>();
+        boolean[] abandoned = {false};
+        ExecutorService executor = Executors.newFixedThreadPool(numInstances);
         try {
-            // Overall sense of objective function. 1 for max, 0 for min
-            int overallSense = (objective.getSense() == IloObjectiveSense.Maximize) ? 1 : 0;
-
-            // store objective function's numerical expression as string
-            String objString = objective.getExpr().toString();
-
-            String termRegex = "((-|\\+)? |-)?[-.0-9E]+\\*\\w+";
-            String zeroCoefficientRegex = "\\D0.0\\D";
-
-            Pattern checkTermRegex = Pattern.compile(termRegex);
-            Pattern checkZeroRegex = Pattern.compile(zeroCoefficientRegex);
-
-            Matcher termRegexMatcher = checkTermRegex.matcher(objString);
-            Matcher zeroRegexMatcher;
-            String newTerm;
-            while (termRegexMatcher.find()) {
-                newTerm = termRegexMatcher.group().trim();
-                zeroRegexMatcher = checkZeroRegex.matcher(newTerm);
-                if (zeroRegexMatcher.find() && zeroRegexMatcher.group().trim().length() > 0)
-                    break;
-
-                String[] termParts = newTerm.split("\\*", 2);
-
-                // clean strings to be parsed as doubles
-                if (termParts[0].startsWith("+")) termParts[0] = termParts[0].substring(1).trim();
-                if (termParts[0].startsWith("-")) termParts[0] = termParts[0].replace(" ", "");
-
-                // Determine if the coefficient is negative (0) or positive (1)
-                int coefficientSign = (Double.valueOf(termParts[0]) > 0) ? 1 : 0;
-                // and store the objective's name
-                String objName = termParts[1];
-                this.objectives.add(objName);
-                // and its column in the CPLEX LP matrix
-                this.objectiveColumns.put(objName, this.objectives.indexOf(objName));
-
-                // If the coefficient is negative (0) and the overall sense is minimize (0),
-                // then we are maximizing this objective (1).
-                // If the coefficient is positive (1) and the overall sense is maximize (1),
-                // then we are again maximizing this objective (1).
-                // If the signs are opposite (maximizing a negative or minimizing a positive),
-                // then we are minimizing the objective (0).
-                objectiveSenses.put(objName, (coefficientSign == overallSense) ? 1 : 0);
+            ArrayList<Future<ADCPLEXInstance>> newInstances = new ArrayList<>();
+            for (int i = this.idealInstances.size(); i < numInstances; i++) {
+                newInstances.add(executor.submit(() -> {
+                    ADCPLEXInstance instance = (this.parsedModel != null)
+                            ? new ADCPLEXInstance(this.parsedModel) : new ADCPLEXInstance(mcoModel);
+                    synchronized (loadedInstances) {
+                        if (abandoned[0]) instance.end();
+                        else loadedInstances.add(instance);
+                    }
+                    return instance;
+                }));
+            }
+            for (Future<ADCPLEXInstance> newInstance : newInstances)
+                newInstance.get();
+            this.idealInstances.addAll(loadedInstances);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(loadedInstances, abandoned);
+            throw new ADAlgoSolverException("Loading the copies of the model was interrupted", e);
+        } catch (ExecutionException e) {
+            abandon(loadedInstances, abandoned);
+            throw new ADAlgoSolverException("Could not load a copy of the model for the ideal solution construction",
+                    e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Ends the copies of the model loaded so far, and has any still loading end themselves.
+     */
+    private static void abandon(ArrayList<ADCPLEXInstance> loadedInstances, boolean[] abandoned) {
+        synchronized (loadedInstances) {
+            abandoned[0] = true;
+            for (ADCPLEXInstance instance : loadedInstances) instance.end();
+            loadedInstances.clear();
+        }
+    }
+
+    /**
+     * Returns the number of threads each instance may use when solving in parallel: the configured
+     * value if one was given, otherwise the Threads parameter (or the number of processors) split
+     * evenly across the instances.
+     */
+    private int getThreadsPerInstance(int numInstances, int configuredThreads) {
+        if (configuredThreads > 0)
+            return configuredThreads;
+
+        int totalThreads = Runtime.getRuntime().availableProcessors();
+        ADSolverCPLEXParameters[] paramSets = {
+                (ADSolverCPLEXParameters) this.algoParameters.getSolverParamsForIdealConstruction(),
+                this.cplexParameters};
+        search:
+        for (ADSolverCPLEXParameters paramSet : paramSets) {
+            if (paramSet == null) continue;
+            for (String paramName : paramSet.getParamSet()) {
+                if ("threads".equals(ADSolverCPLEXParameters.canonicalName(paramName))) {
+                    totalThreads = Integer.parseInt(paramSet.getParam(paramName));
+                    break search;
+                }
             }
+        }
+
+        return Math.max(1, totalThreads / numInstances);
+    }
+
+    private void recordSingleObjectiveBest(int objective, double[] solution) {
+        if (solution == null) return;
+
+        // store the ideal value for this objective and keep the solution
+        // for when we go back to improve it later
+        this.objectiveSpace.setIdeal(objective, solution[objectiveSpace.getColumn(objective)]);
+        this.idealSolutions[objective] = solution;
+    }
+
+    /**
+     * Solves for the best value of a single objective on the given instance.
+     *
+     * @param threads the number of threads to use, or 0 to keep the configured value
+     * @return the values of the LP matrix columns at the solution, or null if no solution was found
+     */
+    private double[] getSingleObjectiveBest(ADCPLEXInstance instance, int objective, int threads) {
+        long phaseStart = System.nanoTime();
+        IloCplex cplex = instance.getCplex();
+        String objName = objectiveSpace.getName(objective);
+
+        // temporarily reset the solver parameters to those specific to the construction of the ideal solution
+        if (this.algoParameters != null && this.algoParameters.getSolverParamsForIdealConstruction() != null)
+            assignSolverParameters(cplex,
+                    (ADSolverCPLEXParameters) this.algoParameters.getSolverParamsForIdealConstruction());
+
+        try {
+            if (threads > 0)
+                cplex.setParam(IntParam.Threads, threads);
 
-            // for ease of access, save the size of the objectives AL
-            this.numObjectives = this.objectives.size();
+            setIdealConstructionLimits(cplex);
 
+            // construct single-objective objective function
+            IloLinearNumExpr newObj = cplex.linearNumExpr();
+            newObj.addTerm(1, instance.getLPMatrix().getNumVar(objectiveSpace.getColumn(objective)));
+            // remove previous objective function
+            cplex.remove(cplex.getObjective());
+            // reassign the new one
+            cplex.add(cplex.objective(objectiveSpace.isMaximize(objective) ? IloObjectiveSense.Maximize : IloObjectiveSense.Minimize, newObj, "objective"));
+            // solve the LP
+            long solveStart = System.nanoTime();
+            boolean solved = cplex.solve();
+            double solverSeconds = (System.nanoTime() - solveStart) / 1e9;
+            recordSolve(ADRunMetrics.IDEAL, objName, phaseStart, solverSeconds, cplex, solved);
+            if (solved) {
+                System.out.println("Ideal value for " + objName + ": " + cplex.getObjValue());
+                double[] solution = cplex.getValues(instance.getLPMatrix());
+                cplex.writeMIPStarts(outputPath.toString() + "/singleObjMipStart_" + objName + ".mst");
+                return solution;
+            }
+            System.out.println("In ideal solution construction, could not solve for objective " + objName);
+            return null;
         } catch (IloException e) {
             e.printStackTrace();
+            return null;
+        } finally {
+            restoreSolverParameters(cplex);
+        }
+    }
+
+    /**
+     * Returns the solver parameters of the instance to their configured values, or to CPLEX's defaults if none
+     * were configured, so that the limits of the ideal solution construction do not outlast it.
+     */
+    private void restoreSolverParameters(IloCplex cplex) {
+        if (this.cplexParameters != null) {
+            assignSolverParameters(cplex, this.cplexParameters);
+            return;
         }
+        try {
+            cplex.setDefaults();
+        } catch (IloException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sets the time limit of a solve of the ideal solution construction from the run's budget, if there is one,
+     * unless the parameters for the ideal solution construction set it.
+     */
+    private void setIdealConstructionLimits(IloCplex cplex) throws IloException {
+        IADSolverParameters idealParameters = this.algoParameters.getSolverParamsForIdealConstruction();
+        double idealTimeLimit = this.budgetScheduler.getIdealTimeLimit(numObjectives);
+        if (!Double.isInfinite(idealTimeLimit) && !ADSolveBudgetScheduler.isSet(idealParameters, "tilim"))
+            cplex.setParam(DoubleParam.TiLim, idealTimeLimit);
+    }
+
+    /**
+     * Records a phase that ended with a solve by the given CPLEX instance, along with the node count and gap of
+     * the solve and the size of the model solved, and charges the solve to the budget.
+     */
+    private void recordSolve(String phase, String label, long phaseStart, double solverSeconds, IloCplex cplex, boolean solved) {
+        long nodes = -1;
+        double gap = Double.NaN;
+        int rows = -1;
+        int columns = -1;
+        try {
+            rows = cplex.getNrows();
+            columns = cplex.getNcols();
+            nodes = cplex.getNnodes64();
+            if (solved) gap = cplex.getMIPRelativeGap();
+        } catch (IloException e) {
+            // not every statistic is available for every solve (there is no gap for an LP); the rest are recorded
+        }
+        this.runMetrics.record(phase, label, phaseStart, solverSeconds, nodes, gap, rows, columns);
+        this.budgetScheduler.recordSolve(solverSeconds);
+    }
 
+    private void getObjsAndSenses(IloObjective objective) throws IloException {
+        // enumerate the objective's terms directly: from the parsed model if there is one, otherwise from CPLEX
+        recordObjectives((this.parsedModel != null)
+                ? ADObjectiveDiscovery.fromModel(this.parsedModel)
+                : ADCPLEXInstance.discoverObjectives(objective, this.baseLPMatrix));
     }
 
 }
 
-// TODO add functionality for hot start
-// requires the hot start model and extracting ideal and worst case values
 // TODO put single-obj solutions in primary output file (CSV)
 // TODO error handling for a bad model file
 // TODO error handling for bad CPLEX param values
 // TODO error handling for bad algo param values
 // TODO error handling for objectives not in conflict
-// TODO allow for relative deltas
 // TODO update manual to require all obj coeffs to have appropriate nonzero coefficients
-// TODO migrate deltas from arraylist to dictionary
\ No newline at end of file
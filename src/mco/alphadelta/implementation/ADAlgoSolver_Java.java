@@ -0,0 +1,379 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADSolverParameters;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Executes the alpha-delta algorithm with the pure-Java simplex and branch-and-bound solver, so that the
+ * algorithm can be run and tested where no CPLEX installation (or license) is available. Models are read
+ * from CPLEX LP format files. The algorithm is that of ADAlgoSolver; this class supplies its solves, which are
+ * made on the in-memory model, and the model's indicator blocks.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADAlgoSolver_Java extends ADAlgoSolver<RuntimeException> {
+
+    private ADLinearModel model = null;
+    private IADSolverParameters solverParameters = null;
+    private ADLinearModel preparedModel = null;
+
+    @Override
+    public boolean setSolverParameters(IADSolverParameters solverParameters) {
+        this.solverParameters = solverParameters;
+        return true;
+    }
+
+    @Override
+    public String getType() {
+        return "java";
+    }
+
+    @Override
+    public void end() {
+        this.model = null;
+        this.preparedModel = null;
+    }
+
+    @Override
+    protected IADSolverParameters getSolverParameters() {
+        return this.solverParameters;
+    }
+
+    @Override
+    protected double getDefaultGap() {
+        return ADBranchAndBound.DEFAULT_RELATIVE_GAP;
+    }
+
+    /**
+     * Prepares the model, and keeps it as it stands, without any frontier constraints, for later generations.
+     */
+    @Override
+    protected void prepareModel(File mcoModel) throws IOException, ADAlgoSolverException {
+        super.prepareModel(mcoModel);
+        this.preparedModel = this.model.copy();
+    }
+
+    @Override
+    protected void loadModel(File mcoModel) throws ADAlgoSolverException, FileNotFoundException {
+        try {
+            this.model = ADModelReader.read(mcoModel);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new ADAlgoSolverException("Could not read model " + mcoModel, e);
+        }
+        this.numPreparedRows = this.model.getNumRows();
+        this.numPreparedColumns = this.model.getNumColumns();
+
+        // record the objectives and their senses (max or min)
+        recordObjectives(ADObjectiveDiscovery.fromModel(this.model));
+    }
+
+    @Override
+    protected boolean constructIdealSolution(File mcoModel) throws ADAlgoSolverException {
+        // solve for single-objective bests
+        for (int k = 0; k < numObjectives; k++)
+            if (!getSingleObjectiveBest(k))
+                throw new ADAlgoSolverException("In ideal solution construction, could not solve for objective " + objectiveSpace.getName(k));
+
+        // improve other objs single-objective bests
+        return improveSecondaryVarsInIdealSolution();
+    }
+
+    /**
+     * @return null, as the solver writes no MIP start files
+     */
+    @Override
+    protected File getMIPStartDirectory() {
+        return null;
+    }
+
+    /**
+     * Restores the model as it was prepared.
+     */
+    @Override
+    protected void removeFrontier() {
+        if (this.preparedModel != null) this.model = this.preparedModel.copy();
+    }
+
+    @Override
+    protected int getNumRows() {
+        return this.model.getNumRows();
+    }
+
+    @Override
+    protected int getNumColumns() {
+        return this.model.getNumColumns();
+    }
+
+    /**
+     * Creates a solver with the configured parameters for a solve of the ideal solution construction, which takes
+     * its time limit from the run's budget, if there is one, unless the parameters for the ideal solution
+     * construction set it.
+     */
+    private ADBranchAndBound createSolver() {
+        ADBranchAndBound solver = new ADBranchAndBound();
+        if (this.solverParameters != null)
+            solver.setParameters(this.solverParameters);
+        IADSolverParameters idealParameters = (this.algoParameters != null)
+                ? this.algoParameters.getSolverParamsForIdealConstruction() : null;
+        if (idealParameters != null)
+            solver.setParameters(idealParameters);
+        double idealTimeLimit = this.budgetScheduler.getIdealTimeLimit(numObjectives);
+        if (!Double.isInfinite(idealTimeLimit) && !ADSolveBudgetScheduler.isSet(idealParameters, "tilim"))
+            solver.setTimeLimit(idealTimeLimit);
+        return solver;
+    }
+
+    /**
+     * Records a phase that ended with the given solve of the given model, and charges the solve to the budget.
+     */
+    private void recordSolve(String phase, String label, long phaseStart, double solverSeconds,
+                             ADBranchAndBound.Result result, ADLinearModel solvedModel) {
+        double gap = result.hasSolution()
+                ? Math.abs(result.bestBound - result.objectiveValue) / (1e-10 + Math.abs(result.objectiveValue))
+                : Double.NaN;
+        this.runMetrics.record(phase, label, phaseStart, solverSeconds, result.nodes, gap,
+                solvedModel.getNumRows(), solvedModel.getNumColumns());
+        this.budgetScheduler.recordSolve(solverSeconds);
+    }
+
+    private boolean getSingleObjectiveBest(int k) {
+        long phaseStart = System.nanoTime();
+        this.model.setObjective(objectiveSpace.isMaximize(k), new int[]{objectiveSpace.getColumn(k)}, new double[]{1});
+
+        long solveStart = System.nanoTime();
+        ADBranchAndBound.Result result = createSolver().solve(this.model, null);
+        recordSolve(ADRunMetrics.IDEAL, objectiveSpace.getName(k), phaseStart, (System.nanoTime() - solveStart) / 1e9,
+                result, this.model);
+        if (!result.hasSolution()) return false;
+
+        this.objectiveSpace.setIdeal(k, result.solution[objectiveSpace.getColumn(k)]);
+        this.idealSolutions[k] = result.solution;
+        System.out.println("Ideal value for " + objectiveSpace.getName(k) + ": " + objectiveSpace.getIdeal(k));
+        return true;
+    }
+
+    private boolean improveSecondaryVarsInIdealSolution() {
+        boolean allImproved = true;
+        for (int k = 0; k < numObjectives; k++) {
+            long phaseStart = System.nanoTime();
+            // construct objective function with a term for each of the other objectives
+            int[] indices = new int[numObjectives - 1];
+            double[] weights = new double[numObjectives - 1];
+            int t = 0;
+            for (int s = 0; s < numObjectives; s++) {
+                if (s == k) continue;
+                double ideal = objectiveSpace.getIdeal(s);
+                indices[t] = objectiveSpace.getColumn(s);
+                weights[t++] = (1.0 / (numObjectives - 1)) *
+                        (objectiveSpace.isMaximize(s) ? 1 : -1) *
+                        ((ideal == 0) ? 1 : (1 / ideal));
+            }
+
+            // hold the primary objective at its ideal value on a copy of the model
+            ADLinearModel improvementModel = this.model.copy();
+            improvementModel.setObjective(true, indices, weights);
+            improvementModel.addRow("idealBound",
+                    objectiveSpace.isMaximize(k) ? objectiveSpace.getIdeal(k) : Double.NEGATIVE_INFINITY,
+                    objectiveSpace.isMaximize(k) ? Double.POSITIVE_INFINITY : objectiveSpace.getIdeal(k),
+                    new int[]{objectiveSpace.getColumn(k)}, new double[]{1});
+
+            long solveStart = System.nanoTime();
+            ADBranchAndBound.Result result = createSolver().solve(improvementModel, idealSolutions[k]);
+            recordSolve(ADRunMetrics.IDEAL_IMPROVEMENT, objectiveSpace.getName(k), phaseStart,
+                    (System.nanoTime() - solveStart) / 1e9, result, improvementModel);
+            if (!result.hasSolution()) {
+                System.out.println("In ideal solution construction, could not improve for objective " + objectiveSpace.getName(k));
+                allImproved = false;
+                continue;
+            }
+            System.out.println("Ideal improved for " + objectiveSpace.getName(k));
+            this.idealSolutions[k] = result.solution;
+
+            // store the nadir values for the other objectives
+            for (int s = 0; s < numObjectives; s++)
+                if (s != k) objectiveSpace.updateNadir(s, result.solution[objectiveSpace.getColumn(s)]);
+        }
+
+        System.out.println("Ideals: " + Arrays.toString(objectiveSpace.getIdeals()));
+        System.out.println("Nadirs: " + Arrays.toString(objectiveSpace.getNadirs()));
+        return allImproved;
+    }
+
+    /**
+     * Optimizes the objectives in the given order on a copy of the model, holding each at its optimum while the
+     * next is optimized (see ADNadirEstimator.LexicographicSolver).
+     */
+    @Override
+    protected double[] solveLexicographically(int[] order, double[] bounds) {
+        ADLinearModel lexicographicModel = this.model.copy();
+        for (int i = 0; i < numObjectives; i++)
+            if (!Double.isNaN(bounds[i])) addObjectiveBound(lexicographicModel, "nadirBound_" + i, i, bounds[i]);
+
+        String label = Arrays.toString(order);
+        double[] solution = null;
+        for (int p = 0; p < order.length; p++) {
+            long phaseStart = System.nanoTime();
+            int objective = order[p];
+            int column = objectiveSpace.getColumn(objective);
+            lexicographicModel.setObjective(objectiveSpace.isMaximize(objective), new int[]{column}, new double[]{1});
+
+            // the optimum of the previous objective is feasible for this one
+            long solveStart = System.nanoTime();
+            ADBranchAndBound.Result result = createNadirSolver().solve(lexicographicModel, solution);
+            recordSolve(ADRunMetrics.NADIR, label, phaseStart, (System.nanoTime() - solveStart) / 1e9,
+                    result, lexicographicModel);
+            if (!result.hasSolution()) return null;
+            solution = result.solution;
+
+            if (p < order.length - 1)
+                addObjectiveBound(lexicographicModel, "lexicographicBound_" + objective, objective,
+                        ADNadirEstimator.relaxedOptimum(objectiveSpace.isMaximize(objective), solution[column]));
+        }
+
+        double[] point = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) point[i] = solution[objectiveSpace.getColumn(i)];
+        return point;
+    }
+
+    /**
+     * Adds a row requiring the objective to be no worse than the given value.
+     */
+    private void addObjectiveBound(ADLinearModel boundedModel, String name, int objective, double value) {
+        boolean maximize = objectiveSpace.isMaximize(objective);
+        boundedModel.addRow(name, maximize ? value : Double.NEGATIVE_INFINITY, maximize ? Double.POSITIVE_INFINITY : value,
+                new int[]{objectiveSpace.getColumn(objective)}, new double[]{1});
+    }
+
+    /**
+     * Creates a solver for a solve of the nadir estimation, which is solved to the frontier's gap (so that the
+     * points it finds are nondominated) within the time limit of a solve of the ideal solution construction.
+     */
+    private ADBranchAndBound createNadirSolver() {
+        ADBranchAndBound solver = new ADBranchAndBound();
+        if (this.solverParameters != null)
+            solver.setParameters(this.solverParameters);
+        solver.setTimeLimit(Math.min(solver.getTimeLimit(), this.budgetScheduler.getIdealTimeLimit(numObjectives)));
+        return solver;
+    }
+
+    @Override
+    protected void setFrontierObjectiveFunction(double[] weights) {
+        this.model.setObjective(true, objectiveSpace.getColumns(), weights);
+    }
+
+    /**
+     * Solves the model with a solver limited to the given time and gap, seeded before the first point with the
+     * principal objective's ideal solution: after it, the latest incumbent violates the new block, so there is
+     * no feasible start to offer.
+     */
+    @Override
+    protected double[] solveFrontierPoint(int solutionIndex, double[] lastPoint, double timeLimit, double gap) {
+        ADBranchAndBound solver = new ADBranchAndBound();
+        if (this.solverParameters != null)
+            solver.setParameters(this.solverParameters);
+        solver.setTimeLimit(timeLimit);
+        solver.setRelativeGap(gap);
+        double[] mipStart = (numIndicatorVars == 0) ? idealSolutions[0] : null;
+
+        long solveStart = System.nanoTime();
+        ADBranchAndBound.Result result = solver.solve(this.model, mipStart);
+        recordSolve(ADRunMetrics.FRONTIER_POINT, Integer.toString(solutionIndex), solveStart,
+                (System.nanoTime() - solveStart) / 1e9, result, this.model);
+        return result.hasSolution() ? result.solution : null;
+    }
+
+    @Override
+    protected ADRelaxationPrescreen.Outcome screenRelaxation(ADRelaxationPrescreen prescreen, double[] lastPoint,
+                                                             double timeLimit) {
+        long deadline = Double.isInfinite(timeLimit) ? Long.MAX_VALUE : System.nanoTime() + (long) (timeLimit * 1e9);
+        return prescreen.screen(lastPoint, objective -> relaxationBound(objective, deadline));
+    }
+
+    /**
+     * @return the optimum of the objective over the LP relaxation of the model (see
+     * ADRelaxationPrescreen.RelaxationSolver)
+     */
+    private double relaxationBound(int objective, long deadline) {
+        int n = this.model.getNumColumns();
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+        for (int j = 0; j < n; j++) {
+            lower[j] = this.model.getColumnLower(j);
+            upper[j] = this.model.getColumnUpper(j);
+        }
+        double direction = objectiveSpace.isMaximize(objective) ? 1 : -1;
+        double[] cost = new double[n];
+        cost[objectiveSpace.getColumn(objective)] = direction;
+
+        ADSimplexSolver.Result relaxation = ADSimplexSolver.maximize(this.model, lower, upper, cost, deadline);
+        if (relaxation.status == ADSimplexSolver.Status.INFEASIBLE) return Double.NaN;
+        if (relaxation.status != ADSimplexSolver.Status.OPTIMAL) return direction * Double.POSITIVE_INFINITY;
+        return direction * relaxation.objectiveValue;
+    }
+
+    /**
+     * Adds the indicator blocks of the points to the model (see ADAlgoSolver.addIndicatorBlocks).
+     */
+    @Override
+    protected void addIndicatorBlocks(List<double[]> points) {
+        int numIndicators = numObjectives - 1;
+        for (double[] point : points) {
+            int firstIndicatorColumn = this.model.getNumColumns();
+            for (int j = 0; j < numIndicators; j++)
+                this.model.addColumn("y_" + (numIndicatorVars + j), 0, 1, true);
+            numIndicatorVars += numIndicators;
+
+            int[] indicatorIndices = new int[numIndicators];
+            double[] ones = new double[numIndicators];
+            for (int j = 0; j < numIndicators; j++) {
+                indicatorIndices[j] = firstIndicatorColumn + j;
+                ones[j] = 1;
+            }
+            this.model.addRow("indicatorSum_" + numIndicatorVars, 1, 1, indicatorIndices, ones);
+
+            for (int i = 1; i < numObjectives; i++) {
+                int[] indices = new int[numIndicators + 1];
+                double[] values = new double[numIndicators + 1];
+                indices[0] = objectiveSpace.getColumn(i);
+                values[0] = 1;
+                for (int j = 0; j < numIndicators; j++) {
+                    indices[j + 1] = firstIndicatorColumn + j;
+                    if (j == i - 1)
+                        values[j + 1] = -objectiveSpace.improvedByDelta(i, point[i]);
+                    else
+                        values[j + 1] = -objectiveSpace.getWorstCase(i);
+                }
+                this.model.addRow("indicator_" + numIndicatorVars + "_" + i,
+                        objectiveSpace.isMaximize(i) ? 0 : Double.NEGATIVE_INFINITY,
+                        objectiveSpace.isMaximize(i) ? Double.POSITIVE_INFINITY : 0,
+                        indices, values);
+            }
+        }
+    }
+
+    @Override
+    protected void writeFrontierSolution(int solutionIndex, double[] solution) throws FileNotFoundException {
+        writeSolution(new File(outputPath, "Soln_FrontierPoint_" + solutionIndex + ".sol"), solution);
+    }
+
+    /**
+     * Writes the value of every column, one "name value" pair per line.
+     */
+    private void writeSolution(File solFile, double[] solution) throws FileNotFoundException {
+        PrintStream solWriter = new PrintStream(solFile);
+        for (int j = 0; j < solution.length; j++)
+            solWriter.println(this.model.getColumnName(j) + " " + solution[j]);
+        solWriter.close();
+    }
+}
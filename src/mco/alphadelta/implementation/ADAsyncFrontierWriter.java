@@ -0,0 +1,123 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.IADFrontierWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Base class for frontier writers that write on a background thread, so that the frontier loop never
+ * waits on the disk. Points are queued as they are found; the writer thread takes whatever has queued
+ * up (up to a batch at a time), writes it in one go and flushes, so the file keeps pace with the run.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public abstract class ADAsyncFrontierWriter implements IADFrontierWriter {
+
+    private static final int BATCH_SIZE = 256;
+    private static final FrontierPoint END = new FrontierPoint(-1, null, null);
+
+    /**
+     * A queued frontier point.
+     */
+    protected static class FrontierPoint {
+        final int solutionIndex;
+        final double[] objectiveValues;
+        final double[] solution;
+
+        FrontierPoint(int solutionIndex, double[] objectiveValues, double[] solution) {
+            this.solutionIndex = solutionIndex;
+            this.objectiveValues = objectiveValues;
+            this.solution = solution;
+        }
+    }
+
+    private BlockingQueue<FrontierPoint> queue = new LinkedBlockingQueue<>();
+    private Thread writerThread = null;
+    private volatile IOException failure = null;
+
+    @Override
+    public void open(String[] objectiveNames) throws IOException {
+        writeHeader(objectiveNames);
+        writerThread = new Thread(this::writeQueuedPoints, getClass().getSimpleName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void writePoint(int solutionIndex, double[] objectiveValues, double[] solution) throws IOException {
+        if (failure != null) throw failure;
+        double[] solutionCopy = (solution != null && needsSolutions()) ? solution.clone() : null;
+        queue.add(new FrontierPoint(solutionIndex, objectiveValues.clone(), solutionCopy));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writerThread != null) {
+            queue.add(END);
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+        closeOutput();
+        if (failure != null) throw failure;
+    }
+
+    private void writeQueuedPoints() {
+        ArrayList<FrontierPoint> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                boolean done = batch.get(batch.size() - 1) == END;
+                if (done) batch.remove(batch.size() - 1);
+                if (!batch.isEmpty() && failure == null) {
+                    writeBatch(batch);
+                    flush();
+                }
+                batch.clear();
+                if (done) return;
+            }
+        } catch (IOException e) {
+            failure = e;
+            // keep draining so that close() does not wait forever
+            drainUntilEnd();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainUntilEnd() {
+        try {
+            while (queue.take() != END) ;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return true if the writer records the solution vectors, which are only copied if so
+     */
+    protected boolean needsSolutions() {
+        return false;
+    }
+
+    protected abstract void writeHeader(String[] objectiveNames) throws IOException;
+
+    /**
+     * Writes the points, in the order they were found. Called from the writer thread only.
+     */
+    protected abstract void writeBatch(ArrayList<FrontierPoint> batch) throws IOException;
+
+    protected abstract void flush() throws IOException;
+
+    protected abstract void closeOutput() throws IOException;
+}
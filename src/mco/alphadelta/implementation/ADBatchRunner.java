@@ -0,0 +1,439 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADAlgoSolver;
+import mco.alphadelta.framework.IADSolverParameters;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a batch of alpha-delta jobs, each a model with its own alpha, deltas and solver parameters, without the
+ * prompts of ADAlgoConsoleInterface.
+ * <pre>
+ * ADBatchRunner &lt;manifest&gt; [-slots &lt;n&gt;] [-threads &lt;total&gt;] [-out &lt;directory&gt;]
+ * </pre>
+ * Each non-blank line of the manifest is a job, given as whitespace-separated key=value pairs; text after a #
+ * is a comment. For example:
+ * <pre>
+ * name=harvest20 model=models/harvest.lp alpha=0.01 deltas=1,1 relativeDeltas=true threads=4 epgap=0.001
+ * </pre>
+ * The recognized keys are name (the line number by default), model (required), solver (cplex or java; cplex
+ * by default), alpha (in degrees; 0.01 by default), deltas (one per non-principal objective, comma-separated;
+ * required), relativeDeltas (true or false), threads, workers (frontier workers), budget (solver seconds),
+ * maxRelaxedGap, checkpoint (seconds), metrics (true or false), payoffCache (true or false; see
+ * ADPayoffTableCache), nadir (payoff, lexicographic or exact; see ADNadirEstimator), prescreen (true or false;
+ * see ADRelaxationPrescreen) and out (the job's output directory). Any other key is passed to the solver as a
+ * solver parameter. Paths are relative to the manifest's directory.
+ * <p>
+ * The jobs run in manifest order on a fixed pool of -slots solver slots (1 by default) in this one process, so
+ * the solver library is loaded once. A job without a threads key is given an even share of the -threads total
+ * (the available processors by default) across the slots, as its Threads solver parameter. Each job writes its
+ * output under its own directory (-out/name by default, with -out a timestamped directory beside the manifest),
+ * along with job.log, which holds what the job printed. The jobs share the payoff table cache under -out (see
+ * ADPayoffTableCache). The summary of the finished jobs is rewritten to BatchSummary.csv under -out as each job
+ * finishes; the runner exits with status 1 if any job failed.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADBatchRunner {
+
+    public static final String SUMMARY_FILE_NAME = "BatchSummary.csv";
+    public static final String JOB_LOG_FILE_NAME = "job.log";
+
+    private static final String CSV_HEADER = "Job, Model, Solver, Alpha, Deltas, Threads, Success, Points, "
+            + "WallSeconds, FrontierSolverSeconds, OutputPath, Error";
+
+    // the log of the job running on the current thread, inherited by the threads the job's solver starts
+    private static final InheritableThreadLocal<PrintStream> JOB_LOG = new InheritableThreadLocal<>();
+
+    // the algorithm parameters a job starts from, so that a key it leaves out has the same default as elsewhere
+    private static final ADAlgoParameters DEFAULTS = new ADAlgoParameters();
+
+    /**
+     * A job of the manifest, and its outcome once it has run.
+     */
+    static class Job {
+        String name;
+        File model;
+        String solverType = "cplex";
+        double alpha = 0.01;
+        double[] deltas;
+        boolean relativeDeltas = DEFAULTS.areRelativeDeltas();
+        int threads = 0;
+        int workers = DEFAULTS.getFrontierWorkers();
+        double budgetSeconds = DEFAULTS.getSolveBudgetSeconds();
+        double maxRelaxedGap = DEFAULTS.getMaxRelaxedGap();
+        double checkpointSeconds = DEFAULTS.getCheckpointSeconds();
+        boolean printRunMetrics = DEFAULTS.willPrintRunMetrics();
+        boolean usePayoffTableCache = DEFAULTS.willUsePayoffTableCache();
+        File payoffTableCachePath = DEFAULTS.getPayoffTableCachePath();
+        ADNadirEstimator.Mode nadirEstimation = DEFAULTS.getNadirEstimation();
+        boolean relaxationPrescreen = DEFAULTS.willPrescreenRelaxation();
+        File outputPath;
+        Map<String, String> solverParams = new LinkedHashMap<>();
+
+        boolean finished = false;
+        boolean success = false;
+        int points = 0;
+        double wallSeconds = 0;
+        double frontierSolverSeconds = 0;
+        String error = "";
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            printUsage();
+            return;
+        }
+        File manifestFile = new File(args[0]);
+        int slots = 1;
+        int totalThreads = Runtime.getRuntime().availableProcessors();
+        File batchPath = null;
+        for (int a = 1; a < args.length; a++) {
+            switch (args[a]) {
+                case "-slots":
+                    slots = Math.max(1, Integer.parseInt(args[++a]));
+                    break;
+                case "-threads":
+                    totalThreads = Math.max(1, Integer.parseInt(args[++a]));
+                    break;
+                case "-out":
+                    batchPath = new File(args[++a]);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[a]);
+                    printUsage();
+                    return;
+            }
+        }
+
+        List<Job> jobs = readManifest(manifestFile);
+        if (jobs.isEmpty()) {
+            System.out.println("No jobs in " + manifestFile);
+            return;
+        }
+        if (batchPath == null) {
+            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(Calendar.getInstance().getTime());
+            batchPath = new File(manifestFile.getAbsoluteFile().getParentFile(), "batch_" + timestamp);
+        }
+        if (!batchPath.isDirectory() && !batchPath.mkdirs()) throw new IOException("Cannot create " + batchPath);
+        for (Job job : jobs) {
+            if (job.outputPath == null) job.outputPath = new File(batchPath, job.name);
+            job.payoffTableCachePath = new File(batchPath, ADPayoffTableCache.DIRECTORY_NAME);
+            if (job.threads <= 0) job.threads = Math.max(1, totalThreads / slots);
+        }
+
+        boolean allSucceeded = runJobs(jobs, slots, new File(batchPath, SUMMARY_FILE_NAME));
+        if (!allSucceeded) System.exit(1);
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: ADBatchRunner <manifest> [-slots <n>] [-threads <total>] [-out <directory>]");
+    }
+
+    /**
+     * Runs the jobs on the given number of slots, rewriting the summary as each finishes.
+     *
+     * @return true if every job succeeded
+     */
+    static boolean runJobs(List<Job> jobs, int slots, File summaryFile) throws InterruptedException {
+        PrintStream console = System.out;
+        PrintStream consoleErr = System.err;
+        System.setOut(new PrintStream(new JobOutputStream(console), true));
+        System.setErr(new PrintStream(new JobOutputStream(consoleErr), true));
+
+        console.println("Running " + jobs.size() + " jobs on " + slots + " slots; summary in " + summaryFile);
+        ExecutorService pool = Executors.newFixedThreadPool(slots);
+        try {
+            for (Job job : jobs) {
+                pool.execute(() -> {
+                    console.println("Starting job " + job.name + " (" + job.model + ", " + job.solverType + ", "
+                            + job.threads + " threads)");
+                    runJob(job);
+                    console.println("Finished job " + job.name + ": " + (job.success ? "success" : "failure")
+                            + ", " + job.points + " points in " + String.format("%.1f", job.wallSeconds) + " s"
+                            + (job.error.isEmpty() ? "" : " (" + job.error + ")"));
+                    writeSummary(jobs, summaryFile, console);
+                });
+            }
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+            System.setOut(console);
+            System.setErr(consoleErr);
+        }
+
+        boolean allSucceeded = true;
+        for (Job job : jobs) allSucceeded &= job.success;
+        return allSucceeded;
+    }
+
+    /**
+     * Runs a job on the current thread, with what it prints going to its log.
+     */
+    private static void runJob(Job job) {
+        long start = System.nanoTime();
+        PrintStream log = null;
+        try {
+            if (!job.outputPath.isDirectory() && !job.outputPath.mkdirs())
+                throw new IOException("Cannot create " + job.outputPath);
+            log = new PrintStream(new FileOutputStream(new File(job.outputPath, JOB_LOG_FILE_NAME)), true);
+            JOB_LOG.set(log);
+
+            IADAlgoSolver solver = ADAlgoSolverFactory.newSolver(job.solverType);
+            solver.setAlgoParameters(toAlgoParameters(job));
+            solver.setSolverParameters(toSolverParameters(job));
+            solver.setOutputPath(job.outputPath);
+            solver.addProgressListener((solutionIndex, objectiveValues, hypervolume, marginalGain, solverSeconds) -> {
+                synchronized (job) {
+                    job.points++;
+                    job.frontierSolverSeconds += solverSeconds;
+                }
+            });
+            job.success = solver.solve(job.model);
+            if (!job.success) job.error = "no frontier generated";
+        } catch (ADAlgoSolverException | IOException | RuntimeException e) {
+            e.printStackTrace();
+            job.success = false;
+            job.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        } finally {
+            JOB_LOG.remove();
+            if (log != null) log.close();
+            job.wallSeconds = (System.nanoTime() - start) / 1e9;
+            job.finished = true;
+        }
+    }
+
+    static ADAlgoParameters toAlgoParameters(Job job) {
+        ADAlgoParameters algoParameters = new ADAlgoParameters();
+        algoParameters.setAlpha_degrees(job.alpha);
+        if (job.deltas != null) algoParameters.setDeltas(job.deltas);
+        algoParameters.setRelativeDeltas(job.relativeDeltas);
+        algoParameters.setFrontierWorkers(job.workers);
+        algoParameters.setSolveBudgetSeconds(job.budgetSeconds);
+        algoParameters.setMaxRelaxedGap(job.maxRelaxedGap);
+        algoParameters.setCheckpointSeconds(job.checkpointSeconds);
+        algoParameters.setPrintRunMetrics(job.printRunMetrics);
+        algoParameters.setUsePayoffTableCache(job.usePayoffTableCache);
+        algoParameters.setPayoffTableCachePath(job.payoffTableCachePath);
+        algoParameters.setNadirEstimation(job.nadirEstimation);
+        algoParameters.setRelaxationPrescreen(job.relaxationPrescreen);
+        return algoParameters;
+    }
+
+    static IADSolverParameters toSolverParameters(Job job) {
+        IADSolverParameters solverParameters = ADAlgoSolverFactory.newSolverParameters(job.solverType);
+        for (Map.Entry<String, String> param : job.solverParams.entrySet())
+            solverParameters.addParam(param.getKey(), param.getValue());
+        solverParameters.addParam("threads", Integer.toString(job.threads));
+        return solverParameters;
+    }
+
+    /**
+     * Reads the jobs of a manifest (see the class description).
+     */
+    static List<Job> readManifest(File manifestFile) throws IOException {
+        File basePath = manifestFile.getAbsoluteFile().getParentFile();
+        ArrayList<Job> jobs = new ArrayList<>();
+        HashSet<String> names = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(manifestFile))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                if (comment >= 0) line = line.substring(0, comment);
+                line = line.trim();
+                if (line.isEmpty()) continue;
+
+                Job job;
+                try {
+                    job = parseJob(line, basePath, "job" + lineNumber);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(manifestFile + ", line " + lineNumber + ": " + e.getMessage(), e);
+                }
+                if (job.deltas == null)
+                    throw new IOException(manifestFile + ", line " + lineNumber + ": no deltas given");
+                if (!names.add(job.name))
+                    throw new IOException(manifestFile + ", line " + lineNumber + ": duplicate job name " + job.name);
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Parses a job from its key=value pairs (see the class description).
+     *
+     * @param basePath    the directory that relative paths are relative to
+     * @param defaultName the name of the job if it is not given one
+     * @throws IllegalArgumentException if a pair or value is malformed, or the model is missing
+     */
+    static Job parseJob(String line, File basePath, String defaultName) {
+        Job job = new Job();
+        job.name = defaultName;
+        for (String token : line.trim().split("\\s+")) {
+            int equals = token.indexOf('=');
+            if (equals <= 0) throw new IllegalArgumentException("expected key=value, found " + token);
+            String key = token.substring(0, equals);
+            String value = token.substring(equals + 1);
+            try {
+                setJobValue(job, key, value, basePath);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("bad value for " + key + ": " + value, e);
+            }
+        }
+        if (job.model == null) throw new IllegalArgumentException("no model given");
+        return job;
+    }
+
+    private static void setJobValue(Job job, String key, String value, File basePath) {
+        switch (key.toLowerCase()) {
+            case "name":
+                job.name = value.replaceAll("[^A-Za-z0-9_.-]", "_");
+                break;
+            case "model":
+                job.model = resolve(basePath, value);
+                break;
+            case "solver":
+                if (!value.equalsIgnoreCase("cplex") && !value.equalsIgnoreCase("java"))
+                    throw new IllegalArgumentException("solver must be cplex or java");
+                job.solverType = value.toLowerCase();
+                break;
+            case "alpha":
+                job.alpha = Double.parseDouble(value);
+                break;
+            case "deltas":
+                String[] parts = value.split(",");
+                job.deltas = new double[parts.length];
+                for (int i = 0; i < parts.length; i++) job.deltas[i] = Double.parseDouble(parts[i]);
+                break;
+            case "relativedeltas":
+                job.relativeDeltas = Boolean.parseBoolean(value);
+                break;
+            case "threads":
+                job.threads = Integer.parseInt(value);
+                break;
+            case "workers":
+                job.workers = Integer.parseInt(value);
+                break;
+            case "budget":
+                job.budgetSeconds = Double.parseDouble(value);
+                break;
+            case "maxrelaxedgap":
+                job.maxRelaxedGap = Double.parseDouble(value);
+                break;
+            case "checkpoint":
+                job.checkpointSeconds = Double.parseDouble(value);
+                break;
+            case "metrics":
+                job.printRunMetrics = Boolean.parseBoolean(value);
+                break;
+            case "payoffcache":
+                job.usePayoffTableCache = Boolean.parseBoolean(value);
+                break;
+            case "nadir":
+                job.nadirEstimation = ADNadirEstimator.Mode.parse(value);
+                break;
+            case "prescreen":
+                job.relaxationPrescreen = Boolean.parseBoolean(value);
+                break;
+            case "out":
+                job.outputPath = resolve(basePath, value);
+                break;
+            default:
+                if ("threads".equals(ADSolverCPLEXParameters.canonicalName(key))) job.threads = Integer.parseInt(value);
+                else job.solverParams.put(key, value);
+                break;
+        }
+    }
+
+    private static File resolve(File basePath, String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(basePath, path);
+    }
+
+    /**
+     * Writes the summary of the finished jobs, in manifest order, to a temporary file and moves it into place.
+     */
+    private static synchronized void writeSummary(List<Job> jobs, File summaryFile, PrintStream console) {
+        File temporaryFile = new File(summaryFile.getPath() + ".tmp");
+        try {
+            try (PrintStream out = new PrintStream(temporaryFile)) {
+                out.println(CSV_HEADER);
+                for (Job job : jobs) {
+                    if (!job.finished) continue;
+                    StringBuilder deltas = new StringBuilder();
+                    for (double delta : job.deltas) deltas.append((deltas.length() > 0) ? ";" : "").append(delta);
+                    out.println(job.name + ", " + job.model.getPath() + ", " + job.solverType + ", " + job.alpha
+                            + ", " + deltas + ", " + job.threads + ", " + job.success + ", " + job.points + ", "
+                            + String.format("%.3f", job.wallSeconds) + ", "
+                            + String.format("%.3f", job.frontierSolverSeconds) + ", " + job.outputPath.getPath()
+                            + ", " + job.error.replace(',', ';'));
+                }
+            }
+            try {
+                Files.move(temporaryFile.toPath(), summaryFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile.toPath(), summaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            console.println("Could not write " + summaryFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sends what is written to the log of the job running on the current thread, or to the console outside of
+     * any job.
+     */
+    private static class JobOutputStream extends OutputStream {
+        private final PrintStream console;
+
+        JobOutputStream(PrintStream console) {
+            this.console = console;
+        }
+
+        private PrintStream target() {
+            PrintStream log = JOB_LOG.get();
+            return (log != null) ? log : this.console;
+        }
+
+        @Override
+        public void write(int b) {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            target().flush();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.IADSolverParameters;
+
+import java.util.ArrayDeque;
+
+/**
+ * A depth-first branch-and-bound solver for ADLinearModel, using ADSimplexSolver for the relaxations.
+ * Branching is on the most fractional integer column, exploring the nearer rounding first. The search stops
+ * when every node has been pruned, the relative gap between the incumbent and the best open bound is within
+ * the configured tolerance, or the time or node limit is reached.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADBranchAndBound {
+
+    public enum Status {OPTIMAL, FEASIBLE, INFEASIBLE, UNBOUNDED, NO_SOLUTION}
+
+    /**
+     * The outcome of a solve. The objective value and solution are those of the incumbent, if there is one.
+     */
+    public static class Result {
+        public Status status;
+        public double objectiveValue = Double.NaN;
+        public double bestBound = Double.NaN;
+        public double[] solution = null;
+        public long nodes = 0;
+
+        public boolean hasSolution() {
+            return solution != null;
+        }
+    }
+
+    public static final double DEFAULT_RELATIVE_GAP = 1e-6;
+    private static final double FEASIBILITY_TOLERANCE = 1e-6;
+
+    private double timeLimit = Double.POSITIVE_INFINITY;
+    private double relativeGap = DEFAULT_RELATIVE_GAP;
+    private double integralityTolerance = 1e-5;
+    private long nodeLimit = Long.MAX_VALUE;
+
+    /**
+     * Assigns the recognized parameters of the given set (see ADSolverJavaParameters), reporting unrecognized ones.
+     */
+    public void setParameters(IADSolverParameters parameters) {
+        for (String paramName : parameters.getParamSet()) {
+            String value = parameters.getParam(paramName);
+            switch (paramName.toLowerCase()) {
+                case "tilim":
+                case "time":
+                case "timelimit":
+                    setTimeLimit(Double.parseDouble(value));
+                    break;
+                case "epgap":
+                case "optgap":
+                case "optimalitygap":
+                    setRelativeGap(Double.parseDouble(value));
+                    break;
+                case "epint":
+                case "integrality":
+                case "intgap":
+                case "integralitygap":
+                    setIntegralityTolerance(Double.parseDouble(value));
+                    break;
+                case "nodelim":
+                case "nodelimit":
+                case "nodes":
+                    setNodeLimit(Long.parseLong(value));
+                    break;
+                case "threads":
+                case "numthreads":
+                case "workmem":
+                case "workingmem":
+                case "workingmemory":
+                case "memory":
+                    // not applicable to the Java solver
+                    break;
+                default:
+                    System.out.println("Unrecognized Java solver parameter: " + paramName);
+                    System.out.println("No value set for this parameter.");
+                    break;
+            }
+        }
+    }
+
+    public void setTimeLimit(double seconds) {
+        this.timeLimit = seconds;
+    }
+
+    public void setRelativeGap(double relativeGap) {
+        this.relativeGap = relativeGap;
+    }
+
+    public void setIntegralityTolerance(double integralityTolerance) {
+        this.integralityTolerance = integralityTolerance;
+    }
+
+    public void setNodeLimit(long nodeLimit) {
+        this.nodeLimit = nodeLimit;
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public double getRelativeGap() {
+        return relativeGap;
+    }
+
+    /**
+     * Optimizes the model's objective in the model's sense.
+     *
+     * @param mipStart values for every column to use as the first incumbent if they are feasible, or null
+     */
+    public Result solve(ADLinearModel model, double[] mipStart) {
+        long start = System.nanoTime();
+        long deadline = Double.isInfinite(timeLimit) ? Long.MAX_VALUE : start + (long) (timeLimit * 1e9);
+        int n = model.getNumColumns();
+
+        // work with a maximization objective throughout
+        double direction = model.isMaximize() ? 1 : -1;
+        double[] objective = model.getObjectiveCoefficients();
+        for (int j = 0; j < n; j++) objective[j] *= direction;
+        double objectiveConstant = direction * model.getObjectiveConstant();
+
+        double[] rootLower = new double[n];
+        double[] rootUpper = new double[n];
+        for (int j = 0; j < n; j++) {
+            rootLower[j] = model.getColumnLower(j);
+            rootUpper[j] = model.getColumnUpper(j);
+            if (model.isInteger(j)) {
+                rootLower[j] = Math.ceil(rootLower[j] - integralityTolerance);
+                rootUpper[j] = Math.floor(rootUpper[j] + integralityTolerance);
+            }
+        }
+
+        Result result = new Result();
+        double incumbentValue = Double.NEGATIVE_INFINITY;
+        if (mipStart != null && mipStart.length == n && isFeasible(model, rootLower, rootUpper, mipStart)) {
+            result.solution = mipStart.clone();
+            incumbentValue = dot(objective, mipStart);
+        }
+
+        // each open node holds its bounds and the relaxation bound of its parent
+        ArrayDeque<Node> open = new ArrayDeque<>();
+        open.push(new Node(rootLower, rootUpper, Double.POSITIVE_INFINITY));
+        boolean limitReached = false;
+
+        while (!open.isEmpty()) {
+            if (result.nodes >= nodeLimit || System.nanoTime() > deadline) {
+                limitReached = true;
+                break;
+            }
+            if (result.solution != null && withinGap(incumbentValue, bestOpenBound(open))) break;
+
+            Node node = open.pop();
+            if (result.solution != null && !canImprove(incumbentValue, node.parentBound)) continue;
+            result.nodes++;
+
+            ADSimplexSolver.Result relaxation = ADSimplexSolver.maximize(model, node.lower, node.upper, objective, deadline);
+            if (relaxation.status == ADSimplexSolver.Status.LIMIT) {
+                open.push(node);
+                limitReached = true;
+                break;
+            }
+            if (relaxation.status == ADSimplexSolver.Status.INFEASIBLE) continue;
+            if (relaxation.status == ADSimplexSolver.Status.UNBOUNDED) {
+                if (result.nodes == 1) {
+                    result.status = Status.UNBOUNDED;
+                    return result;
+                }
+                continue;
+            }
+            if (result.solution != null && !canImprove(incumbentValue, relaxation.objectiveValue)) continue;
+
+            // branch on the most fractional integer column
+            int branchColumn = -1;
+            double mostFractional = integralityTolerance;
+            for (int j = 0; j < n; j++) {
+                if (!model.isInteger(j)) continue;
+                double x = relaxation.solution[j];
+                double fractionality = Math.abs(x - Math.rint(x));
+                if (fractionality > mostFractional) {
+                    mostFractional = fractionality;
+                    branchColumn = j;
+                }
+            }
+
+            if (branchColumn < 0) {
+                // integer feasible: new incumbent
+                incumbentValue = relaxation.objectiveValue;
+                result.solution = relaxation.solution;
+                for (int j = 0; j < n; j++)
+                    if (model.isInteger(j)) result.solution[j] = Math.rint(result.solution[j]);
+                continue;
+            }
+
+            double x = relaxation.solution[branchColumn];
+            Node down = new Node(node.lower.clone(), node.upper.clone(), relaxation.objectiveValue);
+            down.upper[branchColumn] = Math.floor(x);
+            Node up = new Node(node.lower.clone(), node.upper.clone(), relaxation.objectiveValue);
+            up.lower[branchColumn] = Math.ceil(x);
+
+            // explore the nearer rounding first
+            if (x - Math.floor(x) < 0.5) {
+                open.push(up);
+                open.push(down);
+            } else {
+                open.push(down);
+                open.push(up);
+            }
+        }
+
+        double openBound = bestOpenBound(open);
+        if (result.solution == null) {
+            result.status = limitReached ? Status.NO_SOLUTION : Status.INFEASIBLE;
+            result.bestBound = direction * (openBound + objectiveConstant);
+            return result;
+        }
+
+        result.status = (!limitReached || withinGap(incumbentValue, openBound)) ? Status.OPTIMAL : Status.FEASIBLE;
+        result.objectiveValue = direction * (incumbentValue + objectiveConstant);
+        result.bestBound = direction * (Math.max(incumbentValue, openBound) + objectiveConstant);
+        return result;
+    }
+
+    private boolean canImprove(double incumbentValue, double bound) {
+        return bound > incumbentValue + Math.max(FEASIBILITY_TOLERANCE, relativeGap * Math.abs(incumbentValue));
+    }
+
+    private boolean withinGap(double incumbentValue, double bound) {
+        return !canImprove(incumbentValue, bound);
+    }
+
+    private static double bestOpenBound(ArrayDeque<Node> open) {
+        double bound = Double.NEGATIVE_INFINITY;
+        for (Node node : open) bound = Math.max(bound, node.parentBound);
+        return bound;
+    }
+
+    private boolean isFeasible(ADLinearModel model, double[] lower, double[] upper, double[] x) {
+        for (int j = 0; j < x.length; j++) {
+            if (x[j] < lower[j] - FEASIBILITY_TOLERANCE || x[j] > upper[j] + FEASIBILITY_TOLERANCE) return false;
+            if (model.isInteger(j) && Math.abs(x[j] - Math.rint(x[j])) > integralityTolerance) return false;
+        }
+        int[] rowStarts = model.getRowStarts();
+        int[] rowColumns = model.getRowColumns();
+        double[] rowValues = model.getRowValueArray();
+        for (int r = 0; r < model.getNumRows(); r++) {
+            double activity = 0;
+            for (int k = rowStarts[r]; k < rowStarts[r + 1]; k++) activity += rowValues[k] * x[rowColumns[k]];
+            double tolerance = FEASIBILITY_TOLERANCE * Math.max(1, Math.abs(activity));
+            if (activity < model.getRowLower(r) - tolerance || activity > model.getRowUpper(r) + tolerance)
+                return false;
+        }
+        return true;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int j = 0; j < a.length; j++) sum += a[j] * b[j];
+        return sum;
+    }
+
+    private static class Node {
+        double[] lower;
+        double[] upper;
+        double parentBound;
+
+        Node(double[] lower, double[] upper, double parentBound) {
+            this.lower = lower;
+            this.upper = upper;
+            this.parentBound = parentBound;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package mco.alphadelta.implementation;
+
+import ilog.concert.*;
+import ilog.cplex.IloCplex;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Pairs a CPLEX solver with the LP matrix of the model it holds, so that several independent copies
+ * of the same model can be solved at once.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADCPLEXInstance {
+
+    private IloCplex cplex = null;
+    private IloLPMatrix lpMatrix = null;
+
+    /**
+     * Wraps a solver whose model has already been loaded.
+     *
+     * @param cplex    the solver
+     * @param lpMatrix the LP matrix of the solver's model
+     */
+    public ADCPLEXInstance(IloCplex cplex, IloLPMatrix lpMatrix) {
+        this.cplex = cplex;
+        this.lpMatrix = lpMatrix;
+    }
+
+    /**
+     * Creates a new solver and imports the model into it. Columns are numbered as in every other
+     * instance that imports the same model file.
+     *
+     * @param mcoModel the model file
+     * @throws IloException if CPLEX cannot be created or the model cannot be imported
+     */
+    public ADCPLEXInstance(File mcoModel) throws IloException {
+        this.cplex = new IloCplex();
+        this.cplex.importModel(mcoModel.getAbsolutePath());
+        this.lpMatrix = (IloLPMatrix) this.cplex.LPMatrixIterator().next();
+    }
+
+    /**
+     * Creates a new solver and loads the parsed model into it. Columns are numbered as in the parsed model.
+     *
+     * @param model the parsed model
+     * @throws IloException if CPLEX cannot be created or the model cannot be loaded
+     */
+    public ADCPLEXInstance(ADLinearModel model) throws IloException {
+        this.cplex = new IloCplex();
+        this.lpMatrix = loadModel(this.cplex, model);
+    }
+
+    /**
+     * Loads a parsed model into the given (empty) solver as a single LP matrix, so that column j of the
+     * matrix is column j of the model. The rows are added first with their bounds, and the columns are then
+     * added with their nonzeros in one call from the model's column-major (CSC) arrays.
+     *
+     * @return the LP matrix holding the model
+     */
+    public static IloLPMatrix loadModel(IloCplex cplex, ADLinearModel model) throws IloException {
+        int numColumns = model.getNumColumns();
+        int numRows = model.getNumRows();
+
+        // the rows, with no nonzeros yet
+        double[] rowLowers = new double[numRows];
+        double[] rowUppers = new double[numRows];
+        for (int r = 0; r < numRows; r++) {
+            rowLowers[r] = toCplexBound(model.getRowLower(r));
+            rowUppers[r] = toCplexBound(model.getRowUpper(r));
+        }
+        IloLPMatrix lpMatrix = cplex.addLPMatrix();
+        lpMatrix.addRows(rowLowers, rowUppers, new int[numRows][0], new double[numRows][0]);
+
+        // the columns, with their nonzeros
+        double[] columnLowers = new double[numColumns];
+        double[] columnUppers = new double[numColumns];
+        IloNumVarType[] columnTypes = new IloNumVarType[numColumns];
+        String[] columnNames = new String[numColumns];
+        for (int j = 0; j < numColumns; j++) {
+            columnLowers[j] = toCplexBound(model.getColumnLower(j));
+            columnUppers[j] = toCplexBound(model.getColumnUpper(j));
+            columnTypes[j] = model.isInteger(j) ? IloNumVarType.Int : IloNumVarType.Float;
+            columnNames[j] = model.getColumnName(j);
+        }
+        IloNumVar[] vars = cplex.numVarArray(numColumns, columnLowers, columnUppers, columnTypes, columnNames);
+
+        int[] columnStarts = model.getColumnStarts();
+        int[] columnRows = model.getColumnRows();
+        double[] columnValues = model.getColumnValueArray();
+        int[][] indices = new int[numColumns][];
+        double[][] values = new double[numColumns][];
+        for (int j = 0; j < numColumns; j++) {
+            indices[j] = Arrays.copyOfRange(columnRows, columnStarts[j], columnStarts[j + 1]);
+            values[j] = Arrays.copyOfRange(columnValues, columnStarts[j], columnStarts[j + 1]);
+        }
+        lpMatrix.addCols(vars, indices, values);
+
+        // the objective
+        int[] objectiveIndices = model.getObjectiveIndices();
+        double[] objectiveValues = model.getObjectiveValues();
+        IloNumVar[] objectiveVars = new IloNumVar[objectiveIndices.length];
+        for (int k = 0; k < objectiveIndices.length; k++) objectiveVars[k] = vars[objectiveIndices[k]];
+        IloNumExpr objectiveExpr = cplex.scalProd(objectiveValues, objectiveVars);
+        if (model.getObjectiveConstant() != 0) objectiveExpr = cplex.sum(model.getObjectiveConstant(), objectiveExpr);
+        cplex.addObjective(model.isMaximize() ? IloObjectiveSense.Maximize : IloObjectiveSense.Minimize,
+                objectiveExpr, model.getObjectiveName());
+
+        return lpMatrix;
+    }
+
+    /**
+     * Finds the objectives of a model loaded into CPLEX (see ADObjectiveDiscovery), numbering the columns as in
+     * the given LP matrix.
+     */
+    public static ADObjectiveDiscovery discoverObjectives(IloObjective objective, IloLPMatrix lpMatrix) throws IloException {
+        IloLinearNumExpr expr = (IloLinearNumExpr) objective.getExpr();
+
+        // count the terms first so that the arrays are allocated once
+        int numTerms = 0;
+        for (IloLinearNumExprIterator it = expr.linearIterator(); it.hasNext(); it.next()) numTerms++;
+
+        ADObjectiveDiscovery discovery = new ADObjectiveDiscovery(lpMatrix.getNcols(), numTerms);
+        IloLinearNumExprIterator it = expr.linearIterator();
+        while (it.hasNext()) {
+            IloNumVar var = it.nextNumVar();
+            int column = lpMatrix.getIndex(var);
+            if (column < 0) {
+                System.out.println("Objective variable " + var.getName() + " is not in the LP matrix; it is ignored.");
+                continue;
+            }
+            discovery.addTerm(column, var.getName(), it.getValue());
+        }
+        discovery.finish(objective.getSense() == IloObjectiveSense.Maximize);
+        return discovery;
+    }
+
+    private static double toCplexBound(double bound) {
+        if (bound == Double.POSITIVE_INFINITY) return Double.MAX_VALUE;
+        if (bound == Double.NEGATIVE_INFINITY) return -Double.MAX_VALUE;
+        return bound;
+    }
+
+    public IloCplex getCplex() {
+        return cplex;
+    }
+
+    public IloLPMatrix getLPMatrix() {
+        return lpMatrix;
+    }
+
+    /**
+     * Releases the solver and its model.
+     */
+    public void end() {
+        this.cplex.end();
+    }
+}
@@ -0,0 +1,262 @@
+package mco.alphadelta.implementation;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The state of a frontier run from which it can be resumed without repeating the ideal solution construction:
+ * the ideal, nadir and delta values of the objectives, the improved ideal solutions, the frontier points found
+ * so far (from which the indicator constraints are rebuilt) and the incumbent of the latest point. For a run
+ * with the box engine, the points held by its archive are also stored with the box in which each was found
+ * optimal, so that the engine can pass over those boxes again without solving them.
+ * <p>
+ * The checkpoint is rewritten whenever the checkpoint interval has passed (see saveIfDue), by writing a
+ * temporary file and moving it over the previous checkpoint, so a run killed while writing still leaves the
+ * previous checkpoint intact.
+ * <p>
+ * Layout (big-endian, as written by DataOutputStream):
+ * <pre>
+ * int MAGIC, int VERSION, int numObjectives, UTF name (per objective), int numModelColumns,
+ * double[numObjectives] ideals, nadirs and deltas,
+ * per objective: vector ideal solution,
+ * int numPoints, double[numObjectives] (per point), vector last incumbent,
+ * int numArchiveEntries, double[numObjectives] point, lower and upper bounds (per entry)
+ * </pre>
+ * where a vector is an int length (-1 for none) followed by that many doubles.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADCheckpoint {
+
+    public static final int MAGIC = 0x4144434B; // "ADCK"
+    public static final int VERSION = 1;
+    public static final String FILE_NAME = "Checkpoint.adck";
+
+    private String[] objectiveNames = null;
+    private int numModelColumns = -1;
+    private double[] ideals = null;
+    private double[] nadirs = null;
+    private double[] deltas = null;
+    private double[][] idealSolutions = null;
+    private ArrayList<double[]> points = new ArrayList<>();
+    private double[] lastIncumbent = null;
+    private ArrayList<double[][]> archiveEntries = new ArrayList<>();
+
+    private File file = null;
+    private double intervalSeconds = 0;
+    private long lastSaveNanos = 0;
+
+    private ADCheckpoint() {
+    }
+
+    /**
+     * Captures the objective space once its ideal, nadir and delta values are known.
+     *
+     * @param numModelColumns the number of columns of the model before any indicator columns were added
+     */
+    public ADCheckpoint(ADObjectiveSpace objectiveSpace, int numModelColumns, double[][] idealSolutions) {
+        this.objectiveNames = objectiveSpace.getNames();
+        this.numModelColumns = numModelColumns;
+        this.ideals = objectiveSpace.getIdeals();
+        this.nadirs = objectiveSpace.getNadirs();
+        this.deltas = objectiveSpace.getDeltas();
+        this.idealSolutions = idealSolutions.clone();
+    }
+
+    /**
+     * Sets the file the checkpoint is saved to, and how often saveIfDue saves it.
+     *
+     * @param intervalSeconds the least time between saves, or 0 to never save
+     */
+    public void setFile(File file, double intervalSeconds) {
+        this.file = file;
+        this.intervalSeconds = intervalSeconds;
+        this.lastSaveNanos = System.nanoTime();
+    }
+
+    /**
+     * Assigns the stored ideal, nadir and delta values to the objective space of the same model.
+     *
+     * @throws IOException if the checkpoint was written for a model with other objectives or columns
+     */
+    public void restoreObjectiveSpace(ADObjectiveSpace objectiveSpace, int numModelColumns) throws IOException {
+        if (!Arrays.equals(objectiveSpace.getNames(), objectiveNames))
+            throw new IOException("The checkpoint's objectives " + Arrays.toString(objectiveNames)
+                    + " are not those of the model, " + Arrays.toString(objectiveSpace.getNames()));
+        if (numModelColumns != this.numModelColumns)
+            throw new IOException("The checkpoint was written for a model with " + this.numModelColumns
+                    + " columns, but the model has " + numModelColumns);
+
+        for (int i = 0; i < objectiveNames.length; i++) {
+            objectiveSpace.setIdeal(i, ideals[i]);
+            objectiveSpace.setNadir(i, nadirs[i]);
+            objectiveSpace.setDelta(i, deltas[i]);
+        }
+    }
+
+    public double[][] getIdealSolutions() {
+        return idealSolutions.clone();
+    }
+
+    /**
+     * @return the frontier points, in natural (unoriented) objective values, in the order they were found
+     */
+    public ArrayList<double[]> getPoints() {
+        return points;
+    }
+
+    public void addPoint(double[] point) {
+        points.add(point.clone());
+    }
+
+    /**
+     * @return the values of the LP matrix columns at the latest frontier point, or null if not stored
+     */
+    public double[] getLastIncumbent() {
+        return lastIncumbent;
+    }
+
+    public void setLastIncumbent(double[] lastIncumbent) {
+        this.lastIncumbent = (lastIncumbent != null) ? lastIncumbent.clone() : null;
+    }
+
+    /**
+     * @return the archive entries of a box engine run, each holding the oriented point and the lower and upper
+     * bounds of its box
+     */
+    public ArrayList<double[][]> getArchiveEntries() {
+        return archiveEntries;
+    }
+
+    public void setArchiveEntries(ArrayList<double[][]> archiveEntries) {
+        this.archiveEntries = archiveEntries;
+    }
+
+    /**
+     * @return true if the checkpoint is saved and the interval has passed since it was last saved
+     */
+    public boolean isDue() {
+        return file != null && intervalSeconds > 0 && (System.nanoTime() - lastSaveNanos) / 1e9 >= intervalSeconds;
+    }
+
+    /**
+     * Saves the checkpoint if the interval has passed since it was last saved.
+     */
+    public void saveIfDue() {
+        if (isDue()) save();
+    }
+
+    /**
+     * Saves the checkpoint now. A failure to save is reported but does not stop the run.
+     */
+    public void save() {
+        if (file == null || intervalSeconds <= 0) return;
+        try {
+            write(file);
+            lastSaveNanos = System.nanoTime();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file beside the given one and moves it into place.
+     */
+    public void write(File checkpointFile) throws IOException {
+        File temporaryFile = new File(checkpointFile.getPath() + ".tmp");
+        try (FileOutputStream fileOut = new FileOutputStream(temporaryFile);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(objectiveNames.length);
+            for (String name : objectiveNames) out.writeUTF(name);
+            out.writeInt(numModelColumns);
+            writeValues(out, ideals);
+            writeValues(out, nadirs);
+            writeValues(out, deltas);
+            for (double[] solution : idealSolutions) writeVector(out, solution);
+
+            out.writeInt(points.size());
+            for (double[] point : points) writeValues(out, point);
+            writeVector(out, lastIncumbent);
+
+            out.writeInt(archiveEntries.size());
+            for (double[][] entry : archiveEntries)
+                for (double[] values : entry) writeValues(out, values);
+
+            out.flush();
+            fileOut.getFD().sync();
+        }
+
+        try {
+            Files.move(temporaryFile.toPath(), checkpointFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a checkpoint written by this class.
+     */
+    public static ADCheckpoint read(File checkpointFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(checkpointFile), 1 << 16))) {
+            if (in.readInt() != MAGIC)
+                throw new IOException(checkpointFile + " is not a checkpoint file");
+            int version = in.readInt();
+            if (version != VERSION)
+                throw new IOException("Unsupported checkpoint version " + version);
+
+            ADCheckpoint checkpoint = new ADCheckpoint();
+            int numObjectives = in.readInt();
+            checkpoint.objectiveNames = new String[numObjectives];
+            for (int i = 0; i < numObjectives; i++) checkpoint.objectiveNames[i] = in.readUTF();
+            checkpoint.numModelColumns = in.readInt();
+            checkpoint.ideals = readValues(in, numObjectives);
+            checkpoint.nadirs = readValues(in, numObjectives);
+            checkpoint.deltas = readValues(in, numObjectives);
+            checkpoint.idealSolutions = new double[numObjectives][];
+            for (int i = 0; i < numObjectives; i++) checkpoint.idealSolutions[i] = readVector(in);
+
+            int numPoints = in.readInt();
+            for (int p = 0; p < numPoints; p++) checkpoint.points.add(readValues(in, numObjectives));
+            checkpoint.lastIncumbent = readVector(in);
+
+            int numEntries = in.readInt();
+            for (int e = 0; e < numEntries; e++)
+                checkpoint.archiveEntries.add(new double[][]{readValues(in, numObjectives),
+                        readValues(in, numObjectives), readValues(in, numObjectives)});
+            return checkpoint;
+        }
+    }
+
+    private static void writeValues(DataOutputStream out, double[] values) throws IOException {
+        for (double value : values) out.writeDouble(value);
+    }
+
+    private static void writeVector(DataOutputStream out, double[] vector) throws IOException {
+        if (vector == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(vector.length);
+        writeValues(out, vector);
+    }
+
+    private static double[] readValues(DataInputStream in, int count) throws IOException {
+        double[] values = new double[count];
+        for (int k = 0; k < count; k++) values[k] = in.readDouble();
+        return values;
+    }
+
+    private static double[] readVector(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return (length < 0) ? null : readValues(in, length);
+    }
+}
@@ -0,0 +1,124 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.metrics.ADKDTree;
+
+import java.util.ArrayList;
+
+/**
+ * A thread-safe archive of the nondominated frontier points found so far. Points are stored oriented so that
+ * every objective is maximized. Each point remembers the box (objective bounds) in which it was found optimal,
+ * so that boxes already covered by an earlier solve can be recognized without solving them again.
+ * <p>
+ * The points are held in a k-d tree, so that dominance tests and box lookups do not scan the whole archive.
+ * If duplicate tolerances are given, a point that differs from a point already held by no more than the
+ * tolerance in every objective (without dominating it) is treated as a duplicate and not added.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierArchive {
+
+    private double[] tolerances = null;
+    private ADKDTree tree = null;
+    private ArrayList<double[]> boxLowerBounds = new ArrayList<>();
+    private ArrayList<double[]> boxUpperBounds = new ArrayList<>();
+
+    public ADFrontierArchive() {
+    }
+
+    /**
+     * @param tolerances the duplicate tolerance of each objective (see ADNondominatedFilter.tolerancesFromDeltas)
+     */
+    public ADFrontierArchive(double[] tolerances) {
+        this.tolerances = tolerances.clone();
+    }
+
+    /**
+     * Adds the point to the archive unless it is dominated by (or equal to) a point already held, or is a
+     * duplicate of one. Points the new one dominates are removed.
+     *
+     * @param point   the objective values, oriented for maximization
+     * @param boxLower the lower bounds of the box in which the point was found optimal
+     * @param boxUpper the upper bounds of that box
+     * @return true if the point was added
+     */
+    public synchronized boolean add(double[] point, double[] boxLower, double[] boxUpper) {
+        if (tree == null) tree = new ADKDTree(point.length);
+        if (tree.anyWeaklyDominating(point)) return false;
+
+        if (tolerances != null) {
+            double[] lower = new double[point.length];
+            double[] upper = new double[point.length];
+            for (int i = 0; i < point.length; i++) {
+                lower[i] = point[i] - tolerances[i];
+                upper[i] = point[i] + tolerances[i];
+            }
+            // a nearby point that the new one dominates is replaced rather than making the new one a duplicate
+            for (int id : tree.findInBox(lower, upper))
+                if (!weaklyDominates(point, tree.getPoint(id))) return false;
+        }
+
+        for (int id : tree.findWeaklyDominated(point)) tree.remove(id);
+
+        tree.add(point);
+        boxLowerBounds.add(boxLower.clone());
+        boxUpperBounds.add(boxUpper.clone());
+        return true;
+    }
+
+    /**
+     * Looks for a point that was found optimal in a box enclosing the given one and that lies inside the
+     * given box. Such a point is also optimal for the given box, so the box need not be solved.
+     *
+     * @return the point, or null if there is none
+     */
+    public synchronized double[] findOptimumFor(double[] boxLower, double[] boxUpper) {
+        if (tree == null) return null;
+        for (int id : tree.findInBox(boxLower, boxUpper)) {
+            if (encloses(boxLowerBounds.get(id), boxUpperBounds.get(id), boxLower, boxUpper))
+                return tree.getPoint(id).clone();
+        }
+        return null;
+    }
+
+    /**
+     * @return copies of the points held, in the order they were added
+     */
+    public synchronized ArrayList<double[]> getPoints() {
+        ArrayList<double[]> copies = new ArrayList<>();
+        if (tree == null) return copies;
+        for (int id = 0; id < boxLowerBounds.size(); id++)
+            if (!tree.isRemoved(id)) copies.add(tree.getPoint(id).clone());
+        return copies;
+    }
+
+    /**
+     * @return copies of the points held, each with the bounds of the box in which it was found optimal, as
+     * {point, boxLower, boxUpper}, in the order they were added
+     */
+    public synchronized ArrayList<double[][]> getEntries() {
+        ArrayList<double[][]> entries = new ArrayList<>();
+        if (tree == null) return entries;
+        for (int id = 0; id < boxLowerBounds.size(); id++)
+            if (!tree.isRemoved(id))
+                entries.add(new double[][]{tree.getPoint(id).clone(), boxLowerBounds.get(id).clone(), boxUpperBounds.get(id).clone()});
+        return entries;
+    }
+
+    public synchronized int size() {
+        return (tree == null) ? 0 : tree.size();
+    }
+
+    private static boolean weaklyDominates(double[] a, double[] b) {
+        for (int i = 0; i < a.length; i++)
+            if (a[i] < b[i]) return false;
+        return true;
+    }
+
+    private static boolean encloses(double[] outerLower, double[] outerUpper, double[] innerLower, double[] innerUpper) {
+        for (int i = 0; i < outerLower.length; i++)
+            if (innerLower[i] < outerLower[i] || innerUpper[i] > outerUpper[i]) return false;
+        return true;
+    }
+}
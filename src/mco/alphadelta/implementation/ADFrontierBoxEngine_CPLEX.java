@@ -0,0 +1,433 @@
+package mco.alphadelta.implementation;
+
+import ilog.concert.IloConversion;
+import ilog.concert.IloException;
+import ilog.concert.IloLPMatrix;
+import ilog.concert.IloLinearNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloNumVarType;
+import ilog.concert.IloObjectiveSense;
+import ilog.cplex.IloCplex;
+import mco.alphadelta.metrics.ADNondominatedFilter;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+/**
+ * Generates the efficient frontier in parallel by splitting the objective space into disjoint boxes.
+ * <p>
+ * Each box bounds the non-principal objectives. Solving a box with the alpha-tilted frontier objective gives
+ * a frontier point, and the part of the box in which further points may lie (some non-principal objective
+ * better than the point's value plus its delta) is split into disjoint child boxes. These are exactly the
+ * regions the indicator constraints of the sequential algorithm carve up, but here they are independent
+ * and are handed to a pool of workers, each with its own copy of the model. A shared archive of the points
+ * found so far prunes boxes whose optimum is already known.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierBoxEngine_CPLEX {
+
+    /**
+     * Receives the frontier points as they are found, with the values of the LP matrix columns at each.
+     * Calls are made from a single thread.
+     */
+    public interface PointHandler {
+        /**
+         * @param solverSeconds the solver time spent by all workers since the previous point
+         * @return false to stop generating the frontier; boxes already being solved are finished, and any
+         * new points they find are still passed on
+         */
+        boolean newPoint(double[] objectiveValues, double[] solution, double solverSeconds);
+    }
+
+    /**
+     * The relative gap kept between the upper bound of a box and the lower bound of its sibling.
+     */
+    private static final double BOUNDARY_TOLERANCE = 1e-6;
+
+    private File mcoModel = null;
+    private ADLinearModel parsedModel = null;
+    private int numWorkers = 1;
+    private int threadsPerWorker = 0;
+    private ADSolverCPLEXParameters cplexParameters = null;
+    private File solFileDirectory = null;
+    private ADSolveBudgetScheduler budgetScheduler = null;
+    private ADRelaxationPrescreen prescreen = null;
+
+    private int numObjectives = -1;
+    private int[] objectiveColumns = null;
+    private boolean[] maximize = null;
+    private double[] frontierWeights = null;
+    private double[] orientedIdeals = null;
+    private double[] deltas = null;
+
+    private ADFrontierArchive archive = null;
+    private int boxCounter = 0;
+
+    /**
+     * @param mcoModel         the model file, imported once per worker unless a parsed model is set
+     * @param objectiveColumns the LP matrix column of each objective
+     * @param maximize         whether each objective is maximized
+     * @param frontierWeights  the coefficient of each objective in the frontier objective function
+     * @param ideals           the ideal value of each objective
+     * @param deltas           the delta value of each objective (the principal objective's is ignored)
+     */
+    public ADFrontierBoxEngine_CPLEX(File mcoModel, int[] objectiveColumns, boolean[] maximize,
+                                     double[] frontierWeights, double[] ideals, double[] deltas) {
+        this.mcoModel = mcoModel;
+        this.numObjectives = objectiveColumns.length;
+        this.objectiveColumns = objectiveColumns.clone();
+        this.maximize = maximize.clone();
+        this.frontierWeights = frontierWeights.clone();
+        this.deltas = deltas.clone();
+
+        this.orientedIdeals = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++)
+            this.orientedIdeals[i] = orient(i, ideals[i]);
+
+        // points closer than half a delta in every objective are the same frontier point
+        double[] frontierDeltas = this.deltas.clone();
+        frontierDeltas[0] = 0;
+        this.archive = new ADFrontierArchive(ADNondominatedFilter.tolerancesFromDeltas(frontierDeltas));
+    }
+
+    /**
+     * @param numWorkers       the number of boxes solved at the same time
+     * @param threadsPerWorker the number of threads each worker's solver may use, or 0 to keep the configured value
+     */
+    public void setWorkers(int numWorkers, int threadsPerWorker) {
+        this.numWorkers = Math.max(1, numWorkers);
+        this.threadsPerWorker = threadsPerWorker;
+    }
+
+    /**
+     * Sets the parsed model to load into each worker instead of importing the model file, or null to import it.
+     */
+    public void setParsedModel(ADLinearModel parsedModel) {
+        this.parsedModel = parsedModel;
+    }
+
+    public void setSolverParameters(ADSolverCPLEXParameters cplexParameters) {
+        this.cplexParameters = cplexParameters;
+    }
+
+    /**
+     * Sets the directory in which a solution file is written for every solved box, or null to write none.
+     */
+    public void setSolFileDirectory(File solFileDirectory) {
+        this.solFileDirectory = solFileDirectory;
+    }
+
+    /**
+     * Sets the scheduler that gives each box its time limit and gap when it is handed out. Without one, boxes are
+     * solved with the configured solver parameters.
+     */
+    public void setBudgetScheduler(ADSolveBudgetScheduler budgetScheduler) {
+        this.budgetScheduler = budgetScheduler;
+    }
+
+    /**
+     * Sets the pre-screen that records the outcomes of solving each box's LP relaxation first: a box whose
+     * relaxation is infeasible holds no point, and its MIP is not solved. Without one, every box's MIP is solved.
+     */
+    public void setRelaxationPrescreen(ADRelaxationPrescreen prescreen) {
+        this.prescreen = prescreen;
+    }
+
+    public ADFrontierArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Seeds the archive with the entries of an interrupted run (see ADCheckpoint.getArchiveEntries). Boxes
+     * settled by those points are split again without being solved, and the points are not passed on again.
+     */
+    public void restoreArchive(ArrayList<double[][]> entries) {
+        for (double[][] entry : entries) archive.add(entry[0], entry[1], entry[2]);
+    }
+
+    /**
+     * Explores the objective space until every box has been solved or pruned.
+     *
+     * @param handler receives each new nondominated point, in natural (unoriented) objective values
+     * @return the number of boxes solved
+     */
+    public int generateFrontier(PointHandler handler) throws IloException {
+        ExecutorService executor = Executors.newFixedThreadPool(numWorkers);
+        BlockingQueue<Worker> availableWorkers = new LinkedBlockingQueue<>();
+        ArrayList<Worker> workers = new ArrayList<>();
+        int boxesSolved = 0;
+        double solverSeconds = 0;
+        boolean stopped = false;
+
+        try {
+            // load the model into every worker alongside each other
+            ArrayList<Future<Worker>> newWorkers = new ArrayList<>();
+            for (int w = 0; w < numWorkers; w++)
+                newWorkers.add(executor.submit(() -> new Worker((parsedModel != null)
+                        ? new ADCPLEXInstance(parsedModel) : new ADCPLEXInstance(mcoModel))));
+            for (Future<Worker> newWorker : newWorkers) {
+                workers.add(newWorker.get());
+                availableWorkers.add(workers.get(workers.size() - 1));
+            }
+
+            CompletionService<BoxResult> completionService = new ExecutorCompletionService<>(executor);
+            ArrayDeque<Box> unsolvedBoxes = new ArrayDeque<>();
+            unsolvedBoxes.add(new Box(unbounded(-Double.MAX_VALUE), unbounded(Double.MAX_VALUE), null));
+            int pending = 0;
+
+            while (true) {
+                // hand out every box that cannot be settled from the archive
+                while (!stopped && !unsolvedBoxes.isEmpty()) {
+                    Box box = unsolvedBoxes.poll();
+                    if (isEmpty(box)) continue;
+
+                    // a point already found optimal in an enclosing box that lies in this one is also its optimum
+                    double[] knownOptimum = archive.findOptimumFor(box.lower, box.upper);
+                    if (knownOptimum != null) {
+                        unsolvedBoxes.addAll(split(box, knownOptimum, box.parentSolution));
+                        continue;
+                    }
+
+                    if (budgetScheduler != null && budgetScheduler.isExhausted()) {
+                        System.out.println("The solve budget of " + budgetScheduler.getBudgetSeconds()
+                                + " seconds is spent. Frontier generation stopped.");
+                        stopped = true;
+                        break;
+                    }
+                    double timeLimit = (budgetScheduler != null)
+                            ? budgetScheduler.getPointTimeLimit(unsolvedBoxes.size() + pending + 1) : Double.NaN;
+                    double gap = (budgetScheduler != null) ? budgetScheduler.getPointGap() : Double.NaN;
+
+                    completionService.submit(() -> {
+                        Worker worker = availableWorkers.take();
+                        try {
+                            return worker.solve(box, timeLimit, gap);
+                        } finally {
+                            availableWorkers.put(worker);
+                        }
+                    });
+                    pending++;
+                }
+                if (pending == 0) break;
+
+                BoxResult result = completionService.take().get();
+                pending--;
+                boxesSolved++;
+                solverSeconds += result.solverSeconds;
+                // every box is charged to the budget, including those solved after the last point is found
+                if (budgetScheduler != null) budgetScheduler.recordSolve(result.solverSeconds);
+                if (result.point == null) continue;
+
+                if (archive.add(result.point, result.box.lower, result.box.upper)) {
+                    if (!handler.newPoint(unorient(result.point), result.solution, solverSeconds)) stopped = true;
+                    solverSeconds = 0;
+                }
+                if (!stopped) unsolvedBoxes.addAll(split(result.box, result.point, result.solution));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            IloException interrupted = new IloException("Frontier generation was interrupted");
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IloException) throw (IloException) e.getCause();
+            IloException failed = new IloException("A frontier box solve failed: " + e.getCause());
+            failed.initCause(e.getCause());
+            throw failed;
+        } finally {
+            executor.shutdownNow();
+            for (Worker worker : workers) worker.instance.end();
+        }
+
+        return boxesSolved;
+    }
+
+    /**
+     * Splits the part of the box in which points not dominated by the given point may lie into disjoint
+     * boxes: the i-th child requires objective i to improve on the point by its delta, while every earlier
+     * non-principal objective falls short of that by more than the tolerance, so that a point on the shared
+     * boundary belongs to one child only.
+     */
+    private ArrayList<Box> split(Box box, double[] point, double[] solution) {
+        ArrayList<Box> children = new ArrayList<>();
+        for (int i = 1; i < numObjectives; i++) {
+            double[] lower = box.lower.clone();
+            double[] upper = box.upper.clone();
+            lower[i] = Math.max(lower[i], point[i] + deltas[i]);
+            for (int j = 1; j < i; j++)
+                upper[j] = Math.min(upper[j], belowBoundary(point[j] + deltas[j]));
+            children.add(new Box(lower, upper, solution));
+        }
+        return children;
+    }
+
+    /**
+     * @return a value just below the given lower bound of a sibling box, by the boundary tolerance
+     */
+    private static double belowBoundary(double boundary) {
+        return boundary - BOUNDARY_TOLERANCE * Math.max(1, Math.abs(boundary));
+    }
+
+    /**
+     * A box is empty if some objective would have to pass its ideal value, or its bounds have crossed.
+     */
+    private boolean isEmpty(Box box) {
+        for (int i = 1; i < numObjectives; i++)
+            if (box.lower[i] > orientedIdeals[i] || box.lower[i] >= box.upper[i]) return true;
+        return false;
+    }
+
+    private double[] unbounded(double value) {
+        double[] bounds = new double[numObjectives];
+        Arrays.fill(bounds, value);
+        return bounds;
+    }
+
+    private double orient(int objective, double value) {
+        return maximize[objective] ? value : -value;
+    }
+
+    private double[] unorient(double[] orientedPoint) {
+        double[] point = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) point[i] = orient(i, orientedPoint[i]);
+        return point;
+    }
+
+    /**
+     * Bounds on the (oriented) objectives, along with the solution of the box it was split from,
+     * which serves as a MIP start.
+     */
+    private static class Box {
+        double[] lower;
+        double[] upper;
+        double[] parentSolution;
+
+        Box(double[] lower, double[] upper, double[] parentSolution) {
+            this.lower = lower;
+            this.upper = upper;
+            this.parentSolution = parentSolution;
+        }
+    }
+
+    private static class BoxResult {
+        Box box;
+        double[] point;
+        double[] solution;
+        double solverSeconds;
+
+        BoxResult(Box box, double[] point, double[] solution, double solverSeconds) {
+            this.box = box;
+            this.point = point;
+            this.solution = solution;
+            this.solverSeconds = solverSeconds;
+        }
+    }
+
+    /**
+     * A copy of the model with the frontier objective function set, which solves one box at a time.
+     */
+    private class Worker {
+        ADCPLEXInstance instance;
+        IloNumVar[] objectiveVars;
+        double[] originalLBs;
+        double[] originalUBs;
+
+        Worker(ADCPLEXInstance instance) throws IloException {
+            this.instance = instance;
+            IloCplex cplex = instance.getCplex();
+            IloLPMatrix lpMatrix = instance.getLPMatrix();
+
+            if (cplexParameters != null)
+                ADAlgoSolver_CPLEX.assignSolverParameters(cplex, cplexParameters);
+            if (threadsPerWorker > 0)
+                cplex.setParam(IloCplex.IntParam.Threads, threadsPerWorker);
+
+            // set the frontier objective function and remember the original bounds of the objective columns
+            IloLinearNumExpr frontierObj = cplex.linearNumExpr();
+            objectiveVars = new IloNumVar[numObjectives];
+            originalLBs = new double[numObjectives];
+            originalUBs = new double[numObjectives];
+            for (int i = 0; i < numObjectives; i++) {
+                objectiveVars[i] = lpMatrix.getNumVar(objectiveColumns[i]);
+                originalLBs[i] = objectiveVars[i].getLB();
+                originalUBs[i] = objectiveVars[i].getUB();
+                frontierObj.addTerm(frontierWeights[i], objectiveVars[i]);
+            }
+            cplex.remove(cplex.getObjective());
+            cplex.add(cplex.objective(IloObjectiveSense.Maximize, frontierObj, "objective"));
+        }
+
+        /**
+         * @param timeLimit the time limit of the solve, or NaN to keep the configured one
+         * @param gap       the relative gap of the solve, or NaN to keep the configured one
+         */
+        BoxResult solve(Box box, double timeLimit, double gap) throws IloException {
+            IloCplex cplex = instance.getCplex();
+            if (!Double.isNaN(timeLimit))
+                cplex.setParam(IloCplex.DoubleParam.TiLim, Math.min(1e75, timeLimit));
+            if (!Double.isNaN(gap))
+                cplex.setParam(IloCplex.DoubleParam.EpGap, gap);
+
+            // bound the non-principal objectives to the box
+            for (int i = 1; i < numObjectives; i++) {
+                double lb = maximize[i] ? box.lower[i] : -box.upper[i];
+                double ub = maximize[i] ? box.upper[i] : -box.lower[i];
+                objectiveVars[i].setLB(Math.max(originalLBs[i], lb));
+                objectiveVars[i].setUB(Math.min(originalUBs[i], ub));
+            }
+
+            // the box's bounds are the thresholds its points must reach, so an infeasible relaxation rules it out
+            double screenSeconds = 0;
+            if (prescreen != null) {
+                long screenStart = System.nanoTime();
+                IloConversion relaxation = cplex.conversion(instance.getLPMatrix().getNumVars(), IloNumVarType.Float);
+                cplex.add(relaxation);
+                ADRelaxationPrescreen.Outcome outcome;
+                try {
+                    if (ADAlgoSolver_CPLEX.solveRelaxation(cplex))
+                        outcome = ADRelaxationPrescreen.Outcome.PASSED;
+                    else if (cplex.getStatus() == IloCplex.Status.Infeasible)
+                        outcome = ADRelaxationPrescreen.Outcome.INFEASIBLE;
+                    else
+                        outcome = ADRelaxationPrescreen.Outcome.INCONCLUSIVE;
+                } finally {
+                    cplex.remove(relaxation);
+                }
+                screenSeconds = (System.nanoTime() - screenStart) / 1e9;
+                prescreen.record(outcome, 1, screenSeconds);
+                if (outcome.skipsSolve()) return new BoxResult(box, null, null, screenSeconds);
+            }
+
+            // the parent box's solution lies outside this box, so CPLEX is asked to repair it
+            if (cplex.getNMIPStarts() > 0)
+                cplex.deleteMIPStarts(0, cplex.getNMIPStarts());
+            if (box.parentSolution != null)
+                cplex.addMIPStart(instance.getLPMatrix().getNumVars(), box.parentSolution, IloCplex.MIPStartEffort.Repair);
+
+            long solveStart = System.nanoTime();
+            boolean solved = cplex.solve();
+            double solverSeconds = screenSeconds + (System.nanoTime() - solveStart) / 1e9;
+            if (!solved) return new BoxResult(box, null, null, solverSeconds);
+
+            double[] solution = cplex.getValues(instance.getLPMatrix());
+            double[] point = new double[numObjectives];
+            for (int i = 0; i < numObjectives; i++)
+                point[i] = orient(i, solution[objectiveColumns[i]]);
+
+            if (solFileDirectory != null)
+                cplex.writeSolution(solFileDirectory.toString() + "/Soln_FrontierBox_" + nextBoxId() + ".sol");
+
+            return new BoxResult(box, point, solution, solverSeconds);
+        }
+    }
+
+    private synchronized int nextBoxId() {
+        return boxCounter++;
+    }
+}
@@ -0,0 +1,65 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.IADFrontierWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Sends the frontier to several writers at once: always OptimalSolutions.csv, plus the binary
+ * OptimalSolutions.adfr file if the algorithm parameters ask for it.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierWriterSet implements IADFrontierWriter {
+
+    public static final String CSV_FILE_NAME = "OptimalSolutions.csv";
+    public static final String BINARY_FILE_NAME = "OptimalSolutions.adfr";
+
+    private ArrayList<IADFrontierWriter> writers = new ArrayList<>();
+
+    public void addWriter(IADFrontierWriter writer) {
+        this.writers.add(writer);
+    }
+
+    /**
+     * Creates the writers requested by the algorithm parameters, writing into the given directory.
+     */
+    public static ADFrontierWriterSet forParameters(ADAlgoParameters algoParameters, File outputPath) {
+        ADFrontierWriterSet writerSet = new ADFrontierWriterSet();
+        writerSet.addWriter(new ADFrontierWriter_CSV(new File(outputPath, CSV_FILE_NAME)));
+        if (algoParameters != null && algoParameters.willPrintBinaryFrontier())
+            writerSet.addWriter(new ADFrontierWriter_Binary(new File(outputPath, BINARY_FILE_NAME),
+                    algoParameters.willPrintSolutionDeltas()));
+        return writerSet;
+    }
+
+    @Override
+    public void open(String[] objectiveNames) throws IOException {
+        for (IADFrontierWriter writer : writers) writer.open(objectiveNames);
+    }
+
+    @Override
+    public void writePoint(int solutionIndex, double[] objectiveValues, double[] solution) throws IOException {
+        for (IADFrontierWriter writer : writers) writer.writePoint(solutionIndex, objectiveValues, solution);
+    }
+
+    /**
+     * Closes every writer, even if some fail; the first failure is rethrown.
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (IADFrontierWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+            }
+        }
+        if (failure != null) throw failure;
+    }
+}
@@ -0,0 +1,165 @@
+package mco.alphadelta.implementation;
+
+import java.io.*;
+import java.util.ArrayList;
+
+/**
+ * Writes the frontier in a compact binary format, stored by column: each batch of points is written as a
+ * block holding the solution indices, then all the values of the first objective, then all the values
+ * of the second, and so on. Optionally, each point's solution vector is stored as the columns whose values
+ * changed since the previous point's solution (the first point is compared with all zeros), which keeps
+ * the full solutions of a long run in a fraction of the space of one solution file per point.
+ * <p>
+ * Layout (big-endian, as written by DataOutputStream):
+ * <pre>
+ * header: int MAGIC, int VERSION, int numObjectives, UTF name (per objective), boolean hasSolutions
+ * block:  int count (0 ends the file), int[count] solution indices, double[count] values (per objective),
+ *         and, if hasSolutions, per point: int length, int numChanged, int[numChanged] columns,
+ *         double[numChanged] values
+ * </pre>
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierWriter_Binary extends ADAsyncFrontierWriter {
+
+    public static final int MAGIC = 0x41444652; // "ADFR"
+    public static final int VERSION = 1;
+
+    /**
+     * The contents of a binary frontier file.
+     */
+    public static class Frontier {
+        public String[] objectiveNames;
+        public int[] solutionIndices;
+        public double[][] points;
+        public double[][] solutions;
+    }
+
+    private File binaryFile = null;
+    private boolean writeSolutions = false;
+    private DataOutputStream out = null;
+    private double[] previousSolution = new double[0];
+
+    /**
+     * @param binaryFile     the file to write
+     * @param writeSolutions whether to store the solution vector of each point (as changes from the previous one)
+     */
+    public ADFrontierWriter_Binary(File binaryFile, boolean writeSolutions) {
+        this.binaryFile = binaryFile;
+        this.writeSolutions = writeSolutions;
+    }
+
+    @Override
+    protected boolean needsSolutions() {
+        return writeSolutions;
+    }
+
+    @Override
+    protected void writeHeader(String[] objectiveNames) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(binaryFile), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(objectiveNames.length);
+        for (String name : objectiveNames) out.writeUTF(name);
+        out.writeBoolean(writeSolutions);
+        out.flush();
+    }
+
+    @Override
+    protected void writeBatch(ArrayList<FrontierPoint> batch) throws IOException {
+        int count = batch.size();
+        out.writeInt(count);
+        for (FrontierPoint point : batch) out.writeInt(point.solutionIndex);
+
+        int numObjectives = batch.get(0).objectiveValues.length;
+        for (int i = 0; i < numObjectives; i++)
+            for (FrontierPoint point : batch) out.writeDouble(point.objectiveValues[i]);
+
+        if (!writeSolutions) return;
+        for (FrontierPoint point : batch) {
+            double[] solution = (point.solution != null) ? point.solution : previousSolution;
+
+            // the solution grows as indicator columns are added, so columns past the previous length count as 0
+            int numChanged = 0;
+            for (int j = 0; j < solution.length; j++)
+                if (solution[j] != valueAt(previousSolution, j)) numChanged++;
+
+            out.writeInt(solution.length);
+            out.writeInt(numChanged);
+            for (int j = 0; j < solution.length; j++)
+                if (solution[j] != valueAt(previousSolution, j)) out.writeInt(j);
+            for (int j = 0; j < solution.length; j++)
+                if (solution[j] != valueAt(previousSolution, j)) out.writeDouble(solution[j]);
+            previousSolution = solution;
+        }
+    }
+
+    private static double valueAt(double[] values, int j) {
+        return (j < values.length) ? values[j] : 0;
+    }
+
+    @Override
+    protected void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    protected void closeOutput() throws IOException {
+        if (out == null) return;
+        out.writeInt(0);
+        out.close();
+        out = null;
+    }
+
+    /**
+     * Reads a frontier written by this class, rebuilding the full solution vectors if they were stored.
+     */
+    public static Frontier read(File binaryFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(binaryFile), 1 << 16))) {
+            if (in.readInt() != MAGIC)
+                throw new IOException(binaryFile + " is not a binary frontier file");
+            int version = in.readInt();
+            if (version != VERSION)
+                throw new IOException("Unsupported binary frontier version " + version);
+
+            Frontier frontier = new Frontier();
+            int numObjectives = in.readInt();
+            frontier.objectiveNames = new String[numObjectives];
+            for (int i = 0; i < numObjectives; i++) frontier.objectiveNames[i] = in.readUTF();
+            boolean hasSolutions = in.readBoolean();
+
+            ArrayList<Integer> indices = new ArrayList<>();
+            ArrayList<double[]> points = new ArrayList<>();
+            ArrayList<double[]> solutions = new ArrayList<>();
+            double[] previous = new double[0];
+
+            for (int count = in.readInt(); count > 0; count = in.readInt()) {
+                for (int p = 0; p < count; p++) indices.add(in.readInt());
+                double[][] block = new double[count][numObjectives];
+                for (int i = 0; i < numObjectives; i++)
+                    for (int p = 0; p < count; p++) block[p][i] = in.readDouble();
+                for (double[] point : block) points.add(point);
+
+                if (!hasSolutions) continue;
+                for (int p = 0; p < count; p++) {
+                    double[] solution = new double[in.readInt()];
+                    System.arraycopy(previous, 0, solution, 0, Math.min(previous.length, solution.length));
+                    int numChanged = in.readInt();
+                    int[] columns = new int[numChanged];
+                    for (int k = 0; k < numChanged; k++) columns[k] = in.readInt();
+                    for (int k = 0; k < numChanged; k++) solution[columns[k]] = in.readDouble();
+                    solutions.add(solution);
+                    previous = solution;
+                }
+            }
+
+            frontier.solutionIndices = new int[indices.size()];
+            for (int p = 0; p < indices.size(); p++) frontier.solutionIndices[p] = indices.get(p);
+            frontier.points = points.toArray(new double[0][]);
+            frontier.solutions = hasSolutions ? solutions.toArray(new double[0][]) : null;
+            return frontier;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package mco.alphadelta.implementation;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Writes the frontier to a CSV file with a SolutionIndex column followed by one column per objective,
+ * the format of OptimalSolutions.csv.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierWriter_CSV extends ADAsyncFrontierWriter {
+
+    private File csvFile = null;
+    private BufferedWriter writer = null;
+
+    public ADFrontierWriter_CSV(File csvFile) {
+        this.csvFile = csvFile;
+    }
+
+    @Override
+    protected void writeHeader(String[] objectiveNames) throws IOException {
+        this.writer = new BufferedWriter(new FileWriter(csvFile));
+        StringBuilder header = new StringBuilder("SolutionIndex");
+        for (String objective : objectiveNames) header.append(", ").append(objective);
+        writer.write(header.toString());
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    protected void writeBatch(ArrayList<FrontierPoint> batch) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (FrontierPoint point : batch) {
+            lines.append(point.solutionIndex);
+            for (double objVal : point.objectiveValues) lines.append(", ").append(objVal);
+            lines.append(System.lineSeparator());
+        }
+        writer.write(lines.toString());
+    }
+
+    @Override
+    protected void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    protected void closeOutput() throws IOException {
+        if (writer != null) writer.close();
+    }
+}
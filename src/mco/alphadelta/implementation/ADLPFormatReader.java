@@ -0,0 +1,452 @@
+package mco.alphadelta.implementation;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Reads models written in the CPLEX LP file format into an ADLinearModel. The objective, constraint
+ * (including ranged constraints), bounds, generals and binaries sections are supported. Quadratic terms,
+ * indicator constraints, semi-continuous variables and SOS sections are not, and cause an
+ * ADModelFormatException.
+ * <p>
+ * The file is read one line at a time, and every section is parsed as its tokens arrive. The terms of each
+ * expression are collected in primitive arrays and appended straight to the model's CSR storage.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADLPFormatReader {
+
+    private enum Section {OBJECTIVE, CONSTRAINTS, BOUNDS, GENERALS, BINARIES, END}
+
+    private enum TokenType {NAME, NUMBER, SIGN, OPERATOR, COLON, KEYWORD, EOF}
+
+    private static class Token {
+        TokenType type;
+        String text;
+        double number;
+        Section section;
+        int line;
+
+        Token(TokenType type, String text, int line) {
+            this.type = type;
+            this.text = text;
+            this.line = line;
+        }
+    }
+
+    private BufferedReader reader = null;
+    private int lineNumber = 0;
+    private ArrayList<Token> pending = new ArrayList<>();
+    private boolean endOfFile = false;
+    private ADLinearModel model = null;
+
+    // terms of the expression being read; termPositions[column] is the column's position in the
+    // expression, or -1 if it does not appear
+    private int numTerms = 0;
+    private int[] termColumns = new int[64];
+    private double[] termValues = new double[64];
+    private int[] termPositions = new int[0];
+
+    private ADLPFormatReader(BufferedReader reader) {
+        this.reader = reader;
+        this.model = new ADLinearModel();
+    }
+
+    /**
+     * Reads the model in the given LP file.
+     *
+     * @throws ADModelFormatException if the file is malformed or uses an unsupported feature
+     * @throws IOException            if the file cannot be read
+     */
+    public static ADLinearModel read(File lpFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(lpFile))) {
+            return new ADLPFormatReader(reader).readModel();
+        }
+    }
+
+    private ADLinearModel readModel() throws IOException {
+        Token token = next();
+        if (token.type != TokenType.KEYWORD || token.section != Section.OBJECTIVE)
+            throw new ADModelFormatException("Expected the objective sense (Maximize or Minimize)", token.line);
+
+        while (token.type != TokenType.EOF) {
+            if (token.type != TokenType.KEYWORD)
+                throw new ADModelFormatException("Unexpected '" + token.text + "'", token.line);
+
+            switch (token.section) {
+                case OBJECTIVE:
+                    model.setMaximize(token.text.toLowerCase().startsWith("max"));
+                    readObjective();
+                    break;
+                case CONSTRAINTS:
+                    readConstraints();
+                    break;
+                case BOUNDS:
+                    readBounds();
+                    break;
+                case GENERALS:
+                    for (Token name = next(); name.type == TokenType.NAME; name = next())
+                        model.setInteger(model.getOrAddColumn(name.text), true);
+                    pushBack();
+                    break;
+                case BINARIES:
+                    for (Token name = next(); name.type == TokenType.NAME; name = next()) {
+                        int column = model.getOrAddColumn(name.text);
+                        model.setInteger(column, true);
+                        model.setColumnLower(column, 0);
+                        model.setColumnUpper(column, 1);
+                    }
+                    pushBack();
+                    break;
+                case END:
+                    return model;
+            }
+            token = next();
+        }
+        return model;
+    }
+
+    private void readObjective() throws IOException {
+        if (peek(0).type == TokenType.NAME && peek(1).type == TokenType.COLON) {
+            model.setObjectiveName(next().text);
+            next();
+        }
+
+        double constant = readExpression();
+        for (int k = 0; k < numTerms; k++)
+            model.addObjectiveTerm(termColumns[k], termValues[k]);
+        model.setObjectiveConstant(constant);
+    }
+
+    private void readConstraints() throws IOException {
+        while (peek(0).type != TokenType.KEYWORD && peek(0).type != TokenType.EOF) {
+            String name = "c" + (model.getNumRows() + 1);
+            if (peek(0).type == TokenType.NAME && peek(1).type == TokenType.COLON) {
+                name = next().text;
+                next();
+            }
+
+            // a ranged constraint starts with its lower bound: lower <= expression <= upper
+            double rangeLower = Double.NaN;
+            if (isNumberThenOperator()) {
+                rangeLower = readNumber();
+                Token op = next();
+                if (!op.text.equals("<="))
+                    throw new ADModelFormatException("Ranged constraints must be written lower <= expression <= upper", op.line);
+            }
+
+            double constant = readExpression();
+            Token op = next();
+            if (op.type != TokenType.OPERATOR)
+                throw new ADModelFormatException("Expected a comparison operator in constraint " + name, op.line);
+            double rhs = readNumber() - constant;
+
+            double lower, upper;
+            if (!Double.isNaN(rangeLower)) {
+                if (!op.text.equals("<="))
+                    throw new ADModelFormatException("Ranged constraints must be written lower <= expression <= upper", op.line);
+                lower = rangeLower - constant;
+                upper = rhs;
+            } else if (op.text.equals("<=")) {
+                lower = Double.NEGATIVE_INFINITY;
+                upper = rhs;
+            } else if (op.text.equals(">=")) {
+                lower = rhs;
+                upper = Double.POSITIVE_INFINITY;
+            } else {
+                lower = rhs;
+                upper = rhs;
+            }
+
+            model.addRow(name, lower, upper, termColumns, termValues, numTerms);
+        }
+    }
+
+    private void readBounds() throws IOException {
+        while (peek(0).type != TokenType.KEYWORD && peek(0).type != TokenType.EOF) {
+            if (peek(0).type == TokenType.NAME && !isInfinity(peek(0))) {
+                // name free | name op value
+                Token name = next();
+                int column = model.getOrAddColumn(name.text);
+                Token op = next();
+                if (op.type == TokenType.NAME && op.text.equalsIgnoreCase("free")) {
+                    model.setColumnLower(column, Double.NEGATIVE_INFINITY);
+                    model.setColumnUpper(column, Double.POSITIVE_INFINITY);
+                    continue;
+                }
+                if (op.type != TokenType.OPERATOR)
+                    throw new ADModelFormatException("Malformed bound for " + name.text, op.line);
+                setBound(column, op.text, readNumber(), false);
+            } else {
+                // value op name [op value]
+                double value = readNumber();
+                Token op = next();
+                Token name = next();
+                if (op.type != TokenType.OPERATOR || name.type != TokenType.NAME)
+                    throw new ADModelFormatException("Malformed bound", op.line);
+                int column = model.getOrAddColumn(name.text);
+                setBound(column, op.text, value, true);
+                if (peek(0).type == TokenType.OPERATOR) {
+                    Token secondOp = next();
+                    setBound(column, secondOp.text, readNumber(), false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a bound written either as "column op value" or, if valueFirst, as "value op column".
+     */
+    private void setBound(int column, String op, double value, boolean valueFirst) {
+        if (op.equals("=")) {
+            model.setColumnLower(column, value);
+            model.setColumnUpper(column, value);
+        } else if (op.equals("<=") != valueFirst) {
+            model.setColumnUpper(column, value);
+        } else {
+            model.setColumnLower(column, value);
+        }
+    }
+
+    /**
+     * Reads a sum of terms up to the next operator or section into the term arrays, merging repeated columns.
+     *
+     * @return the sum of the constant terms
+     */
+    private double readExpression() throws IOException {
+        clearTerms();
+        double constant = 0;
+        while (true) {
+            Token token = peek(0);
+            if (token.type != TokenType.SIGN && token.type != TokenType.NUMBER && token.type != TokenType.NAME)
+                return constant;
+
+            double sign = 1;
+            while (peek(0).type == TokenType.SIGN)
+                if (next().text.equals("-")) sign = -sign;
+
+            double coefficient = 1;
+            boolean hasCoefficient = false;
+            if (peek(0).type == TokenType.NUMBER) {
+                coefficient = next().number;
+                hasCoefficient = true;
+            }
+
+            if (peek(0).type == TokenType.NAME) {
+                int column = model.getOrAddColumn(next().text);
+                double value = sign * coefficient;
+                if (value != 0) addTerm(column, value);
+            } else if (hasCoefficient) {
+                constant += sign * coefficient;
+            } else {
+                throw new ADModelFormatException("Expected a term", peek(0).line);
+            }
+        }
+    }
+
+    private void addTerm(int column, double value) {
+        if (column >= termPositions.length) {
+            int oldLength = termPositions.length;
+            termPositions = Arrays.copyOf(termPositions, Math.max(2 * oldLength, column + 1));
+            Arrays.fill(termPositions, oldLength, termPositions.length, -1);
+        }
+        if (termPositions[column] >= 0) {
+            termValues[termPositions[column]] += value;
+            return;
+        }
+        if (numTerms == termColumns.length) {
+            termColumns = Arrays.copyOf(termColumns, 2 * numTerms);
+            termValues = Arrays.copyOf(termValues, 2 * numTerms);
+        }
+        termPositions[column] = numTerms;
+        termColumns[numTerms] = column;
+        termValues[numTerms++] = value;
+    }
+
+    private void clearTerms() {
+        for (int k = 0; k < numTerms; k++) termPositions[termColumns[k]] = -1;
+        numTerms = 0;
+    }
+
+    private double readNumber() throws IOException {
+        double sign = 1;
+        while (peek(0).type == TokenType.SIGN)
+            if (next().text.equals("-")) sign = -sign;
+
+        Token token = next();
+        if (token.type == TokenType.NUMBER) return sign * token.number;
+        if (isInfinity(token)) return sign * Double.POSITIVE_INFINITY;
+        throw new ADModelFormatException("Expected a number but found '" + token.text + "'", token.line);
+    }
+
+    private boolean isNumberThenOperator() throws IOException {
+        int k = 0;
+        while (peek(k).type == TokenType.SIGN) k++;
+        return (peek(k).type == TokenType.NUMBER || isInfinity(peek(k))) && peek(k + 1).type == TokenType.OPERATOR;
+    }
+
+    private static boolean isInfinity(Token token) {
+        return token.type == TokenType.NAME
+                && (token.text.equalsIgnoreCase("inf") || token.text.equalsIgnoreCase("infinity"));
+    }
+
+    /*
+     * Tokenizer
+     */
+
+    private Token lastToken = null;
+
+    private Token next() throws IOException {
+        fill(0);
+        lastToken = pending.remove(0);
+        return lastToken;
+    }
+
+    private void pushBack() {
+        pending.add(0, lastToken);
+    }
+
+    private Token peek(int k) throws IOException {
+        fill(k);
+        return pending.get(k);
+    }
+
+    private void fill(int k) throws IOException {
+        while (pending.size() <= k) {
+            if (endOfFile) {
+                pending.add(new Token(TokenType.EOF, "", lineNumber));
+                continue;
+            }
+            String line = reader.readLine();
+            if (line == null) {
+                endOfFile = true;
+                continue;
+            }
+            lineNumber++;
+            tokenizeLine(line);
+        }
+    }
+
+    private void tokenizeLine(String line) throws ADModelFormatException {
+        int comment = line.indexOf('\\');
+        if (comment >= 0) line = line.substring(0, comment);
+
+        ArrayList<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int n = line.length();
+        while (i < n) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '+' || c == '-') {
+                tokens.add(new Token(TokenType.SIGN, String.valueOf(c), lineNumber));
+                i++;
+            } else if (c == ':') {
+                tokens.add(new Token(TokenType.COLON, ":", lineNumber));
+                i++;
+            } else if (c == '<' || c == '>' || c == '=') {
+                int start = i++;
+                if (i < n && (line.charAt(i) == '=' || line.charAt(i) == '<' || line.charAt(i) == '>')) i++;
+                String op = line.substring(start, i);
+                if (op.contains("<")) op = "<=";
+                else if (op.contains(">")) op = ">=";
+                else op = "=";
+                tokens.add(new Token(TokenType.OPERATOR, op, lineNumber));
+            } else if (c == '[' || c == ']' || c == '^' || c == '*' || c == '/') {
+                throw new ADModelFormatException("Quadratic terms are not supported", lineNumber);
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < n && Character.isDigit(line.charAt(i + 1)))) {
+                int start = i;
+                while (i < n && (Character.isDigit(line.charAt(i)) || line.charAt(i) == '.')) i++;
+                if (i < n && (line.charAt(i) == 'e' || line.charAt(i) == 'E')) {
+                    int exponent = i + 1;
+                    if (exponent < n && (line.charAt(exponent) == '+' || line.charAt(exponent) == '-')) exponent++;
+                    if (exponent < n && Character.isDigit(line.charAt(exponent))) {
+                        i = exponent;
+                        while (i < n && Character.isDigit(line.charAt(i))) i++;
+                    }
+                }
+                Token token = new Token(TokenType.NUMBER, line.substring(start, i), lineNumber);
+                try {
+                    token.number = Double.parseDouble(token.text);
+                } catch (NumberFormatException e) {
+                    throw new ADModelFormatException("Malformed number '" + token.text + "'", lineNumber);
+                }
+                tokens.add(token);
+            } else {
+                int start = i;
+                while (i < n && !Character.isWhitespace(line.charAt(i)) && "+-:<>=[]^*".indexOf(line.charAt(i)) < 0) i++;
+                tokens.add(new Token(TokenType.NAME, line.substring(start, i), lineNumber));
+            }
+        }
+
+        // section keywords are only recognized at the start of a line
+        if (!tokens.isEmpty() && tokens.get(0).type == TokenType.NAME) {
+            Token first = tokens.get(0);
+            String word = first.text.toLowerCase();
+            String second = (tokens.size() > 1) ? tokens.get(1).text.toLowerCase() : "";
+            Section section = null;
+            int keywordLength = 1;
+            switch (word) {
+                case "maximize":
+                case "maximise":
+                case "maximum":
+                case "max":
+                case "minimize":
+                case "minimise":
+                case "minimum":
+                case "min":
+                    section = Section.OBJECTIVE;
+                    break;
+                case "subject":
+                case "such":
+                    if (second.equals("to") || second.equals("that")) {
+                        section = Section.CONSTRAINTS;
+                        keywordLength = 2;
+                    }
+                    break;
+                case "st":
+                case "s.t.":
+                case "st.":
+                    section = Section.CONSTRAINTS;
+                    break;
+                case "bounds":
+                case "bound":
+                    section = Section.BOUNDS;
+                    break;
+                case "generals":
+                case "general":
+                case "gen":
+                    section = Section.GENERALS;
+                    break;
+                case "binaries":
+                case "binary":
+                case "bin":
+                    section = Section.BINARIES;
+                    break;
+                case "end":
+                    section = Section.END;
+                    break;
+                case "semi":
+                case "semis":
+                case "semi-continuous":
+                case "sos":
+                    throw new ADModelFormatException("Section '" + first.text + "' is not supported", lineNumber);
+                default:
+                    break;
+            }
+            if (section != null) {
+                for (int k = 1; k < keywordLength; k++) tokens.remove(1);
+                first.type = TokenType.KEYWORD;
+                first.section = section;
+            }
+        }
+
+        pending.addAll(tokens);
+    }
+}
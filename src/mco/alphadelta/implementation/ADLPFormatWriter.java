@@ -0,0 +1,134 @@
+package mco.alphadelta.implementation;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Writes an ADLinearModel in the CPLEX LP file format, so that a model built in memory can be given to any
+ * solver that reads model files. Everything ADLPFormatReader reads is written: the objective (with its
+ * constant), equality, inequality and ranged constraints, bounds, and integer columns (under Binaries when
+ * bounded by 0 and 1, and under Generals otherwise). Long expressions are wrapped, as CPLEX limits the length
+ * of a line.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADLPFormatWriter {
+
+    private static final int TERMS_PER_LINE = 8;
+
+    private ADLPFormatWriter() {
+    }
+
+    public static void write(ADLinearModel model, File modelFile) throws IOException {
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(modelFile), 1 << 16)) {
+            out.write(model.isMaximize() ? "Maximize" : "Minimize");
+            out.newLine();
+            String objectiveName = (model.getObjectiveName() != null) ? model.getObjectiveName() : "obj";
+            StringBuilder objective = new StringBuilder(" ").append(objectiveName).append(":");
+            appendTerms(objective, model, model.getObjectiveIndices(), model.getObjectiveValues());
+            if (model.getObjectiveConstant() != 0) appendCoefficient(objective, model.getObjectiveConstant());
+            out.write(objective.toString());
+            out.newLine();
+
+            out.write("Subject To");
+            out.newLine();
+            for (int row = 0; row < model.getNumRows(); row++) {
+                double lower = model.getRowLower(row);
+                double upper = model.getRowUpper(row);
+                String rowName = (model.getRowName(row) != null) ? model.getRowName(row) : "c" + (row + 1);
+                StringBuilder line = new StringBuilder(" ").append(rowName).append(":");
+                if (lower > Double.NEGATIVE_INFINITY && upper < Double.POSITIVE_INFINITY && lower != upper)
+                    line.append(" ").append(number(lower)).append(" <=");
+                appendTerms(line, model, model.getRowIndices(row), model.getRowValues(row));
+                if (lower == upper) line.append(" = ").append(number(upper));
+                else if (upper < Double.POSITIVE_INFINITY) line.append(" <= ").append(number(upper));
+                else if (lower > Double.NEGATIVE_INFINITY) line.append(" >= ").append(number(lower));
+                else line.append(" <= ").append("+inf");
+                out.write(line.toString());
+                out.newLine();
+            }
+
+            out.write("Bounds");
+            out.newLine();
+            for (int column = 0; column < model.getNumColumns(); column++) {
+                if (isBinary(model, column)) continue;
+                String name = model.getColumnName(column);
+                double lower = model.getColumnLower(column);
+                double upper = model.getColumnUpper(column);
+                if (lower == Double.NEGATIVE_INFINITY && upper == Double.POSITIVE_INFINITY) {
+                    out.write(" " + name + " free");
+                } else if (lower == upper) {
+                    out.write(" " + name + " = " + number(lower));
+                } else if (lower == 0 && upper == Double.POSITIVE_INFINITY) {
+                    continue;
+                } else {
+                    out.write(" " + bound(lower) + " <= " + name + " <= " + bound(upper));
+                }
+                out.newLine();
+            }
+
+            writeColumns(out, model, "Generals", false);
+            writeColumns(out, model, "Binaries", true);
+            out.write("End");
+            out.newLine();
+        }
+    }
+
+    /**
+     * Writes the section listing the integer columns that are (or are not) binary, if there are any.
+     */
+    private static void writeColumns(BufferedWriter out, ADLinearModel model, String section, boolean binary)
+            throws IOException {
+        StringBuilder line = null;
+        int onLine = 0;
+        for (int column = 0; column < model.getNumColumns(); column++) {
+            if (!model.isInteger(column) || isBinary(model, column) != binary) continue;
+            if (line == null) {
+                out.write(section);
+                out.newLine();
+                line = new StringBuilder();
+            }
+            line.append(" ").append(model.getColumnName(column));
+            if (++onLine == TERMS_PER_LINE) {
+                out.write(line.toString());
+                out.newLine();
+                line.setLength(0);
+                onLine = 0;
+            }
+        }
+        if (line != null && line.length() > 0) {
+            out.write(line.toString());
+            out.newLine();
+        }
+    }
+
+    private static void appendTerms(StringBuilder line, ADLinearModel model, int[] indices, double[] values) {
+        for (int k = 0; k < indices.length; k++) {
+            if (k > 0 && k % TERMS_PER_LINE == 0) line.append(System.lineSeparator()).append("  ");
+            appendCoefficient(line, values[k]);
+            line.append(" ").append(model.getColumnName(indices[k]));
+        }
+    }
+
+    private static void appendCoefficient(StringBuilder line, double value) {
+        line.append(value < 0 ? " - " : " + ").append(number(Math.abs(value)));
+    }
+
+    private static boolean isBinary(ADLinearModel model, int column) {
+        return model.isInteger(column) && model.getColumnLower(column) == 0 && model.getColumnUpper(column) == 1;
+    }
+
+    private static String bound(double value) {
+        if (value == Double.POSITIVE_INFINITY) return "+inf";
+        if (value == Double.NEGATIVE_INFINITY) return "-inf";
+        return number(value);
+    }
+
+    private static String number(double value) {
+        return (value == Math.rint(value) && Math.abs(value) < 1e15) ? Long.toString((long) value) : Double.toString(value);
+    }
+}
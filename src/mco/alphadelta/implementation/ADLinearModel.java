@@ -0,0 +1,394 @@
+package mco.alphadelta.implementation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A mixed-integer linear model held in primitive arrays: columns with bounds and integrality, rows of the
+ * form lower &lt;= a*x &lt;= upper (infinite bounds are given as Double.POSITIVE_INFINITY / NEGATIVE_INFINITY)
+ * and a linear objective. The constraint matrix is stored row-wise in compressed sparse row (CSR) form;
+ * a compressed sparse column (CSC) copy is built on demand.
+ * <p>
+ * Columns and rows may be appended after the model is built, which is how the indicator variables and
+ * constraints of the alpha-delta algorithm are added. Arrays grow geometrically, so appending is amortized
+ * constant time per nonzero.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADLinearModel {
+
+    // columns
+    private int numColumns = 0;
+    private String[] columnNames = new String[16];
+    private double[] columnLowers = new double[16];
+    private double[] columnUppers = new double[16];
+    private boolean[] columnIntegers = new boolean[16];
+    private Map<String, Integer> columnIndices = new HashMap<>();
+
+    // rows, in CSR form: the nonzeros of row r are at positions rowStarts[r] to rowStarts[r + 1] - 1
+    private int numRows = 0;
+    private int numNonzeros = 0;
+    private String[] rowNames = new String[16];
+    private double[] rowLowers = new double[16];
+    private double[] rowUppers = new double[16];
+    private int[] rowStarts = new int[17];
+    private int[] rowColumns = new int[64];
+    private double[] rowValues = new double[64];
+
+    // CSC copy of the matrix, built on demand and discarded when the matrix changes
+    private int[] cscStarts = null;
+    private int[] cscRows = null;
+    private double[] cscValues = null;
+
+    // objective terms, in the order they were added
+    private boolean maximize = false;
+    private String objectiveName = "obj";
+    private int numObjectiveTerms = 0;
+    private int[] objectiveIndices = new int[8];
+    private double[] objectiveValues = new double[8];
+    private double objectiveConstant = 0;
+
+    /**
+     * Adds a column with the given bounds.
+     *
+     * @return the index of the new column
+     */
+    public int addColumn(String name, double lower, double upper, boolean integer) {
+        if (numColumns == columnNames.length) {
+            int capacity = 2 * numColumns;
+            columnNames = Arrays.copyOf(columnNames, capacity);
+            columnLowers = Arrays.copyOf(columnLowers, capacity);
+            columnUppers = Arrays.copyOf(columnUppers, capacity);
+            columnIntegers = Arrays.copyOf(columnIntegers, capacity);
+        }
+        int index = numColumns++;
+        columnNames[index] = name;
+        columnLowers[index] = lower;
+        columnUppers[index] = upper;
+        columnIntegers[index] = integer;
+        columnIndices.put(name, index);
+        cscStarts = null;
+        return index;
+    }
+
+    /**
+     * Returns the index of the named column, adding it with the default bounds [0, infinity)
+     * if it does not exist yet.
+     */
+    public int getOrAddColumn(String name) {
+        Integer index = columnIndices.get(name);
+        return (index != null) ? index : addColumn(name, 0, Double.POSITIVE_INFINITY, false);
+    }
+
+    /**
+     * @return the index of the named column, or -1 if there is no such column
+     */
+    public int getColumnIndex(String name) {
+        Integer index = columnIndices.get(name);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Adds a row lower &lt;= sum(values[k] * x[indices[k]]) &lt;= upper.
+     *
+     * @return the index of the new row
+     */
+    public int addRow(String name, double lower, double upper, int[] indices, double[] values) {
+        return addRow(name, lower, upper, indices, values, indices.length);
+    }
+
+    /**
+     * Adds a row from the first length entries of indices and values.
+     *
+     * @return the index of the new row
+     */
+    public int addRow(String name, double lower, double upper, int[] indices, double[] values, int length) {
+        if (numRows == rowNames.length) {
+            int capacity = 2 * numRows;
+            rowNames = Arrays.copyOf(rowNames, capacity);
+            rowLowers = Arrays.copyOf(rowLowers, capacity);
+            rowUppers = Arrays.copyOf(rowUppers, capacity);
+            rowStarts = Arrays.copyOf(rowStarts, capacity + 1);
+        }
+        if (numNonzeros + length > rowColumns.length) {
+            int capacity = Math.max(2 * rowColumns.length, numNonzeros + length);
+            rowColumns = Arrays.copyOf(rowColumns, capacity);
+            rowValues = Arrays.copyOf(rowValues, capacity);
+        }
+        System.arraycopy(indices, 0, rowColumns, numNonzeros, length);
+        System.arraycopy(values, 0, rowValues, numNonzeros, length);
+        numNonzeros += length;
+
+        int index = numRows++;
+        rowNames[index] = name;
+        rowLowers[index] = lower;
+        rowUppers[index] = upper;
+        rowStarts[numRows] = numNonzeros;
+        cscStarts = null;
+        return index;
+    }
+
+    /**
+     * Removes the given number of rows, starting with the row at index first.
+     */
+    public void removeRows(int first, int count) {
+        int end = first + count;
+        int removedNonzeros = rowStarts[end] - rowStarts[first];
+        System.arraycopy(rowColumns, rowStarts[end], rowColumns, rowStarts[first], numNonzeros - rowStarts[end]);
+        System.arraycopy(rowValues, rowStarts[end], rowValues, rowStarts[first], numNonzeros - rowStarts[end]);
+        System.arraycopy(rowNames, end, rowNames, first, numRows - end);
+        System.arraycopy(rowLowers, end, rowLowers, first, numRows - end);
+        System.arraycopy(rowUppers, end, rowUppers, first, numRows - end);
+        for (int r = end; r <= numRows; r++) rowStarts[r - count] = rowStarts[r] - removedNonzeros;
+        numRows -= count;
+        numNonzeros -= removedNonzeros;
+        cscStarts = null;
+    }
+
+    /**
+     * Removes the given number of columns, starting with the column at index first. The columns must not
+     * appear in any row or in the objective.
+     */
+    public void removeColumns(int first, int count) {
+        int end = first + count;
+        for (int j = first; j < end; j++) columnIndices.remove(columnNames[j]);
+        System.arraycopy(columnNames, end, columnNames, first, numColumns - end);
+        System.arraycopy(columnLowers, end, columnLowers, first, numColumns - end);
+        System.arraycopy(columnUppers, end, columnUppers, first, numColumns - end);
+        System.arraycopy(columnIntegers, end, columnIntegers, first, numColumns - end);
+        numColumns -= count;
+        for (int j = first; j < numColumns; j++) columnIndices.put(columnNames[j], j);
+        for (int k = 0; k < numNonzeros; k++) if (rowColumns[k] >= end) rowColumns[k] -= count;
+        for (int k = 0; k < numObjectiveTerms; k++) if (objectiveIndices[k] >= end) objectiveIndices[k] -= count;
+        cscStarts = null;
+    }
+
+    /**
+     * Replaces the objective with maximize/minimize sum(values[k] * x[indices[k]]).
+     */
+    public void setObjective(boolean maximize, int[] indices, double[] values) {
+        this.maximize = maximize;
+        this.numObjectiveTerms = 0;
+        for (int k = 0; k < indices.length; k++) addObjectiveTerm(indices[k], values[k]);
+        this.objectiveConstant = 0;
+    }
+
+    /**
+     * Adds a term to the objective. Terms are kept in the order they are added.
+     */
+    public void addObjectiveTerm(int column, double value) {
+        if (numObjectiveTerms == objectiveIndices.length) {
+            objectiveIndices = Arrays.copyOf(objectiveIndices, 2 * numObjectiveTerms);
+            objectiveValues = Arrays.copyOf(objectiveValues, 2 * numObjectiveTerms);
+        }
+        objectiveIndices[numObjectiveTerms] = column;
+        objectiveValues[numObjectiveTerms++] = value;
+    }
+
+    /**
+     * @return the objective coefficient of every column
+     */
+    public double[] getObjectiveCoefficients() {
+        double[] coefficients = new double[numColumns];
+        for (int k = 0; k < numObjectiveTerms; k++)
+            coefficients[objectiveIndices[k]] += objectiveValues[k];
+        return coefficients;
+    }
+
+    /**
+     * @return the columns of the objective's terms, in the order they were added
+     */
+    public int[] getObjectiveIndices() {
+        return Arrays.copyOf(objectiveIndices, numObjectiveTerms);
+    }
+
+    /**
+     * @return the coefficients of the objective's terms, in the order they were added
+     */
+    public double[] getObjectiveValues() {
+        return Arrays.copyOf(objectiveValues, numObjectiveTerms);
+    }
+
+    /**
+     * @return a deep copy of the model
+     */
+    public ADLinearModel copy() {
+        ADLinearModel copy = new ADLinearModel();
+        copy.numColumns = numColumns;
+        copy.columnNames = columnNames.clone();
+        copy.columnLowers = columnLowers.clone();
+        copy.columnUppers = columnUppers.clone();
+        copy.columnIntegers = columnIntegers.clone();
+        copy.columnIndices = new HashMap<>(columnIndices);
+        copy.numRows = numRows;
+        copy.numNonzeros = numNonzeros;
+        copy.rowNames = rowNames.clone();
+        copy.rowLowers = rowLowers.clone();
+        copy.rowUppers = rowUppers.clone();
+        copy.rowStarts = rowStarts.clone();
+        copy.rowColumns = rowColumns.clone();
+        copy.rowValues = rowValues.clone();
+        copy.maximize = maximize;
+        copy.objectiveName = objectiveName;
+        copy.numObjectiveTerms = numObjectiveTerms;
+        copy.objectiveIndices = objectiveIndices.clone();
+        copy.objectiveValues = objectiveValues.clone();
+        copy.objectiveConstant = objectiveConstant;
+        return copy;
+    }
+
+    /*
+     * Direct access to the CSR and CSC arrays. The arrays may be longer than the data they hold;
+     * they must not be modified.
+     */
+
+    /**
+     * @return the CSR row starts; row r occupies positions getRowStarts()[r] to getRowStarts()[r + 1] - 1
+     */
+    public int[] getRowStarts() {
+        return rowStarts;
+    }
+
+    public int[] getRowColumns() {
+        return rowColumns;
+    }
+
+    public double[] getRowValueArray() {
+        return rowValues;
+    }
+
+    /**
+     * @return the CSC column starts; column j occupies positions getColumnStarts()[j] to getColumnStarts()[j + 1] - 1
+     */
+    public int[] getColumnStarts() {
+        buildColumnMajor();
+        return cscStarts;
+    }
+
+    public int[] getColumnRows() {
+        buildColumnMajor();
+        return cscRows;
+    }
+
+    public double[] getColumnValueArray() {
+        buildColumnMajor();
+        return cscValues;
+    }
+
+    private synchronized void buildColumnMajor() {
+        if (cscStarts != null) return;
+
+        // count the nonzeros in each column, then place each row's entries (rows stay in order within a column)
+        int[] starts = new int[numColumns + 1];
+        for (int k = 0; k < numNonzeros; k++) starts[rowColumns[k] + 1]++;
+        for (int j = 0; j < numColumns; j++) starts[j + 1] += starts[j];
+
+        int[] next = Arrays.copyOf(starts, numColumns);
+        int[] rows = new int[numNonzeros];
+        double[] values = new double[numNonzeros];
+        for (int r = 0; r < numRows; r++) {
+            for (int k = rowStarts[r]; k < rowStarts[r + 1]; k++) {
+                int position = next[rowColumns[k]]++;
+                rows[position] = r;
+                values[position] = rowValues[k];
+            }
+        }
+
+        cscRows = rows;
+        cscValues = values;
+        cscStarts = starts;
+    }
+
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumNonzeros() {
+        return numNonzeros;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public double getColumnLower(int column) {
+        return columnLowers[column];
+    }
+
+    public double getColumnUpper(int column) {
+        return columnUppers[column];
+    }
+
+    public boolean isInteger(int column) {
+        return columnIntegers[column];
+    }
+
+    public void setColumnLower(int column, double lower) {
+        columnLowers[column] = lower;
+    }
+
+    public void setColumnUpper(int column, double upper) {
+        columnUppers[column] = upper;
+    }
+
+    public void setInteger(int column, boolean integer) {
+        columnIntegers[column] = integer;
+    }
+
+    public String getRowName(int row) {
+        return rowNames[row];
+    }
+
+    /**
+     * @return a copy of the columns of the row's nonzeros
+     */
+    public int[] getRowIndices(int row) {
+        return Arrays.copyOfRange(rowColumns, rowStarts[row], rowStarts[row + 1]);
+    }
+
+    /**
+     * @return a copy of the values of the row's nonzeros
+     */
+    public double[] getRowValues(int row) {
+        return Arrays.copyOfRange(rowValues, rowStarts[row], rowStarts[row + 1]);
+    }
+
+    public double getRowLower(int row) {
+        return rowLowers[row];
+    }
+
+    public double getRowUpper(int row) {
+        return rowUppers[row];
+    }
+
+    public boolean isMaximize() {
+        return maximize;
+    }
+
+    public void setMaximize(boolean maximize) {
+        this.maximize = maximize;
+    }
+
+    public String getObjectiveName() {
+        return objectiveName;
+    }
+
+    public void setObjectiveName(String objectiveName) {
+        this.objectiveName = objectiveName;
+    }
+
+    public double getObjectiveConstant() {
+        return objectiveConstant;
+    }
+
+    public void setObjectiveConstant(double objectiveConstant) {
+        this.objectiveConstant = objectiveConstant;
+    }
+}
@@ -0,0 +1,324 @@
+package mco.alphadelta.implementation;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads models written in the (free or fixed) MPS format into an ADLinearModel. The NAME, OBJSENSE, ROWS,
+ * COLUMNS (including integer markers), RHS, RANGES and BOUNDS sections are supported; names may not
+ * contain spaces. Quadratic sections, SOS sections and semi-continuous bounds cause an ADModelFormatException.
+ * <p>
+ * The first N row is the objective; any other N rows are dropped. Columns between INTORG and INTEND
+ * markers are integer with default bounds [0, infinity), as in CPLEX.
+ * <p>
+ * The COLUMNS section is read as (row, column, value) triplets into primitive arrays, which are bucketed
+ * by row into the model's CSR storage once the row bounds are known.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADMPSFormatReader {
+
+    private enum Section {NAME, OBJSENSE, ROWS, COLUMNS, RHS, RANGES, BOUNDS, ENDATA}
+
+    private BufferedReader reader = null;
+    private int lineNumber = 0;
+    private ADLinearModel model = null;
+
+    // constraint rows; N rows other than the objective are kept in rowIndices with index -2 so they can be skipped
+    private Map<String, Integer> rowIndices = new HashMap<>();
+    private int numRows = 0;
+    private String[] rowNames = new String[16];
+    private char[] rowTypes = new char[16];
+    private double[] rowRhs = new double[16];
+    private double[] rowRanges = new double[16];
+
+    // matrix entries, in the order they were read
+    private int numEntries = 0;
+    private int[] entryRows = new int[64];
+    private int[] entryColumns = new int[64];
+    private double[] entryValues = new double[64];
+
+    private ADMPSFormatReader(BufferedReader reader) {
+        this.reader = reader;
+        this.model = new ADLinearModel();
+    }
+
+    /**
+     * Reads the model in the given MPS file.
+     *
+     * @throws ADModelFormatException if the file is malformed or uses an unsupported feature
+     * @throws IOException            if the file cannot be read
+     */
+    public static ADLinearModel read(File mpsFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(mpsFile))) {
+            return new ADMPSFormatReader(reader).readModel();
+        }
+    }
+
+    private ADLinearModel readModel() throws IOException {
+        Arrays.fill(rowRanges, Double.NaN);
+        Section section = null;
+        String objectiveRow = null;
+        boolean inIntegerBlock = false;
+        boolean[] boundedColumns = new boolean[16];
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '*') continue;
+            String[] tokens = line.trim().split("\\s+");
+            if (tokens[0].isEmpty()) continue;
+
+            // section headers start in the first column
+            if (!Character.isWhitespace(line.charAt(0))) {
+                section = parseSection(tokens[0]);
+                if (section == Section.ENDATA) break;
+                if (section == Section.OBJSENSE && tokens.length > 1) model.setMaximize(isMaximize(tokens[1]));
+                continue;
+            }
+            if (section == null)
+                throw new ADModelFormatException("Data before the first section", lineNumber);
+
+            switch (section) {
+                case NAME:
+                    break;
+                case OBJSENSE:
+                    model.setMaximize(isMaximize(tokens[0]));
+                    break;
+                case ROWS:
+                    checkLength(tokens, 2, 2);
+                    char type = Character.toUpperCase(tokens[0].charAt(0));
+                    if (type == 'N') {
+                        if (objectiveRow == null) {
+                            objectiveRow = tokens[1];
+                            model.setObjectiveName(objectiveRow);
+                        } else rowIndices.put(tokens[1], -2);
+                    } else if (type == 'L' || type == 'G' || type == 'E') {
+                        addRow(tokens[1], type);
+                    } else {
+                        throw new ADModelFormatException("Unknown row type '" + tokens[0] + "'", lineNumber);
+                    }
+                    break;
+                case COLUMNS:
+                    if (tokens.length >= 3 && tokens[1].equalsIgnoreCase("'MARKER'")) {
+                        if (tokens[2].equalsIgnoreCase("'INTORG'")) inIntegerBlock = true;
+                        else if (tokens[2].equalsIgnoreCase("'INTEND'")) inIntegerBlock = false;
+                        break;
+                    }
+                    checkLength(tokens, 3, 5);
+                    int column = model.getColumnIndex(tokens[0]);
+                    if (column < 0) column = model.addColumn(tokens[0], 0, Double.POSITIVE_INFINITY, inIntegerBlock);
+                    for (int k = 1; k + 1 < tokens.length; k += 2)
+                        addEntry(tokens[k], objectiveRow, column, parseNumber(tokens[k + 1]));
+                    break;
+                case RHS:
+                    // the set name is optional: "[set] row value [row value]"
+                    for (int k = tokens.length % 2; k + 1 < tokens.length; k += 2) {
+                        double value = parseNumber(tokens[k + 1]);
+                        if (tokens[k].equals(objectiveRow)) model.setObjectiveConstant(-value);
+                        else rowRhs[getRow(tokens[k])] = value;
+                    }
+                    break;
+                case RANGES:
+                    for (int k = tokens.length % 2; k + 1 < tokens.length; k += 2)
+                        rowRanges[getRow(tokens[k])] = parseNumber(tokens[k + 1]);
+                    break;
+                case BOUNDS:
+                    if (boundedColumns.length < model.getNumColumns())
+                        boundedColumns = Arrays.copyOf(boundedColumns, model.getNumColumns());
+                    readBound(tokens, boundedColumns);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (objectiveRow == null)
+            throw new ADModelFormatException("The model has no objective (N) row", lineNumber);
+        buildRows();
+        return model;
+    }
+
+    private Section parseSection(String keyword) throws ADModelFormatException {
+        switch (keyword.toUpperCase()) {
+            case "NAME":
+                return Section.NAME;
+            case "OBJSENSE":
+            case "OBJSENCE":
+                return Section.OBJSENSE;
+            case "ROWS":
+                return Section.ROWS;
+            case "COLUMNS":
+                return Section.COLUMNS;
+            case "RHS":
+                return Section.RHS;
+            case "RANGES":
+                return Section.RANGES;
+            case "BOUNDS":
+                return Section.BOUNDS;
+            case "ENDATA":
+                return Section.ENDATA;
+            default:
+                throw new ADModelFormatException("Section '" + keyword + "' is not supported", lineNumber);
+        }
+    }
+
+    private static boolean isMaximize(String sense) {
+        return sense.toUpperCase().startsWith("MAX");
+    }
+
+    private void addRow(String name, char type) {
+        if (numRows == rowNames.length) {
+            int capacity = 2 * numRows;
+            rowNames = Arrays.copyOf(rowNames, capacity);
+            rowTypes = Arrays.copyOf(rowTypes, capacity);
+            rowRhs = Arrays.copyOf(rowRhs, capacity);
+            rowRanges = Arrays.copyOf(rowRanges, capacity);
+            Arrays.fill(rowRanges, numRows, capacity, Double.NaN);
+        }
+        rowIndices.put(name, numRows);
+        rowNames[numRows] = name;
+        rowTypes[numRows++] = type;
+    }
+
+    private int getRow(String name) throws ADModelFormatException {
+        Integer row = rowIndices.get(name);
+        if (row == null || row < 0) throw new ADModelFormatException("Unknown row '" + name + "'", lineNumber);
+        return row;
+    }
+
+    private void addEntry(String rowName, String objectiveRow, int column, double value) throws ADModelFormatException {
+        if (rowName.equals(objectiveRow)) {
+            if (value != 0) model.addObjectiveTerm(column, value);
+            return;
+        }
+        Integer row = rowIndices.get(rowName);
+        if (row == null) throw new ADModelFormatException("Unknown row '" + rowName + "'", lineNumber);
+        if (row < 0 || value == 0) return;
+
+        if (numEntries == entryRows.length) {
+            int capacity = 2 * numEntries;
+            entryRows = Arrays.copyOf(entryRows, capacity);
+            entryColumns = Arrays.copyOf(entryColumns, capacity);
+            entryValues = Arrays.copyOf(entryValues, capacity);
+        }
+        entryRows[numEntries] = row;
+        entryColumns[numEntries] = column;
+        entryValues[numEntries++] = value;
+    }
+
+    /**
+     * Reads "type [set] column [value]".
+     */
+    private void readBound(String[] tokens, boolean[] boundedColumns) throws ADModelFormatException {
+        String type = tokens[0].toUpperCase();
+        boolean hasValue = !(type.equals("FR") || type.equals("MI") || type.equals("PL")
+                || (type.equals("BV") && tokens.length < 4));
+        int columnToken = (tokens.length >= (hasValue ? 4 : 3)) ? 2 : 1;
+        checkLength(tokens, columnToken + (hasValue ? 2 : 1), columnToken + (hasValue ? 2 : 1));
+
+        int column = model.getColumnIndex(tokens[columnToken]);
+        if (column < 0) throw new ADModelFormatException("Unknown column '" + tokens[columnToken] + "'", lineNumber);
+        double value = hasValue ? parseNumber(tokens[columnToken + 1]) : 0;
+        boolean firstBound = !boundedColumns[column];
+        boundedColumns[column] = true;
+
+        switch (type) {
+            case "UP":
+            case "UI":
+                // a negative upper bound on an otherwise unbounded column frees its lower bound
+                if (value < 0 && firstBound && model.getColumnLower(column) == 0)
+                    model.setColumnLower(column, Double.NEGATIVE_INFINITY);
+                model.setColumnUpper(column, value);
+                if (type.equals("UI")) model.setInteger(column, true);
+                break;
+            case "LO":
+            case "LI":
+                model.setColumnLower(column, value);
+                if (type.equals("LI")) model.setInteger(column, true);
+                break;
+            case "FX":
+                model.setColumnLower(column, value);
+                model.setColumnUpper(column, value);
+                break;
+            case "FR":
+                model.setColumnLower(column, Double.NEGATIVE_INFINITY);
+                model.setColumnUpper(column, Double.POSITIVE_INFINITY);
+                break;
+            case "MI":
+                model.setColumnLower(column, Double.NEGATIVE_INFINITY);
+                break;
+            case "PL":
+                model.setColumnUpper(column, Double.POSITIVE_INFINITY);
+                break;
+            case "BV":
+                model.setInteger(column, true);
+                model.setColumnLower(column, 0);
+                model.setColumnUpper(column, 1);
+                break;
+            default:
+                throw new ADModelFormatException("Bound type '" + tokens[0] + "' is not supported", lineNumber);
+        }
+    }
+
+    /**
+     * Buckets the matrix entries by row and appends each row to the model with its bounds.
+     */
+    private void buildRows() {
+        int[] starts = new int[numRows + 1];
+        for (int k = 0; k < numEntries; k++) starts[entryRows[k] + 1]++;
+        for (int r = 0; r < numRows; r++) starts[r + 1] += starts[r];
+
+        int[] next = Arrays.copyOf(starts, numRows);
+        int[] columns = new int[numEntries];
+        double[] values = new double[numEntries];
+        for (int k = 0; k < numEntries; k++) {
+            int position = next[entryRows[k]]++;
+            columns[position] = entryColumns[k];
+            values[position] = entryValues[k];
+        }
+
+        for (int r = 0; r < numRows; r++) {
+            double rhs = rowRhs[r];
+            double range = Math.abs(rowRanges[r]);
+            double lower, upper;
+            switch (rowTypes[r]) {
+                case 'L':
+                    lower = Double.isNaN(range) ? Double.NEGATIVE_INFINITY : rhs - range;
+                    upper = rhs;
+                    break;
+                case 'G':
+                    lower = rhs;
+                    upper = Double.isNaN(range) ? Double.POSITIVE_INFINITY : rhs + range;
+                    break;
+                default:
+                    lower = (!Double.isNaN(range) && rowRanges[r] < 0) ? rhs - range : rhs;
+                    upper = (!Double.isNaN(range) && rowRanges[r] > 0) ? rhs + range : rhs;
+                    break;
+            }
+            model.addRow(rowNames[r], lower, upper,
+                    Arrays.copyOfRange(columns, starts[r], starts[r + 1]),
+                    Arrays.copyOfRange(values, starts[r], starts[r + 1]));
+        }
+    }
+
+    private double parseNumber(String text) throws ADModelFormatException {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new ADModelFormatException("Malformed number '" + text + "'", lineNumber);
+        }
+    }
+
+    private void checkLength(String[] tokens, int min, int max) throws ADModelFormatException {
+        if (tokens.length < min || tokens.length > max)
+            throw new ADModelFormatException("Malformed line", lineNumber);
+    }
+}
@@ -0,0 +1,23 @@
+package mco.alphadelta.implementation;
+
+import java.io.IOException;
+
+/**
+ * Signals that a model file is malformed or uses a feature the reader does not support.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADModelFormatException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ADModelFormatException(String message) {
+        super(message);
+    }
+
+    public ADModelFormatException(String message, int lineNumber) {
+        super(message + " (line " + lineNumber + ")");
+    }
+}
@@ -0,0 +1,30 @@
+package mco.alphadelta.implementation;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads a model file into an ADLinearModel, choosing the reader by the file's extension:
+ * MPS for .mps files, LP for everything else.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADModelReader {
+
+    private ADModelReader() {
+    }
+
+    /**
+     * Reads the given model file.
+     *
+     * @throws ADModelFormatException if the file is malformed or uses a feature the reader does not support
+     * @throws IOException            if the file cannot be read
+     */
+    public static ADLinearModel read(File modelFile) throws IOException {
+        if (modelFile.getName().toLowerCase().endsWith(".mps"))
+            return ADMPSFormatReader.read(modelFile);
+        return ADLPFormatReader.read(modelFile);
+    }
+}
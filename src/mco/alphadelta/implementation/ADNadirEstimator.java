@@ -0,0 +1,229 @@
+package mco.alphadelta.implementation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Estimates the nadir values of the objectives more tightly than the payoff table of the ideal solution
+ * construction does. The payoff table records the objective values of each objective's improved ideal solution,
+ * which may be dominated (each is solved only to the gap of the ideal solution construction), making the nadir
+ * values looser than they need be, and which with three or more objectives need not include the worst
+ * nondominated value of an objective, making them optimistic.
+ * <p>
+ * The modes are:
+ * <ul>
+ * <li>PAYOFF: the payoff table is kept as it is (the default).</li>
+ * <li>LEXICOGRAPHIC: for each objective, the lexicographic optima with that objective first and the others
+ * following in cyclic and in reverse cyclic order are found, and the nadir values are the worst values of these
+ * nondominated points. A lexicographic optimum that improves on an objective's ideal value replaces it. The
+ * nadir values are exact for two objectives.</li>
+ * <li>EXACT: for three objectives, the nadir value of each objective is its worst value over the nondominated
+ * points of the bi-objective problem of the other two, each completed by optimizing the objective last
+ * (Ehrgott and Tenfelde-Podehl, 2003). The nondominated points are enumerated with an epsilon constraint that
+ * requires each next point to improve on the last by more than SEARCH_TOLERANCE, so every one of them is found,
+ * and the search takes one lexicographic solve per point. With other numbers of objectives this is the
+ * lexicographic mode.</li>
+ * </ul>
+ * The solves are carried out by the solver through a LexicographicSolver, and stop when the run's budget is spent.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADNadirEstimator {
+
+    public enum Mode {
+        PAYOFF, LEXICOGRAPHIC, EXACT;
+
+        /**
+         * @throws IllegalArgumentException if the name is not that of a mode (in any case)
+         */
+        public static Mode parse(String name) {
+            return Mode.valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    /**
+     * The relative tolerance by which an objective held at its optimum in a lexicographic solve may fall short of it.
+     */
+    public static final double TOLERANCE = 1e-6;
+    /**
+     * The relative tolerance by which the exact search requires each point to improve on the last. It is wider
+     * than the drift of the objective values of an integer solution within the solvers' integrality tolerance,
+     * so that a solve does not find the same point again.
+     */
+    public static final double SEARCH_TOLERANCE = 1e-4;
+
+    /**
+     * Finds lexicographic optima of the model.
+     */
+    public interface LexicographicSolver {
+        /**
+         * Optimizes the objectives in the given order, holding each at its optimum (less the tolerance, see
+         * relaxedOptimum) while the next is optimized.
+         *
+         * @param order  the objectives in order of priority
+         * @param bounds for each objective, the value it must be no worse than, or NaN for none
+         * @return the values of the objectives at the lexicographic optimum, or null if none was found
+         */
+        double[] solve(int[] order, double[] bounds);
+    }
+
+    private final ADObjectiveSpace objectiveSpace;
+    private final LexicographicSolver solver;
+    private final ADSolveBudgetScheduler budgetScheduler;
+    private final int numObjectives;
+    private int numSolves = 0;
+
+    public ADNadirEstimator(ADObjectiveSpace objectiveSpace, LexicographicSolver solver,
+                            ADSolveBudgetScheduler budgetScheduler) {
+        this.objectiveSpace = objectiveSpace;
+        this.solver = solver;
+        this.budgetScheduler = budgetScheduler;
+        this.numObjectives = objectiveSpace.getNumObjectives();
+    }
+
+    /**
+     * @return true if the mode finds the exact nadir values of a model with the given number of objectives
+     */
+    public static boolean isExact(Mode mode, int numObjectives) {
+        if (mode == Mode.PAYOFF) return false;
+        return numObjectives <= 2 || (numObjectives == 3 && mode == Mode.EXACT);
+    }
+
+    /**
+     * @return the value an objective held at the given optimum must be no worse than
+     */
+    public static double relaxedOptimum(boolean maximize, double optimum) {
+        double tolerance = TOLERANCE * Math.max(1, Math.abs(optimum));
+        return maximize ? optimum - tolerance : optimum + tolerance;
+    }
+
+    /**
+     * Determines whether a frontier point ends the frontier because it has reached the principal objective's
+     * nadir value: with two objectives and exact nadir values, no nondominated point improves on its other
+     * objective.
+     */
+    public static boolean endsFrontier(ADObjectiveSpace objectiveSpace, double[] point) {
+        if (objectiveSpace.getNumObjectives() != 2) return false;
+        double nadir = objectiveSpace.getNadir(0);
+        return !Double.isNaN(nadir)
+                && !objectiveSpace.isBetter(0, point[0], relaxedOptimum(!objectiveSpace.isMaximize(0), nadir));
+    }
+
+    /**
+     * Replaces the nadir values of the objective space (and the ideal values the lexicographic solves improve on)
+     * with those of the mode. If a solve fails, the values found are merged into those of the payoff table,
+     * which are otherwise replaced.
+     *
+     * @return true if every solve succeeded
+     */
+    public boolean estimate(Mode mode) {
+        if (mode == Mode.PAYOFF) return true;
+        if (mode == Mode.EXACT && numObjectives > 3)
+            System.out.println("Exact nadir estimation is for three objectives; estimating the nadir values of "
+                    + numObjectives + " objectives lexicographically.");
+
+        ArrayList<double[]> points = new ArrayList<>();
+        // the worst value of each objective found by the exact search, if it is run
+        double[] exactNadirs = null;
+        boolean complete = lexicographicOptima(points);
+        if (complete && mode == Mode.EXACT && numObjectives == 3) {
+            exactNadirs = new double[numObjectives];
+            for (int i = 0; i < numObjectives && complete; i++) {
+                exactNadirs[i] = searchNadir(i, points);
+                complete = !Double.isNaN(exactNadirs[i]);
+            }
+        }
+
+        if (complete) {
+            for (int i = 0; i < numObjectives; i++) objectiveSpace.setNadir(i, Double.NaN);
+        } else {
+            System.out.println("Nadir estimation could not complete; keeping the worse of its and the payoff table's values.");
+        }
+        for (double[] point : points)
+            for (int i = 0; i < numObjectives; i++) objectiveSpace.updateNadir(i, point[i]);
+        if (complete && exactNadirs != null)
+            for (int i = 0; i < numObjectives; i++) objectiveSpace.setNadir(i, exactNadirs[i]);
+
+        System.out.println("Nadir estimation (" + mode.name().toLowerCase() + ") took " + numSolves + " lexicographic solves.");
+        System.out.println("Ideals: " + Arrays.toString(objectiveSpace.getIdeals()));
+        System.out.println("Nadirs: " + Arrays.toString(objectiveSpace.getNadirs()));
+        return complete;
+    }
+
+    /**
+     * Finds the lexicographic optima with each objective first and the others in cyclic and reverse cyclic order,
+     * raising the ideal values where they improve on them.
+     *
+     * @return false if a solve failed
+     */
+    private boolean lexicographicOptima(ArrayList<double[]> points) {
+        double[] noBounds = new double[numObjectives];
+        Arrays.fill(noBounds, Double.NaN);
+        for (int first = 0; first < numObjectives; first++) {
+            int[] cyclic = new int[numObjectives];
+            int[] reverse = new int[numObjectives];
+            for (int p = 0; p < numObjectives; p++) {
+                cyclic[p] = (first + p) % numObjectives;
+                reverse[p] = (first - p + numObjectives) % numObjectives;
+            }
+            int[][] orders = Arrays.equals(cyclic, reverse) ? new int[][]{cyclic} : new int[][]{cyclic, reverse};
+            for (int[] order : orders) {
+                double[] point = solve(order, noBounds);
+                if (point == null) return false;
+                points.add(point);
+                if (objectiveSpace.isBetter(first, point[first], objectiveSpace.getIdeal(first))) {
+                    System.out.println("Ideal value for " + objectiveSpace.getName(first) + " improved to " + point[first]);
+                    objectiveSpace.setIdeal(first, point[first]);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Enumerates the nondominated points of the bi-objective problem of the two objectives other than the given
+     * one, from the best value of the first of them to the best of the second, completing each by optimizing the
+     * given objective.
+     *
+     * @param points the list the points found are added to
+     * @return the worst value of the objective over the points, or NaN if a solve failed
+     */
+    private double searchNadir(int objective, ArrayList<double[]> points) {
+        int first = (objective + 1) % numObjectives;
+        int second = (objective + 2) % numObjectives;
+        int[] order = {first, second, objective};
+
+        double[] bounds = new double[numObjectives];
+        Arrays.fill(bounds, Double.NaN);
+        double worst = Double.NaN;
+        while (true) {
+            double[] point = solve(order, bounds);
+            if (point == null) return Double.NaN;
+            points.add(point);
+            if (Double.isNaN(worst) || objectiveSpace.isBetter(objective, worst, point[objective]))
+                worst = point[objective];
+
+            // the next point must improve the second objective by more than the tolerance, so none is skipped
+            double tolerance = SEARCH_TOLERANCE * Math.max(1, Math.abs(point[second]));
+            double next = objectiveSpace.isMaximize(second) ? point[second] + tolerance : point[second] - tolerance;
+            if (objectiveSpace.isBetter(second, next, objectiveSpace.getIdeal(second))) break;
+            bounds[second] = next;
+        }
+        return worst;
+    }
+
+    /**
+     * @return the values of the objectives at the lexicographic optimum, or null if none was found or the budget
+     * is spent
+     */
+    private double[] solve(int[] order, double[] bounds) {
+        if (budgetScheduler != null && budgetScheduler.isExhausted()) {
+            System.out.println("The solve budget is spent. Nadir estimation stopped.");
+            return null;
+        }
+        numSolves++;
+        return solver.solve(order, bounds);
+    }
+}
@@ -0,0 +1,130 @@
+package mco.alphadelta.implementation;
+
+import java.util.Arrays;
+
+/**
+ * Finds the objectives of a multi-criterion model. Each column with a nonzero coefficient in the model's
+ * objective function is an objective; it is maximized if the sign of its coefficient agrees with the
+ * objective sense (a positive coefficient under Maximize or a negative one under Minimize) and minimized
+ * otherwise. Objectives are numbered in the order their terms appear, so the first is the principal objective.
+ * <p>
+ * The objective function is walked once, term by term, and each term's exact column index is recorded.
+ * A parsed model is read by fromModel; a solver backend that holds the model itself walks its objective with
+ * the package-private constructor, addTerm and finish (see ADCPLEXInstance.discoverObjectives).
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADObjectiveDiscovery {
+
+    private int numObjectives = 0;
+    private String[] names = null;
+    private int[] columns = null;
+    private double[] coefficients = null;
+    private boolean[] maximize = null;
+
+    // position of each column among the objectives found so far, or -1
+    private int[] positions = null;
+
+    /**
+     * @param numColumns the number of columns of the model
+     * @param numTerms   the number of terms of the model's objective function
+     */
+    ADObjectiveDiscovery(int numColumns, int numTerms) {
+        this.names = new String[numTerms];
+        this.columns = new int[numTerms];
+        this.coefficients = new double[numTerms];
+        this.maximize = new boolean[numTerms];
+        this.positions = new int[numColumns];
+        Arrays.fill(this.positions, -1);
+    }
+
+    /**
+     * Finds the objectives of a parsed model.
+     */
+    public static ADObjectiveDiscovery fromModel(ADLinearModel model) {
+        int[] indices = model.getObjectiveIndices();
+        double[] values = model.getObjectiveValues();
+
+        ADObjectiveDiscovery discovery = new ADObjectiveDiscovery(model.getNumColumns(), indices.length);
+        for (int k = 0; k < indices.length; k++)
+            discovery.addTerm(indices[k], model.getColumnName(indices[k]), values[k]);
+        discovery.finish(model.isMaximize());
+        return discovery;
+    }
+
+    /**
+     * Adds a term of the objective function; the coefficients of terms of the same column are summed.
+     */
+    void addTerm(int column, String name, double coefficient) {
+        if (positions[column] >= 0) {
+            coefficients[positions[column]] += coefficient;
+            return;
+        }
+        positions[column] = numObjectives;
+        names[numObjectives] = name;
+        columns[numObjectives] = column;
+        coefficients[numObjectives++] = coefficient;
+    }
+
+    /**
+     * Drops the terms whose coefficients are zero and assigns each objective its sense.
+     */
+    void finish(boolean overallMaximize) {
+        int kept = 0;
+        for (int k = 0; k < numObjectives; k++) {
+            if (coefficients[k] == 0) continue;
+            names[kept] = names[k];
+            columns[kept] = columns[k];
+            coefficients[kept] = coefficients[k];
+            maximize[kept++] = (coefficients[k] > 0) == overallMaximize;
+        }
+        numObjectives = kept;
+        names = Arrays.copyOf(names, kept);
+        columns = Arrays.copyOf(columns, kept);
+        coefficients = Arrays.copyOf(coefficients, kept);
+        maximize = Arrays.copyOf(maximize, kept);
+        positions = null;
+    }
+
+    public int getNumObjectives() {
+        return numObjectives;
+    }
+
+    public String getName(int objective) {
+        return names[objective];
+    }
+
+    /**
+     * @return the model column holding the objective
+     */
+    public int getColumn(int objective) {
+        return columns[objective];
+    }
+
+    /**
+     * @return the objective's coefficient in the model's objective function
+     */
+    public double getCoefficient(int objective) {
+        return coefficients[objective];
+    }
+
+    public boolean isMaximize(int objective) {
+        return maximize[objective];
+    }
+
+    /**
+     * @return the model column of every objective, in objective order
+     */
+    public int[] getColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * @return whether each objective is maximized, in objective order
+     */
+    public boolean[] getMaximize() {
+        return maximize.clone();
+    }
+}
@@ -0,0 +1,189 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADAlgoParameters;
+
+import java.util.Arrays;
+
+/**
+ * The objectives of a multi-criterion model and what is known about them, indexed by objective
+ * (index 0 is the principal objective): the model column holding each objective, its sense, its ideal
+ * and nadir values, and its delta. Everything is held in primitive arrays so that the frontier loop can
+ * read it for every objective at every point without boxing or hashing.
+ * <p>
+ * Ideal and nadir values are NaN until they are recorded.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADObjectiveSpace {
+
+    private int numObjectives = 0;
+    private String[] names = null;
+    private int[] column = null;
+    private boolean[] maximize = null;
+    private double[] ideal = null;
+    private double[] nadir = null;
+    private double[] delta = null;
+
+    public ADObjectiveSpace(String[] names, int[] columns, boolean[] maximize) {
+        this.numObjectives = names.length;
+        this.names = names.clone();
+        this.column = columns.clone();
+        this.maximize = maximize.clone();
+        this.ideal = new double[numObjectives];
+        this.nadir = new double[numObjectives];
+        this.delta = new double[numObjectives];
+        Arrays.fill(this.ideal, Double.NaN);
+        Arrays.fill(this.nadir, Double.NaN);
+    }
+
+    /**
+     * Creates the objective space of the discovered objectives.
+     */
+    public static ADObjectiveSpace fromDiscovery(ADObjectiveDiscovery discovery) {
+        String[] names = new String[discovery.getNumObjectives()];
+        for (int i = 0; i < names.length; i++) names[i] = discovery.getName(i);
+        return new ADObjectiveSpace(names, discovery.getColumns(), discovery.getMaximize());
+    }
+
+    public int getNumObjectives() {
+        return numObjectives;
+    }
+
+    public String getName(int objective) {
+        return names[objective];
+    }
+
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    /**
+     * @return the model column holding the objective
+     */
+    public int getColumn(int objective) {
+        return column[objective];
+    }
+
+    public int[] getColumns() {
+        return column.clone();
+    }
+
+    public boolean isMaximize(int objective) {
+        return maximize[objective];
+    }
+
+    public boolean[] getMaximize() {
+        return maximize.clone();
+    }
+
+    public double getIdeal(int objective) {
+        return ideal[objective];
+    }
+
+    public double[] getIdeals() {
+        return ideal.clone();
+    }
+
+    public void setIdeal(int objective, double value) {
+        ideal[objective] = value;
+    }
+
+    public double getNadir(int objective) {
+        return nadir[objective];
+    }
+
+    public double[] getNadirs() {
+        return nadir.clone();
+    }
+
+    public void setNadir(int objective, double value) {
+        nadir[objective] = value;
+    }
+
+    /**
+     * Records a value the objective takes in some solution, keeping it as the nadir value if it is
+     * the worst recorded so far.
+     */
+    public void updateNadir(int objective, double value) {
+        if (Double.isNaN(nadir[objective]) || (maximize[objective] ? value < nadir[objective] : value > nadir[objective]))
+            nadir[objective] = value;
+    }
+
+    /**
+     * Returns the worst value found for the objective during ideal solution construction. Falls back
+     * on the ideal value if no worse value was recorded.
+     */
+    public double getWorstCase(int objective) {
+        return Double.isNaN(nadir[objective]) ? ideal[objective] : nadir[objective];
+    }
+
+    /**
+     * @return the absolute difference between the objective's ideal and worst-case values
+     */
+    public double getRange(int objective) {
+        return Math.abs(ideal[objective] - getWorstCase(objective));
+    }
+
+    public double getDelta(int objective) {
+        return delta[objective];
+    }
+
+    public double[] getDeltas() {
+        return delta.clone();
+    }
+
+    public void setDelta(int objective, double value) {
+        delta[objective] = value;
+    }
+
+    /**
+     * Assigns the deltas from the algorithm parameters. Deltas may be given either for every objective or
+     * only for the non-principal objectives (all but the first), in which case the principal objective's is 0.
+     * Relative deltas are percentages of each objective's range, so the ideal and nadir values must be known.
+     *
+     * @throws ADAlgoSolverException if the number of deltas is neither of these
+     */
+    public void setDeltas(IADAlgoParameters algoParameters, boolean relative) throws ADAlgoSolverException {
+        int numDeltas = algoParameters.getNumDeltas();
+        if (numDeltas != numObjectives && numDeltas != numObjectives - 1)
+            throw new ADAlgoSolverException(numDeltas + " deltas were given for a model with " + numObjectives
+                    + " objectives; give one per objective (" + numObjectives + ") or one per non-principal objective ("
+                    + (numObjectives - 1) + ")");
+        int offset = numObjectives - numDeltas;
+        Arrays.fill(delta, 0);
+        for (int i = offset; i < numObjectives; i++) {
+            double value = algoParameters.getDelta(i - offset);
+            delta[i] = relative ? getRange(i) * value / 100 : value;
+        }
+    }
+
+    /**
+     * @return the value moved by the objective's delta in its direction of improvement
+     */
+    public double improvedByDelta(int objective, double value) {
+        return maximize[objective] ? value + delta[objective] : value - delta[objective];
+    }
+
+    /**
+     * @return true if value a is strictly better than value b for the objective
+     */
+    public boolean isBetter(int objective, double a, double b) {
+        return maximize[objective] ? a > b : a < b;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < numObjectives; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(names[i]).append(maximize[i] ? " (max)" : " (min)")
+                    .append(": ideal=").append(ideal[i])
+                    .append(", nadir=").append(nadir[i])
+                    .append(", delta=").append(delta[i]);
+        }
+        return sb.toString();
+    }
+}
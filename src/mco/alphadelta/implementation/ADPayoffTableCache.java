@@ -0,0 +1,168 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.IADSolverParameters;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * An on-disk cache of the payoff table of a model (its ideal and nadir values, and the improved ideal solution
+ * of each objective), so that a run that changes only alpha or the deltas skips the ideal solution construction.
+ * <p>
+ * The cache lives in the PayoffTableCache directory of the output root (the directory given to the solver's
+ * setOutputPath), unless the algorithm parameters give another, which runs may share. An entry is keyed by the
+ * SHA-256 hash of the model file's contents, the solver type, the time limit of the ideal solves, the nadir
+ * estimation mode (see ADNadirEstimator), and the solver parameters (both the frontier's and those for the ideal solution construction) other than the thread count
+ * and working memory, which do not change the solutions found. It is stored in the checkpoint format (see
+ * ADCheckpoint) with no frontier points, along with copies of the single-objective MIP start files the CPLEX
+ * solver writes, which are copied into the output directory of a run that uses the entry. An entry that cannot
+ * be read, or that was written for other objectives or columns, is ignored and rewritten.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADPayoffTableCache {
+
+    public static final String DIRECTORY_NAME = "PayoffTableCache";
+    public static final String MIP_START_PREFIX = "singleObjMipStart_";
+
+    private final File directory;
+    private final String key;
+
+    /**
+     * @param directory        the directory of the cache
+     * @param idealTimeLimit   the time limit of each solve of the ideal solution construction
+     * @param nadirEstimation  the mode of the nadir estimation that follows the ideal solution construction
+     * @param solverParameters the parameter sets in effect during the ideal solution construction (any may be null)
+     */
+    public ADPayoffTableCache(File directory, File modelFile, String solverType, double idealTimeLimit,
+                              ADNadirEstimator.Mode nadirEstimation, IADSolverParameters... solverParameters)
+            throws IOException {
+        this.directory = directory;
+
+        StringBuilder description = new StringBuilder();
+        description.append("model=").append(hashFile(modelFile)).append('\n');
+        description.append("solver=").append(solverType.toLowerCase()).append('\n');
+        description.append("idealTimeLimit=").append(idealTimeLimit).append('\n');
+        // the entries of runs that keep the payoff table's nadir values have keys without the mode
+        if (nadirEstimation != ADNadirEstimator.Mode.PAYOFF)
+            description.append("nadir=").append(nadirEstimation.name()).append('\n');
+        for (int s = 0; s < solverParameters.length; s++) {
+            if (solverParameters[s] == null) continue;
+            ArrayList<String> settings = new ArrayList<>();
+            for (String paramName : solverParameters[s].getParamSet()) {
+                String canonicalName = solverParameters[s].resolveParamName(paramName);
+                if ("threads".equals(canonicalName) || "workmem".equals(canonicalName)) continue;
+                String name = (canonicalName != null) ? canonicalName : paramName.toLowerCase();
+                settings.add(s + ":" + name + "=" + solverParameters[s].getParam(paramName).trim());
+            }
+            Collections.sort(settings);
+            for (String setting : settings) description.append(setting).append('\n');
+        }
+        this.key = toHex(digest().digest(description.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Restores the cached ideal and nadir values to the objective space.
+     *
+     * @return the cached ideal solutions, or null if there is no usable entry
+     */
+    public double[][] load(ADObjectiveSpace objectiveSpace, int numModelColumns) {
+        File entryFile = getEntryFile();
+        if (!entryFile.isFile()) return null;
+        try {
+            ADCheckpoint entry = ADCheckpoint.read(entryFile);
+            entry.restoreObjectiveSpace(objectiveSpace, numModelColumns);
+            return entry.getIdealSolutions();
+        } catch (IOException e) {
+            System.out.println("Ignoring payoff table cache entry " + entryFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores the payoff table, along with the single-objective MIP start files in the given directory.
+     * A failure to store is reported but does not stop the run.
+     *
+     * @param mipStartDirectory the directory holding the MIP start files, or null if there are none
+     */
+    public void store(ADObjectiveSpace objectiveSpace, int numModelColumns, double[][] idealSolutions,
+                      File mipStartDirectory) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.out.println("Cannot create the payoff table cache " + directory);
+            return;
+        }
+        try {
+            new ADCheckpoint(objectiveSpace, numModelColumns, idealSolutions).write(getEntryFile());
+            for (String name : objectiveSpace.getNames()) {
+                File mipStart = new File(mipStartDirectory, MIP_START_PREFIX + name + ".mst");
+                if (mipStartDirectory != null && mipStart.isFile())
+                    Files.copy(mipStart.toPath(), new File(directory, key + "_" + mipStart.getName()).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Copies the cached single-objective MIP start files, if there are any, into the given directory.
+     */
+    public void restoreMIPStarts(ADObjectiveSpace objectiveSpace, File outputPath) {
+        for (String name : objectiveSpace.getNames()) {
+            String fileName = MIP_START_PREFIX + name + ".mst";
+            File cached = new File(directory, key + "_" + fileName);
+            if (!cached.isFile()) continue;
+            try {
+                Files.copy(cached.toPath(), new File(outputPath, fileName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private File getEntryFile() {
+        return new File(directory, key + ".adck");
+    }
+
+    /**
+     * @return the SHA-256 hash of the file's contents, in hexadecimal
+     */
+    public static String hashFile(File file) throws IOException {
+        MessageDigest digest = digest();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest digest() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) hex.append(String.format("%02x", b));
+        return hex.toString();
+    }
+}
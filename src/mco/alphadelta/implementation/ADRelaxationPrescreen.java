@@ -0,0 +1,140 @@
+package mco.alphadelta.implementation;
+
+/**
+ * Decides from the LP relaxation whether the MIP solve of the next frontier point can be skipped, and keeps the
+ * statistics of its decisions for the run log.
+ * <p>
+ * The indicator block of the latest frontier point requires the next point to improve on it by its delta in some
+ * non-principal objective. The pre-screen bounds each non-principal objective over the LP relaxation of the
+ * model, indicator constraints included: if the relaxation is infeasible, or no objective's bound reaches its
+ * threshold, no point remains and the MIP, whose proof of infeasibility can take as long as a point, need not be
+ * solved. The bounds are found one objective at a time, and the pre-screen stops at the first that reaches its
+ * threshold. A box of the box-decomposition engine is screened the same way by the feasibility of its relaxation,
+ * whose objective bounds already hold the thresholds (see record).
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADRelaxationPrescreen {
+
+    public enum Outcome {
+        /**
+         * The relaxation may hold another point, so the MIP is solved.
+         */
+        PASSED,
+        /**
+         * The relaxation was not solved within its time limit, so the MIP is solved.
+         */
+        INCONCLUSIVE,
+        INFEASIBLE,
+        BOUND_DOMINATED;
+
+        /**
+         * @return true if the MIP solve can be skipped
+         */
+        public boolean skipsSolve() {
+            return this == INFEASIBLE || this == BOUND_DOMINATED;
+        }
+    }
+
+    /**
+     * The relative tolerance by which a relaxation bound must fall short of a threshold to rule it out.
+     */
+    public static final double TOLERANCE = 1e-6;
+
+    /**
+     * Bounds the objectives over the LP relaxation of the model as it stands.
+     */
+    public interface RelaxationSolver {
+        /**
+         * @return the optimum of the objective, in its direction of optimization, over the LP relaxation; NaN if
+         * the relaxation is infeasible, or the infinity in the objective's direction of improvement if the
+         * relaxation was not solved
+         */
+        double bound(int objective);
+    }
+
+    private final ADObjectiveSpace objectiveSpace;
+    private int numScreened = 0;
+    private int numPassed = 0;
+    private int numInconclusive = 0;
+    private int numInfeasible = 0;
+    private int numBoundDominated = 0;
+    private int numLPSolves = 0;
+    private double lpSeconds = 0;
+
+    public ADRelaxationPrescreen(ADObjectiveSpace objectiveSpace) {
+        this.objectiveSpace = objectiveSpace;
+    }
+
+    /**
+     * Screens the solve that follows the given frontier point, whose indicator block is in the model.
+     */
+    public Outcome screen(double[] point, RelaxationSolver solver) {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.BOUND_DOMINATED;
+        int lpSolves = 0;
+        for (int i = 1; i < objectiveSpace.getNumObjectives(); i++) {
+            double bound = solver.bound(i);
+            lpSolves++;
+            if (Double.isNaN(bound)) {
+                outcome = Outcome.INFEASIBLE;
+                break;
+            }
+            if (Double.isInfinite(bound)) {
+                outcome = Outcome.INCONCLUSIVE;
+                break;
+            }
+            double threshold = objectiveSpace.improvedByDelta(i, point[i]);
+            double tolerance = TOLERANCE * Math.max(1, Math.abs(threshold));
+            double loosenedBound = objectiveSpace.isMaximize(i) ? bound + tolerance : bound - tolerance;
+            if (!objectiveSpace.isBetter(i, threshold, loosenedBound)) {
+                outcome = Outcome.PASSED;
+                break;
+            }
+        }
+        record(outcome, lpSolves, (System.nanoTime() - start) / 1e9);
+        return outcome;
+    }
+
+    /**
+     * Records the outcome of a screen carried out by the caller.
+     */
+    public synchronized void record(Outcome outcome, int lpSolves, double seconds) {
+        numScreened++;
+        numLPSolves += lpSolves;
+        lpSeconds += seconds;
+        switch (outcome) {
+            case PASSED:
+                numPassed++;
+                break;
+            case INCONCLUSIVE:
+                numInconclusive++;
+                break;
+            case INFEASIBLE:
+                numInfeasible++;
+                break;
+            case BOUND_DOMINATED:
+                numBoundDominated++;
+                break;
+        }
+    }
+
+    public synchronized int getNumSkipped() {
+        return numInfeasible + numBoundDominated;
+    }
+
+    public synchronized double getLPSeconds() {
+        return lpSeconds;
+    }
+
+    /**
+     * @return a line giving the statistics of the screens recorded
+     */
+    public synchronized String summary() {
+        return "Relaxation pre-screen: " + numScreened + " solves screened, " + getNumSkipped() + " MIP solves skipped ("
+                + numInfeasible + " infeasible, " + numBoundDominated + " bound-dominated), " + numPassed + " passed, "
+                + numInconclusive + " inconclusive; " + numLPSolves + " LP solves in " + lpSeconds + " seconds.";
+    }
+}
@@ -0,0 +1,206 @@
+package mco.alphadelta.implementation;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records where a run of the alpha-delta algorithm spends its time. Every phase of the run (the import of the
+ * model, the ideal value of each objective, the improvement of each ideal solution, each solve of the nadir
+ * estimation, each relaxation pre-screen, and each frontier point) is written as it ends to RunEvents.jsonl in
+ * the output directory, one JSON object per line:
+ * <pre>
+ * {"phase": "frontierPoint", "label": "12", "elapsedSeconds": 831.2, "wallSeconds": 64.1, "solverSeconds": 63.9,
+ *  "nodes": 5211, "gap": 0.0001, "rows": 40213, "columns": 35120, "heapBytes": 812345678}
+ * </pre>
+ * Unknown values are written as null (the nodes, gap and model size of a frontier point found by the box engine,
+ * for instance). When the run ends, the totals of each phase are written to RunSummary.json, along with the
+ * growth of the solver time of a frontier point with the number of rows of the model, which shows how the cost
+ * of a point grows with the indicator constraints added before it.
+ * <p>
+ * Events are flushed as they are written, so the events of a run that is killed are kept. Without an output
+ * directory the metrics are only totalled in memory.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADRunMetrics {
+
+    public static final String EVENTS_FILE_NAME = "RunEvents.jsonl";
+    public static final String SUMMARY_FILE_NAME = "RunSummary.json";
+
+    public static final String IMPORT = "import";
+    public static final String IDEAL = "ideal";
+    public static final String IDEAL_IMPROVEMENT = "idealImprovement";
+    public static final String NADIR = "nadir";
+    public static final String PRESCREEN = "prescreen";
+    public static final String FRONTIER_POINT = "frontierPoint";
+
+    /**
+     * The totals of the events of one phase.
+     */
+    private static class PhaseTotals {
+        int count = 0;
+        double wallSeconds = 0;
+        double solverSeconds = 0;
+        double maxSolverSeconds = 0;
+        long nodes = 0;
+    }
+
+    private File summaryFile = null;
+    private BufferedWriter events = null;
+    private long startNanos = 0;
+    private long peakHeapBytes = 0;
+    private LinkedHashMap<String, PhaseTotals> phaseTotals = new LinkedHashMap<>();
+    private ArrayList<double[]> frontierRowsAndSeconds = new ArrayList<>();
+
+    /**
+     * @param outputPath the directory to write the event and summary files to, or null to write none
+     */
+    public ADRunMetrics(File outputPath) {
+        this.startNanos = System.nanoTime();
+        if (outputPath == null) return;
+        this.summaryFile = new File(outputPath, SUMMARY_FILE_NAME);
+        try {
+            this.events = new BufferedWriter(new FileWriter(new File(outputPath, EVENTS_FILE_NAME)));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Records the end of a phase.
+     *
+     * @param phase         one of the phase names of this class
+     * @param label         what the phase was carried out for (an objective's name, or a frontier point's index)
+     * @param phaseStart    the value of System.nanoTime() when the phase began
+     * @param solverSeconds the time spent in the solver
+     * @param nodes         the number of branch-and-bound nodes, or -1 if unknown
+     * @param gap           the relative optimality gap at termination, or NaN if unknown
+     * @param rows          the number of rows of the model solved, or -1 if unknown
+     * @param columns       the number of columns of the model solved, or -1 if unknown
+     */
+    public synchronized void record(String phase, String label, long phaseStart, double solverSeconds, long nodes,
+                                    double gap, int rows, int columns) {
+        long end = System.nanoTime();
+        double wallSeconds = (end - phaseStart) / 1e9;
+        Runtime runtime = Runtime.getRuntime();
+        long heapBytes = runtime.totalMemory() - runtime.freeMemory();
+        peakHeapBytes = Math.max(peakHeapBytes, heapBytes);
+
+        PhaseTotals totals = phaseTotals.computeIfAbsent(phase, p -> new PhaseTotals());
+        totals.count++;
+        totals.wallSeconds += wallSeconds;
+        totals.solverSeconds += solverSeconds;
+        totals.maxSolverSeconds = Math.max(totals.maxSolverSeconds, solverSeconds);
+        if (nodes > 0) totals.nodes += nodes;
+        if (phase.equals(FRONTIER_POINT) && rows >= 0) frontierRowsAndSeconds.add(new double[]{rows, solverSeconds});
+
+        if (events == null) return;
+        StringBuilder line = new StringBuilder("{");
+        line.append("\"phase\": ").append(quote(phase));
+        line.append(", \"label\": ").append(quote(label));
+        line.append(", \"elapsedSeconds\": ").append(number((end - startNanos) / 1e9));
+        line.append(", \"wallSeconds\": ").append(number(wallSeconds));
+        line.append(", \"solverSeconds\": ").append(number(solverSeconds));
+        line.append(", \"nodes\": ").append((nodes < 0) ? "null" : Long.toString(nodes));
+        line.append(", \"gap\": ").append(number(gap));
+        line.append(", \"rows\": ").append((rows < 0) ? "null" : Integer.toString(rows));
+        line.append(", \"columns\": ").append((columns < 0) ? "null" : Integer.toString(columns));
+        line.append(", \"heapBytes\": ").append(heapBytes);
+        line.append("}");
+        try {
+            events.write(line.toString());
+            events.newLine();
+            events.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Ends the run, writing the summary file.
+     *
+     * @param success whether the run generated a frontier
+     */
+    public synchronized void close(boolean success) {
+        try {
+            if (events != null) events.close();
+            events = null;
+            if (summaryFile == null) return;
+
+            double solverSeconds = 0;
+            for (PhaseTotals totals : phaseTotals.values()) solverSeconds += totals.solverSeconds;
+
+            StringBuilder summary = new StringBuilder("{\n");
+            summary.append("  \"success\": ").append(success).append(",\n");
+            summary.append("  \"wallSeconds\": ").append(number((System.nanoTime() - startNanos) / 1e9)).append(",\n");
+            summary.append("  \"solverSeconds\": ").append(number(solverSeconds)).append(",\n");
+            summary.append("  \"peakHeapBytes\": ").append(peakHeapBytes).append(",\n");
+            summary.append("  \"frontierSolverSecondsPerRow\": ").append(number(frontierSecondsPerRow())).append(",\n");
+            summary.append("  \"phases\": {");
+            boolean first = true;
+            for (Map.Entry<String, PhaseTotals> entry : phaseTotals.entrySet()) {
+                PhaseTotals totals = entry.getValue();
+                summary.append(first ? "\n" : ",\n");
+                first = false;
+                summary.append("    ").append(quote(entry.getKey())).append(": {")
+                        .append("\"count\": ").append(totals.count)
+                        .append(", \"wallSeconds\": ").append(number(totals.wallSeconds))
+                        .append(", \"solverSeconds\": ").append(number(totals.solverSeconds))
+                        .append(", \"meanSolverSeconds\": ").append(number(totals.solverSeconds / totals.count))
+                        .append(", \"maxSolverSeconds\": ").append(number(totals.maxSolverSeconds))
+                        .append(", \"nodes\": ").append(totals.nodes)
+                        .append("}");
+            }
+            summary.append("\n  }\n}\n");
+
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(summaryFile))) {
+                writer.write(summary.toString());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return the least-squares slope of a frontier point's solver time against the number of rows of the
+     * model, or NaN if the rows did not vary
+     */
+    private double frontierSecondsPerRow() {
+        int n = frontierRowsAndSeconds.size();
+        if (n < 2) return Double.NaN;
+        double meanRows = 0;
+        double meanSeconds = 0;
+        for (double[] rowsAndSeconds : frontierRowsAndSeconds) {
+            meanRows += rowsAndSeconds[0] / n;
+            meanSeconds += rowsAndSeconds[1] / n;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (double[] rowsAndSeconds : frontierRowsAndSeconds) {
+            covariance += (rowsAndSeconds[0] - meanRows) * (rowsAndSeconds[1] - meanSeconds);
+            variance += (rowsAndSeconds[0] - meanRows) * (rowsAndSeconds[0] - meanRows);
+        }
+        return (variance > 0) ? covariance / variance : Double.NaN;
+    }
+
+    private static String number(double value) {
+        return (Double.isNaN(value) || Double.isInfinite(value)) ? "null" : Double.toString(value);
+    }
+
+    private static String quote(String text) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            if (c == '"' || c == '\\') quoted.append('\\').append(c);
+            else if (c < 0x20) quoted.append(String.format("\\u%04x", (int) c));
+            else quoted.append(c);
+        }
+        return quoted.append('"').toString();
+    }
+}
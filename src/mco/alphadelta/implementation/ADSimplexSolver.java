@@ -0,0 +1,307 @@
+package mco.alphadelta.implementation;
+
+import java.util.ArrayList;
+
+/**
+ * A two-phase primal simplex solver for the linear relaxation of an ADLinearModel. The model is brought into
+ * standard form (nonnegative variables, equality rows with slacks and artificials) and solved on a dense
+ * tableau. Dantzig's rule is used for pricing, switching to Bland's rule after a run of degenerate pivots
+ * so that the method cannot cycle.
+ * <p>
+ * The dense tableau keeps the implementation small and dependable; it is intended for the model sizes used
+ * in testing and benchmarking, not for production-scale forestry models.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADSimplexSolver {
+
+    public enum Status {OPTIMAL, INFEASIBLE, UNBOUNDED, LIMIT}
+
+    /**
+     * The outcome of a solve. The objective value and solution are only meaningful if the status is OPTIMAL.
+     */
+    public static class Result {
+        public Status status;
+        public double objectiveValue = Double.NaN;
+        public double[] solution = null;
+
+        Result(Status status) {
+            this.status = status;
+        }
+    }
+
+    private static final double EPS = 1e-9;
+    private static final double FEASIBILITY_TOLERANCE = 1e-7;
+    private static final int DEGENERATE_PIVOTS_BEFORE_BLAND = 50;
+
+    // standard form: the tableau, the basic column of each row, and the number of columns of each kind
+    private double[][] tableau;
+    private int[] basis;
+    private int numRows;
+    private int numStructural;
+    private int numSlacks;
+    private int numArtificials;
+    private int rhsColumn;
+    private long deadline;
+
+    private ADSimplexSolver() {
+    }
+
+    /**
+     * Maximizes objective*x over the rows of the model and the given column bounds. Integrality is ignored.
+     *
+     * @param model      the model whose rows are used
+     * @param lower      the lower bound of each column
+     * @param upper      the upper bound of each column
+     * @param objective  the objective coefficient of each column (the objective is maximized)
+     * @param deadline   the System.nanoTime() by which the solve must finish, or Long.MAX_VALUE
+     */
+    public static Result maximize(ADLinearModel model, double[] lower, double[] upper, double[] objective, long deadline) {
+        ADSimplexSolver solver = new ADSimplexSolver();
+        solver.deadline = deadline;
+        return solver.solve(model, lower, upper, objective);
+    }
+
+    private Result solve(ADLinearModel model, double[] lower, double[] upper, double[] objective) {
+        int n = model.getNumColumns();
+
+        // map each model column onto nonnegative standard-form variables:
+        // x = offset + sign * x' (one variable) or x = x+ - x- (free, two variables) or x = offset (fixed)
+        int[] firstVar = new int[n];
+        int[] numVars = new int[n];
+        double[] offset = new double[n];
+        double[] sign = new double[n];
+        ArrayList<double[]> boundRows = new ArrayList<>(); // {variable, upper bound}
+        int numVarsTotal = 0;
+        for (int j = 0; j < n; j++) {
+            if (lower[j] > upper[j] + EPS) return new Result(Status.INFEASIBLE);
+            firstVar[j] = numVarsTotal;
+            if (!Double.isInfinite(lower[j]) && !Double.isInfinite(upper[j]) && upper[j] - lower[j] <= EPS) {
+                numVars[j] = 0;
+                offset[j] = lower[j];
+            } else if (!Double.isInfinite(lower[j])) {
+                numVars[j] = 1;
+                offset[j] = lower[j];
+                sign[j] = 1;
+                if (!Double.isInfinite(upper[j])) boundRows.add(new double[]{numVarsTotal, upper[j] - lower[j]});
+            } else if (!Double.isInfinite(upper[j])) {
+                numVars[j] = 1;
+                offset[j] = upper[j];
+                sign[j] = -1;
+            } else {
+                numVars[j] = 2;
+                sign[j] = 1;
+            }
+            numVarsTotal += numVars[j];
+        }
+        numStructural = numVarsTotal;
+
+        // collect the standard-form rows as (coefficients, type, rhs); type -1 for <=, 0 for =, 1 for >=
+        ArrayList<double[]> rowCoefficients = new ArrayList<>();
+        ArrayList<Integer> rowTypes = new ArrayList<>();
+        ArrayList<Double> rowRhs = new ArrayList<>();
+        int[] rowStarts = model.getRowStarts();
+        int[] rowColumns = model.getRowColumns();
+        double[] rowValues = model.getRowValueArray();
+        for (int r = 0; r < model.getNumRows(); r++) {
+            double[] coefficients = new double[numStructural];
+            double constant = 0;
+            for (int k = rowStarts[r]; k < rowStarts[r + 1]; k++) {
+                int j = rowColumns[k];
+                constant += rowValues[k] * offset[j];
+                if (numVars[j] >= 1) coefficients[firstVar[j]] += rowValues[k] * sign[j];
+                if (numVars[j] == 2) coefficients[firstVar[j] + 1] -= rowValues[k];
+            }
+            double rowLower = model.getRowLower(r) - constant;
+            double rowUpper = model.getRowUpper(r) - constant;
+            if (!Double.isInfinite(rowLower) && !Double.isInfinite(rowUpper) && rowUpper - rowLower <= EPS) {
+                addStandardRow(rowCoefficients, rowTypes, rowRhs, coefficients, 0, rowLower);
+            } else {
+                if (!Double.isInfinite(rowLower))
+                    addStandardRow(rowCoefficients, rowTypes, rowRhs, coefficients, 1, rowLower);
+                if (!Double.isInfinite(rowUpper))
+                    addStandardRow(rowCoefficients, rowTypes, rowRhs, coefficients, -1, rowUpper);
+            }
+        }
+        for (double[] boundRow : boundRows) {
+            double[] coefficients = new double[numStructural];
+            coefficients[(int) boundRow[0]] = 1;
+            addStandardRow(rowCoefficients, rowTypes, rowRhs, coefficients, -1, boundRow[1]);
+        }
+
+        // build the tableau: structural | slacks | artificials | rhs
+        numRows = rowCoefficients.size();
+        numSlacks = 0;
+        numArtificials = 0;
+        for (int i = 0; i < numRows; i++) {
+            if (rowTypes.get(i) != 0) numSlacks++;
+            if (rowTypes.get(i) != -1) numArtificials++;
+        }
+        rhsColumn = numStructural + numSlacks + numArtificials;
+        tableau = new double[numRows][rhsColumn + 1];
+        basis = new int[numRows];
+        int slack = numStructural;
+        int artificial = numStructural + numSlacks;
+        for (int i = 0; i < numRows; i++) {
+            System.arraycopy(rowCoefficients.get(i), 0, tableau[i], 0, numStructural);
+            tableau[i][rhsColumn] = rowRhs.get(i);
+            int type = rowTypes.get(i);
+            if (type == -1) {
+                tableau[i][slack] = 1;
+                basis[i] = slack++;
+            } else {
+                if (type == 1) tableau[i][slack++] = -1;
+                tableau[i][artificial] = 1;
+                basis[i] = artificial++;
+            }
+        }
+
+        // phase I: drive the artificials to zero
+        if (numArtificials > 0) {
+            double[] phaseOneCost = new double[rhsColumn];
+            for (int c = numStructural + numSlacks; c < rhsColumn; c++) phaseOneCost[c] = -1;
+            Status status = iterate(phaseOneCost, true);
+            if (status == Status.LIMIT) return new Result(Status.LIMIT);
+            double infeasibility = 0;
+            for (int i = 0; i < numRows; i++)
+                if (basis[i] >= numStructural + numSlacks) infeasibility += tableau[i][rhsColumn];
+            if (infeasibility > FEASIBILITY_TOLERANCE * Math.max(1, numRows)) return new Result(Status.INFEASIBLE);
+            driveOutArtificials();
+        }
+
+        // phase II: optimize the objective over the standard-form variables
+        double[] cost = new double[rhsColumn];
+        double objectiveConstant = 0;
+        for (int j = 0; j < n; j++) {
+            objectiveConstant += objective[j] * offset[j];
+            if (numVars[j] >= 1) cost[firstVar[j]] += objective[j] * sign[j];
+            if (numVars[j] == 2) cost[firstVar[j] + 1] -= objective[j];
+        }
+        Status status = iterate(cost, false);
+        if (status != Status.OPTIMAL) return new Result(status);
+
+        // recover the solution in terms of the model's columns
+        double[] values = new double[rhsColumn];
+        for (int i = 0; i < numRows; i++) values[basis[i]] = tableau[i][rhsColumn];
+        Result result = new Result(Status.OPTIMAL);
+        result.solution = new double[n];
+        result.objectiveValue = objectiveConstant;
+        for (int j = 0; j < n; j++) {
+            double x = offset[j];
+            if (numVars[j] >= 1) x += sign[j] * values[firstVar[j]];
+            if (numVars[j] == 2) x -= values[firstVar[j] + 1];
+            result.solution[j] = x;
+        }
+        for (int c = 0; c < numStructural; c++) result.objectiveValue += cost[c] * values[c];
+        return result;
+    }
+
+    private static void addStandardRow(ArrayList<double[]> rowCoefficients, ArrayList<Integer> rowTypes,
+                                       ArrayList<Double> rowRhs, double[] coefficients, int type, double rhs) {
+        // keep every right-hand side nonnegative, negating a copy since both halves of a ranged row share the array
+        if (rhs < 0) {
+            coefficients = coefficients.clone();
+            for (int c = 0; c < coefficients.length; c++) coefficients[c] = -coefficients[c];
+            rhs = -rhs;
+            type = -type;
+        }
+        rowCoefficients.add(coefficients);
+        rowTypes.add(type);
+        rowRhs.add(rhs);
+    }
+
+    /**
+     * Pivots until no column with positive reduced cost remains.
+     *
+     * @param phaseOne whether artificial columns may enter the basis
+     */
+    private Status iterate(double[] cost, boolean phaseOne) {
+        int firstArtificial = numStructural + numSlacks;
+        int enteringLimit = phaseOne ? rhsColumn : firstArtificial;
+
+        // reduced costs: cost - (basic costs) * tableau
+        double[] reducedCost = new double[rhsColumn + 1];
+        System.arraycopy(cost, 0, reducedCost, 0, rhsColumn);
+        for (int i = 0; i < numRows; i++) {
+            double basicCost = cost[basis[i]];
+            if (basicCost == 0) continue;
+            for (int c = 0; c <= rhsColumn; c++) reducedCost[c] -= basicCost * tableau[i][c];
+        }
+
+        int degeneratePivots = 0;
+        int iterations = 0;
+        while (true) {
+            if ((++iterations & 63) == 0 && System.nanoTime() > deadline) return Status.LIMIT;
+
+            boolean bland = degeneratePivots > DEGENERATE_PIVOTS_BEFORE_BLAND;
+            int entering = -1;
+            double best = EPS;
+            for (int c = 0; c < enteringLimit; c++) {
+                if (reducedCost[c] > best) {
+                    entering = c;
+                    if (bland) break;
+                    best = reducedCost[c];
+                }
+            }
+            if (entering < 0) return Status.OPTIMAL;
+
+            int leaving = -1;
+            double minRatio = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < numRows; i++) {
+                double a = tableau[i][entering];
+                if (a <= EPS) continue;
+                double ratio = tableau[i][rhsColumn] / a;
+                if (ratio < minRatio - EPS || (ratio <= minRatio + EPS && leaving >= 0 && basis[i] < basis[leaving])) {
+                    minRatio = ratio;
+                    leaving = i;
+                }
+            }
+            if (leaving < 0) return Status.UNBOUNDED;
+
+            degeneratePivots = (minRatio <= EPS) ? degeneratePivots + 1 : 0;
+            pivot(leaving, entering, reducedCost);
+        }
+    }
+
+    private void pivot(int row, int column, double[] reducedCost) {
+        double[] pivotRow = tableau[row];
+        double pivotValue = pivotRow[column];
+        for (int c = 0; c <= rhsColumn; c++) pivotRow[c] /= pivotValue;
+        pivotRow[column] = 1;
+
+        for (int i = 0; i < numRows; i++) {
+            if (i == row) continue;
+            double factor = tableau[i][column];
+            if (factor == 0) continue;
+            double[] current = tableau[i];
+            for (int c = 0; c <= rhsColumn; c++) current[c] -= factor * pivotRow[c];
+            current[column] = 0;
+        }
+        double factor = reducedCost[column];
+        if (factor != 0) {
+            for (int c = 0; c <= rhsColumn; c++) reducedCost[c] -= factor * pivotRow[c];
+            reducedCost[column] = 0;
+        }
+        basis[row] = column;
+    }
+
+    /**
+     * Pivots artificial variables left in the basis (at zero) out in favour of any other column.
+     * Rows in which no such column exists are redundant; their artificial stays basic at zero.
+     */
+    private void driveOutArtificials() {
+        int firstArtificial = numStructural + numSlacks;
+        double[] unused = new double[rhsColumn + 1];
+        for (int i = 0; i < numRows; i++) {
+            if (basis[i] < firstArtificial) continue;
+            for (int c = 0; c < firstArtificial; c++) {
+                if (Math.abs(tableau[i][c]) > EPS) {
+                    pivot(i, c, unused);
+                    break;
+                }
+            }
+        }
+    }
+}
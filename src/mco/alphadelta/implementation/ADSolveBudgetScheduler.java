@@ -0,0 +1,165 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.IADSolverParameters;
+
+import java.util.ArrayDeque;
+
+/**
+ * Sets the time limit and optimality gap of each solve of a run, in place of fixed limits that either waste
+ * hours on easy points or cut hard ones short.
+ * <p>
+ * The ideal solution construction is given IDEAL_BUDGET_FRACTION of the run's solver-time budget, shared evenly
+ * among its solves (two per objective). Without a budget its solves have no time limit from the scheduler, and
+ * its gap is never set by the scheduler: both come from the solver parameters for the ideal solution
+ * construction, if they set them.
+ * Each frontier point is then given its share of the budget left, spread over the boxes estimated to remain,
+ * but may take up to HARDNESS_FACTOR times the mean solver time of the latest RECENT_POINTS points if recent
+ * points have been harder than their share, and never more than MAX_REMAINING_FRACTION of the budget left.
+ * Without a budget the frontier points have no time limit; once the budget is spent, isExhausted is true and
+ * the run should stop.
+ * <p>
+ * A point that follows one which added less than FAR_GAIN_FRACTION of the mean hypervolume gain of the points
+ * so far lies in a stretch of the frontier that contributes little (a flat or extreme part, far from the bulk
+ * of the frontier's volume), so it is solved to a gap relaxed towards the maximum relaxed gap, in proportion to
+ * how little its predecessor added. A time limit or gap set in the solver parameters is never exceeded.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADSolveBudgetScheduler {
+
+    public static final double IDEAL_BUDGET_FRACTION = 0.2;
+    public static final double MIN_POINT_SECONDS = 1;
+    public static final double MAX_REMAINING_FRACTION = 0.25;
+    public static final double HARDNESS_FACTOR = 4;
+    public static final int RECENT_POINTS = 5;
+    public static final double FAR_GAIN_FRACTION = 0.1;
+
+    private double budgetSeconds = 0;
+    private double baseGap = 0;
+    private double maxRelaxedGap = 0;
+    private double configuredTimeLimit = Double.POSITIVE_INFINITY;
+    private double spentSeconds = 0;
+    private ArrayDeque<Double> recentSeconds = new ArrayDeque<>();
+    private double totalGain = 0;
+    private int numGains = 0;
+    private double lastGain = Double.NaN;
+
+    /**
+     * @param budgetSeconds   the solver time of the whole run, or 0 for no budget
+     * @param solverParameters the solver parameters of the frontier points, whose time limit and gap are kept
+     *                        as upper bounds, or null
+     * @param defaultGap      the solver's own default relative gap, used if the parameters set none
+     * @param maxRelaxedGap   the largest gap a point of little gain is relaxed to, or 0 to never relax the gap
+     */
+    public ADSolveBudgetScheduler(double budgetSeconds, IADSolverParameters solverParameters, double defaultGap,
+                                  double maxRelaxedGap) {
+        this.budgetSeconds = budgetSeconds;
+        this.baseGap = defaultGap;
+        if (solverParameters != null) {
+            for (String paramName : solverParameters.getParamSet()) {
+                String canonicalName = solverParameters.resolveParamName(paramName);
+                if ("epgap".equals(canonicalName))
+                    this.baseGap = Double.parseDouble(solverParameters.getParam(paramName));
+                else if ("tilim".equals(canonicalName))
+                    this.configuredTimeLimit = Double.parseDouble(solverParameters.getParam(paramName));
+            }
+        }
+        this.maxRelaxedGap = Math.max(this.baseGap, maxRelaxedGap);
+    }
+
+    /**
+     * @return true if the parameters set the given parameter (by its canonical name, such as tilim or epgap)
+     */
+    public static boolean isSet(IADSolverParameters solverParameters, String canonicalName) {
+        if (solverParameters == null) return false;
+        for (String paramName : solverParameters.getParamSet())
+            if (canonicalName.equals(solverParameters.resolveParamName(paramName))) return true;
+        return false;
+    }
+
+    /**
+     * @param numObjectives the number of objectives, each of which takes two solves
+     * @return the time limit of a solve of the ideal solution construction, or infinity for none
+     */
+    public double getIdealTimeLimit(int numObjectives) {
+        if (budgetSeconds <= 0) return Double.POSITIVE_INFINITY;
+        return Math.max(MIN_POINT_SECONDS, IDEAL_BUDGET_FRACTION * budgetSeconds / (2 * numObjectives));
+    }
+
+    /**
+     * @param remainingBoxes the number of frontier points (or boxes) estimated to remain
+     * @return the time limit of the next frontier point, or infinity for none
+     */
+    public synchronized double getPointTimeLimit(int remainingBoxes) {
+        if (budgetSeconds <= 0) return configuredTimeLimit;
+        double remaining = Math.max(0, budgetSeconds - spentSeconds);
+        double share = remaining / Math.max(1, remainingBoxes);
+        double limit = share;
+        if (!recentSeconds.isEmpty()) {
+            double recentMean = 0;
+            for (double seconds : recentSeconds) recentMean += seconds / recentSeconds.size();
+            limit = Math.max(share, Math.min(HARDNESS_FACTOR * recentMean, MAX_REMAINING_FRACTION * remaining));
+        }
+        limit = Math.min(Math.max(MIN_POINT_SECONDS, limit), Math.max(MIN_POINT_SECONDS, remaining));
+        return Math.min(limit, configuredTimeLimit);
+    }
+
+    /**
+     * @return the relative gap of the next frontier point, relaxed if the previous point added little hypervolume
+     */
+    public synchronized double getPointGap() {
+        if (maxRelaxedGap <= baseGap || numGains < 2 || Double.isNaN(lastGain) || totalGain <= 0) return baseGap;
+        double fractionOfMean = lastGain / (totalGain / numGains);
+        if (fractionOfMean >= FAR_GAIN_FRACTION) return baseGap;
+        return baseGap + (maxRelaxedGap - baseGap) * (1 - fractionOfMean / FAR_GAIN_FRACTION);
+    }
+
+    /**
+     * Records a solve of any phase, whether it found a solution or not, against the budget.
+     */
+    public synchronized void recordSolve(double solverSeconds) {
+        spentSeconds += solverSeconds;
+    }
+
+    /**
+     * Records a frontier point, whose solves have already been recorded by recordSolve.
+     *
+     * @param solverSeconds the solver time spent on the point
+     * @param gain          the hypervolume the point added, or NaN if not known
+     */
+    public synchronized void recordPoint(double solverSeconds, double gain) {
+        recentSeconds.addLast(solverSeconds);
+        if (recentSeconds.size() > RECENT_POINTS) recentSeconds.removeFirst();
+        lastGain = gain;
+        if (!Double.isNaN(gain)) {
+            totalGain += gain;
+            numGains++;
+        }
+    }
+
+    /**
+     * @return true if the run has a budget and it has been spent
+     */
+    public synchronized boolean isExhausted() {
+        return budgetSeconds > 0 && spentSeconds >= budgetSeconds;
+    }
+
+    public double getBudgetSeconds() {
+        return budgetSeconds;
+    }
+
+    /**
+     * Estimates the number of frontier points left to find as the number of delta-sized cells of the
+     * non-principal objectives' ranges, less the points already found.
+     */
+    public static int estimateRemainingPoints(ADObjectiveSpace objectiveSpace, int pointsFound) {
+        double cells = 1;
+        for (int i = 1; i < objectiveSpace.getNumObjectives(); i++) {
+            double delta = objectiveSpace.getDelta(i);
+            if (delta > 0) cells *= Math.max(1, Math.ceil(objectiveSpace.getRange(i) / delta));
+        }
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, cells - pointsFound));
+    }
+}
@@ -10,8 +10,33 @@ import java.util.Set;
  * Created by Nick on 4/22/2016.
  */
 public class ADSolverCPLEXParameters implements IADSolverParameters{
+
+    // the CPLEX parameter each recognized name (in lower case) stands for, by its canonical name
+    private static final Map<String, String> CANONICAL_NAMES = new HashMap<>();
+
+    static {
+        String[][] aliases = {
+                {"threads", "threads", "numthreads"},
+                {"epgap", "epgap", "optgap", "optimalitygap"},
+                {"workmem", "workmem", "workingmem", "workingmemory", "memory"},
+                {"epint", "epint", "integrality", "intgap", "integralitygap"},
+                {"tilim", "tilim", "time", "timelimit"}};
+        for (String[] names : aliases)
+            for (int k = 1; k < names.length; k++) CANONICAL_NAMES.put(names[k], names[0]);
+    }
+
     private Map<String,String> paramName_paramValue = new HashMap<>();
 
+    /**
+     * Resolves any of the accepted spellings of a parameter (threads or numthreads, for instance), in any case,
+     * to the parameter's canonical name: threads, epgap, workmem, epint or tilim.
+     *
+     * @return the canonical name, or null if the name is not recognized
+     */
+    public static String canonicalName(String paramName) {
+        return CANONICAL_NAMES.get(paramName.toLowerCase());
+    }
+
     public void addParam(String paramName, String paramValue){
         this.paramName_paramValue.put(paramName,paramValue);
     }
@@ -23,4 +48,8 @@ public class ADSolverCPLEXParameters implements IADSolverParameters{
     public Set<String> getParamSet() {
         return this.paramName_paramValue.keySet();
     }
+
+    public String resolveParamName(String paramName) {
+        return canonicalName(paramName);
+    }
 }
@@ -0,0 +1,472 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.ADAlgoSolverException;
+import mco.alphadelta.framework.IADAlgoSolver;
+import mco.alphadelta.framework.IADReusableSolver;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A long-lived worker that keeps models loaded, with their ideal and nadir values, between frontier jobs, so
+ * that a run with new alpha or delta values for a model already seen pays neither for starting the JVM and the
+ * solver, nor for importing the model and constructing its ideal solution.
+ * <pre>
+ * ADSolverDaemon [-port &lt;n&gt;] [-cache &lt;models&gt;] [-threads &lt;n&gt;] [-out &lt;directory&gt;]
+ * </pre>
+ * Requests are read one per line, from standard input or, with -port, from each connection to that port of
+ * the loopback interface. A request is a command followed by key=value pairs as in an ADBatchRunner manifest
+ * (relative paths are relative to the daemon's working directory):
+ * <pre>
+ * solve model=harvest.lp deltas=1,1 relativeDeltas=true alpha=0.01 epgap=0.001
+ * prepare model=harvest.lp [solver=cplex|java] [nadir=payoff|lexicographic|exact] [solver parameters]
+ * evict model=harvest.lp [solver=cplex|java] [nadir=payoff|lexicographic|exact]
+ * status
+ * quit
+ * shutdown
+ * </pre>
+ * Each request is answered by a final line that begins with ok or error; solve first sends a line
+ * "point &lt;index&gt; &lt;objective values&gt;" for each frontier point as it is found. The output of a job
+ * goes under its out directory (-out/name by default, with -out the daemon's alphadelta_daemon directory).
+ * When the daemon reads requests from standard input, the solvers' own console output goes to standard error.
+ * <p>
+ * A prepared solver is cached by the SHA-256 hash of the model file's contents, the solver type and the nadir
+ * estimation mode (see ADNadirEstimator), so an edited model is prepared again. The ideal solution is constructed with the solver parameters of the job
+ * that first prepared the model; later jobs change only the frontier's parameters. Jobs on the same model run
+ * one after another, and jobs on different models at the same time. Beyond -cache models (4 by default), the
+ * least recently used model not in use is released. The payoff table cache under -out (see ADPayoffTableCache)
+ * keeps the ideal and nadir values of released models, and of those seen before the daemon was restarted.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADSolverDaemon {
+
+    public static final int DEFAULT_CACHED_MODELS = 4;
+
+    /**
+     * A solver that has prepared (or is to prepare) a model.
+     */
+    private static class CachedModel {
+        final String key;
+        final File modelFile;
+        final String solverType;
+        final IADReusableSolver solver;
+        volatile PrintStream pointOutput = null;
+        volatile int pointsFound = 0;
+        boolean prepared = false;
+        boolean ended = false;
+        int inUse = 0;
+        int jobsRun = 0;
+
+        CachedModel(String key, File modelFile, String solverType, IADReusableSolver solver) {
+            this.key = key;
+            this.modelFile = modelFile;
+            this.solverType = solverType;
+            this.solver = solver;
+            // the one listener of the solver sends each point to the client of the job running
+            solver.addProgressListener((solutionIndex, objectiveValues, hypervolume, marginalGain, solverSeconds) -> {
+                PrintStream out = this.pointOutput;
+                if (out == null) return;
+                this.pointsFound++;
+                StringBuilder line = new StringBuilder("point ").append(solutionIndex);
+                for (double value : objectiveValues) line.append(" ").append(value);
+                out.println(line);
+            });
+        }
+    }
+
+    private final LinkedHashMap<String, CachedModel> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxCachedModels;
+    private final int defaultThreads;
+    private final File outputRoot;
+    private final File workingDirectory = new File(System.getProperty("user.dir"));
+    private final AtomicInteger jobCounter = new AtomicInteger();
+    private volatile boolean shutdown = false;
+    private volatile ServerSocket serverSocket = null;
+
+    public ADSolverDaemon(int maxCachedModels, int defaultThreads, File outputRoot) {
+        this.maxCachedModels = Math.max(1, maxCachedModels);
+        this.defaultThreads = Math.max(1, defaultThreads);
+        this.outputRoot = outputRoot;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = -1;
+        int maxCachedModels = DEFAULT_CACHED_MODELS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        File outputRoot = new File(System.getProperty("user.dir"), "alphadelta_daemon");
+        for (int a = 0; a < args.length; a++) {
+            switch (args[a]) {
+                case "-port":
+                    port = Integer.parseInt(args[++a]);
+                    break;
+                case "-cache":
+                    maxCachedModels = Integer.parseInt(args[++a]);
+                    break;
+                case "-threads":
+                    threads = Integer.parseInt(args[++a]);
+                    break;
+                case "-out":
+                    outputRoot = new File(args[++a]);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[a]);
+                    System.out.println("Usage: ADSolverDaemon [-port <n>] [-cache <models>] [-threads <n>] "
+                            + "[-out <directory>]");
+                    return;
+            }
+        }
+
+        ADSolverDaemon daemon = new ADSolverDaemon(maxCachedModels, threads, outputRoot);
+        if (port < 0) {
+            // the protocol has standard output to itself
+            PrintStream protocolOutput = System.out;
+            System.setOut(System.err);
+            daemon.serve(new BufferedReader(new InputStreamReader(System.in)), protocolOutput);
+        } else {
+            daemon.listen(port);
+        }
+        daemon.endAll();
+    }
+
+    /**
+     * Serves the connections to the given port of the loopback interface, each on its own thread, until a
+     * shutdown request.
+     */
+    public void listen(int port) throws IOException {
+        ExecutorService connections = Executors.newCachedThreadPool();
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            this.serverSocket = server;
+            System.out.println("Listening on port " + server.getLocalPort());
+            while (!this.shutdown) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketException e) {
+                    // the socket was closed by a shutdown request
+                    break;
+                }
+                connections.execute(() -> {
+                    try (Socket connection = socket;
+                         BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+                         PrintStream out = new PrintStream(connection.getOutputStream(), true)) {
+                        serve(in, out);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                });
+            }
+        } finally {
+            connections.shutdown();
+        }
+    }
+
+    /**
+     * Answers the requests read from the given reader until the end of its input, or a quit or shutdown request.
+     */
+    public void serve(BufferedReader in, PrintStream out) throws IOException {
+        String line;
+        while (!this.shutdown && (line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            int space = line.indexOf(' ');
+            String command = (space < 0) ? line : line.substring(0, space);
+            String arguments = (space < 0) ? "" : line.substring(space + 1).trim();
+            switch (command.toLowerCase()) {
+                case "solve":
+                    solve(arguments, out);
+                    break;
+                case "prepare":
+                    prepare(arguments, out);
+                    break;
+                case "evict":
+                    evict(arguments, out);
+                    break;
+                case "status":
+                    status(out);
+                    break;
+                case "quit":
+                    out.println("ok bye");
+                    return;
+                case "shutdown":
+                    out.println("ok shutting down");
+                    this.shutdown = true;
+                    if (this.serverSocket != null) this.serverSocket.close();
+                    return;
+                default:
+                    out.println("error unknown command " + command);
+                    break;
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Generates a frontier, preparing its model first if the model is not cached.
+     */
+    private void solve(String arguments, PrintStream out) {
+        ADBatchRunner.Job job = parseJob(arguments, out);
+        if (job == null) return;
+        if (job.deltas == null) {
+            out.println("error no deltas given");
+            return;
+        }
+        CachedModel entry = acquire(job, out);
+        if (entry == null) return;
+        try {
+            synchronized (entry) {
+                if (entry.ended) {
+                    out.println("error " + job.name + ": the model was evicted");
+                    return;
+                }
+                boolean cached = entry.prepared;
+                long start = System.nanoTime();
+                entry.pointsFound = 0;
+                entry.pointOutput = out;
+                boolean success;
+                try {
+                    prepare(entry, job);
+                    success = entry.solver.generate();
+                    entry.jobsRun++;
+                } catch (ADAlgoSolverException | IOException | RuntimeException e) {
+                    e.printStackTrace();
+                    out.println("error " + job.name + ": " + e.getMessage());
+                    return;
+                } finally {
+                    entry.pointOutput = null;
+                }
+                out.println((success ? "ok " : "error ") + job.name + " points=" + entry.pointsFound
+                        + " wallSeconds=" + String.format("%.3f", (System.nanoTime() - start) / 1e9)
+                        + " cached=" + cached + " output=" + job.outputPath.getPath());
+            }
+        } finally {
+            release(entry);
+        }
+    }
+
+    /**
+     * Prepares a model ahead of the jobs on it.
+     */
+    private void prepare(String arguments, PrintStream out) {
+        ADBatchRunner.Job job = parseJob(arguments, out);
+        if (job == null) return;
+        CachedModel entry = acquire(job, out);
+        if (entry == null) return;
+        try {
+            synchronized (entry) {
+                if (entry.ended) {
+                    out.println("error the model was evicted");
+                    return;
+                }
+                if (entry.prepared) {
+                    out.println("ok cached " + shortKey(entry.key));
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    prepare(entry, job);
+                } catch (ADAlgoSolverException | IOException | RuntimeException e) {
+                    e.printStackTrace();
+                    out.println("error " + e.getMessage());
+                    return;
+                }
+                out.println("ok prepared " + shortKey(entry.key) + " seconds="
+                        + String.format("%.3f", (System.nanoTime() - start) / 1e9));
+            }
+        } finally {
+            release(entry);
+        }
+    }
+
+    /**
+     * Hands the job's parameters to the entry's solver and prepares its model if it has not been. A model that
+     * fails to prepare is dropped from the cache.
+     */
+    private void prepare(CachedModel entry, ADBatchRunner.Job job) throws ADAlgoSolverException, IOException {
+        if (!job.outputPath.isDirectory() && !job.outputPath.mkdirs())
+            throw new IOException("Cannot create " + job.outputPath);
+        entry.solver.setAlgoParameters(ADBatchRunner.toAlgoParameters(job));
+        entry.solver.setSolverParameters(ADBatchRunner.toSolverParameters(job));
+        entry.solver.setOutputPath(job.outputPath);
+        if (entry.prepared) return;
+
+        try {
+            if (!entry.solver.prepare(job.model))
+                throw new ADAlgoSolverException("Could not prepare " + job.model);
+        } catch (ADAlgoSolverException | IOException | RuntimeException e) {
+            // the solver is left part way through its preparation, and cannot be used again
+            drop(entry);
+            throw e;
+        }
+        entry.prepared = true;
+    }
+
+    private void evict(String arguments, PrintStream out) {
+        ADBatchRunner.Job job = parseJob(arguments, out);
+        if (job == null) return;
+        CachedModel entry;
+        try {
+            String key = cacheKey(job);
+            synchronized (this.cache) {
+                entry = this.cache.remove(key);
+            }
+        } catch (IOException e) {
+            out.println("error cannot read " + job.model + ": " + e.getMessage());
+            return;
+        }
+        if (entry == null) {
+            out.println("error not cached: " + job.model);
+            return;
+        }
+        // the entry is ended once the jobs running on it finish
+        end(entry);
+        out.println("ok evicted " + shortKey(entry.key));
+    }
+
+    private void status(PrintStream out) {
+        StringBuilder line = new StringBuilder();
+        synchronized (this.cache) {
+            line.append("ok ").append(this.cache.size()).append(" models cached");
+            String separator = ": ";
+            for (CachedModel entry : this.cache.values()) {
+                line.append(separator).append(entry.modelFile.getPath()).append(" (").append(entry.solverType)
+                        .append(", ").append(shortKey(entry.key)).append(", ").append(entry.jobsRun).append(" jobs)");
+                separator = "; ";
+            }
+        }
+        out.println(line);
+    }
+
+    private ADBatchRunner.Job parseJob(String arguments, PrintStream out) {
+        ADBatchRunner.Job job;
+        try {
+            job = ADBatchRunner.parseJob(arguments, this.workingDirectory, "job" + this.jobCounter.incrementAndGet());
+        } catch (IllegalArgumentException e) {
+            out.println("error " + e.getMessage());
+            return null;
+        }
+        if (job.threads <= 0) job.threads = this.defaultThreads;
+        if (job.outputPath == null) job.outputPath = new File(this.outputRoot, job.name);
+        job.payoffTableCachePath = new File(this.outputRoot, ADPayoffTableCache.DIRECTORY_NAME);
+        return job;
+    }
+
+    /**
+     * Finds or creates the cache entry of the job's model and solver, and marks it in use.
+     *
+     * @return the entry, or null if the model cannot be read or the solver created, or the solver cannot be reused
+     */
+    private CachedModel acquire(ADBatchRunner.Job job, PrintStream out) {
+        String key;
+        try {
+            key = cacheKey(job);
+        } catch (IOException e) {
+            out.println("error cannot read " + job.model + ": " + e.getMessage());
+            return null;
+        }
+        ArrayList<CachedModel> evicted = new ArrayList<>();
+        CachedModel entry;
+        synchronized (this.cache) {
+            entry = this.cache.get(key);
+            if (entry == null) {
+                IADAlgoSolver solver;
+                try {
+                    solver = ADAlgoSolverFactory.newSolver(job.solverType);
+                } catch (ADAlgoSolverException e) {
+                    e.printStackTrace();
+                    out.println("error " + e.getMessage());
+                    return null;
+                }
+                if (!(solver instanceof IADReusableSolver)) {
+                    out.println("error the " + job.solverType + " solver cannot keep a model loaded");
+                    return null;
+                }
+                entry = new CachedModel(key, job.model, job.solverType, (IADReusableSolver) solver);
+                this.cache.put(key, entry);
+                evicted = trimCache();
+            }
+            entry.inUse++;
+        }
+        for (CachedModel stale : evicted) end(stale);
+        return entry;
+    }
+
+    private void release(CachedModel entry) {
+        ArrayList<CachedModel> evicted;
+        synchronized (this.cache) {
+            entry.inUse--;
+            evicted = trimCache();
+        }
+        for (CachedModel stale : evicted) end(stale);
+    }
+
+    /**
+     * Removes the entry from the cache and, once the jobs running on it finish, ends its solver.
+     */
+    private void drop(CachedModel entry) {
+        synchronized (this.cache) {
+            this.cache.remove(entry.key, entry);
+        }
+        end(entry);
+    }
+
+    private static void end(CachedModel entry) {
+        synchronized (entry) {
+            if (entry.ended) return;
+            entry.ended = true;
+            entry.solver.end();
+        }
+    }
+
+    /**
+     * Removes the least recently used entries not in use while there are too many; the caller ends them.
+     */
+    private ArrayList<CachedModel> trimCache() {
+        ArrayList<CachedModel> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, CachedModel>> entries = this.cache.entrySet().iterator();
+        while (this.cache.size() > this.maxCachedModels && entries.hasNext()) {
+            CachedModel entry = entries.next().getValue();
+            if (entry.inUse > 0) continue;
+            entries.remove();
+            evicted.add(entry);
+        }
+        return evicted;
+    }
+
+    /**
+     * Releases every cached solver.
+     */
+    public void endAll() {
+        ArrayList<CachedModel> entries;
+        synchronized (this.cache) {
+            entries = new ArrayList<>(this.cache.values());
+            this.cache.clear();
+        }
+        for (CachedModel entry : entries) end(entry);
+    }
+
+    private static String cacheKey(ADBatchRunner.Job job) throws IOException {
+        return ADPayoffTableCache.hashFile(job.model) + ":" + job.solverType.toLowerCase() + ":"
+                + job.nadirEstimation.name().toLowerCase();
+    }
+
+    private static String shortKey(String key) {
+        return key.substring(0, 12);
+    }
+}
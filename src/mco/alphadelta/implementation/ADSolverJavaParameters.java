@@ -0,0 +1,55 @@
+package mco.alphadelta.implementation;
+
+import mco.alphadelta.framework.IADSolverParameters;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parameters for the pure-Java solver backend. Recognized names are the time limit
+ * (timelimit, tilim, time), the relative optimality gap (epgap, optgap, optimalitygap),
+ * the integrality tolerance (epint, integrality, intgap, integralitygap) and the node limit
+ * (nodelim, nodelimit, nodes). The CPLEX names of the thread count and working memory are accepted
+ * and ignored.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADSolverJavaParameters implements IADSolverParameters {
+
+    // the parameter each recognized name (in lower case) stands for, by its canonical name
+    private static final Map<String, String> CANONICAL_NAMES = new HashMap<>();
+
+    static {
+        String[][] aliases = {
+                {"tilim", "tilim", "time", "timelimit"},
+                {"epgap", "epgap", "optgap", "optimalitygap"},
+                {"epint", "epint", "integrality", "intgap", "integralitygap"},
+                {"nodelim", "nodelim", "nodelimit", "nodes"},
+                // accepted, but not applicable to the Java solver
+                {"threads", "threads", "numthreads"},
+                {"workmem", "workmem", "workingmem", "workingmemory", "memory"}};
+        for (String[] names : aliases)
+            for (int k = 1; k < names.length; k++) CANONICAL_NAMES.put(names[k], names[0]);
+    }
+
+    private Map<String, String> paramName_paramValue = new HashMap<>();
+
+    public void addParam(String paramName, String paramValue) {
+        this.paramName_paramValue.put(paramName, paramValue);
+    }
+
+    public String getParam(String paramName) {
+        return this.paramName_paramValue.get(paramName);
+    }
+
+    public Set<String> getParamSet() {
+        return this.paramName_paramValue.keySet();
+    }
+
+    public String resolveParamName(String paramName) {
+        return CANONICAL_NAMES.get(paramName.toLowerCase());
+    }
+}
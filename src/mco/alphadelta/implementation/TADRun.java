@@ -1,8 +1,10 @@
 package mco.alphadelta.implementation;
 
 import ilog.concert.IloException;
+import mco.alphadelta.framework.ADAlgoSolverException;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 
 /**
  * Test class for implementing the alpha-delta algorithm.
@@ -13,7 +15,7 @@ import java.io.File;
  */
 public class TADRun {
 
-    public static void main(String[] args) throws IloException {
+    public static void main(String[] args) throws IloException, ADAlgoSolverException, FileNotFoundException {
         // instantiate new interface
         //IADAlgoInterface algoInterface = new ADAlgoConsoleInterface();
         // set the parameters, model, and solver
@@ -0,0 +1,244 @@
+package mco.alphadelta.implementation;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test class for the pure-Java solvers. Random small models, with ranged rows and rows whose right-hand sides
+ * are negative, are solved by ADSimplexSolver and ADBranchAndBound, and the results are checked against
+ * enumeration: of the basic solutions for the relaxation, and of the integer points for the MIP.
+ * Exits with status 1 if any model disagrees.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class TADSolverRegression {
+
+    private static final int NUM_COLUMNS = 3;
+    private static final int COLUMN_BOUND = 3;
+    private static final double TOLERANCE = 1e-6;
+
+    public static void main(String[] args) {
+        int numModels = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 1;
+        Random random = new Random(seed);
+
+        int numFailures = 0;
+        for (int m = 0; m < numModels; m++) {
+            ADLinearModel model = randomModel(random);
+            String failure = checkRelaxation(model);
+            if (failure == null) failure = checkMIP(model);
+            if (failure != null) {
+                numFailures++;
+                System.out.println("Model " + m + ": " + failure);
+                System.out.println(describe(model));
+            }
+        }
+        System.out.println(numModels + " models checked, " + numFailures + " failed.");
+        if (numFailures > 0) System.exit(1);
+    }
+
+    /**
+     * @return a model of integer columns bounded by +-COLUMN_BOUND, with rows of every kind (ranged, equality,
+     * one-sided) whose bounds are as often negative as positive
+     */
+    private static ADLinearModel randomModel(Random random) {
+        ADLinearModel model = new ADLinearModel();
+        for (int j = 0; j < NUM_COLUMNS; j++) model.addColumn("x" + j, -COLUMN_BOUND, COLUMN_BOUND, true);
+        int[] indices = new int[NUM_COLUMNS];
+        for (int j = 0; j < NUM_COLUMNS; j++) indices[j] = j;
+
+        int numRows = 1 + random.nextInt(3);
+        for (int r = 0; r < numRows; r++) {
+            double[] values = new double[NUM_COLUMNS];
+            for (int j = 0; j < NUM_COLUMNS; j++) values[j] = random.nextInt(7) - 3;
+            double lower = random.nextInt(13) - 8;
+            double upper = lower + random.nextInt(6);
+            switch (random.nextInt(4)) {
+                case 0:
+                    upper = Double.POSITIVE_INFINITY;
+                    break;
+                case 1:
+                    lower = Double.NEGATIVE_INFINITY;
+                    break;
+                case 2:
+                    upper = lower;
+                    break;
+                default:
+                    break;
+            }
+            model.addRow("r" + r, lower, upper, indices, values);
+        }
+
+        double[] objective = new double[NUM_COLUMNS];
+        for (int j = 0; j < NUM_COLUMNS; j++) objective[j] = random.nextInt(11) - 5;
+        model.setObjective(random.nextBoolean(), indices, objective);
+        return model;
+    }
+
+    /**
+     * Compares the simplex optimum with the best feasible basic solution, found by solving every system of
+     * NUM_COLUMNS row or column bounds held at equality.
+     *
+     * @return a description of the disagreement, or null
+     */
+    private static String checkRelaxation(ADLinearModel model) {
+        double[][] planes = new double[2 * (model.getNumRows() + NUM_COLUMNS)][];
+        double[] rhs = new double[planes.length];
+        int numPlanes = 0;
+        for (int r = 0; r < model.getNumRows(); r++) {
+            double[] row = rowCoefficients(model, r);
+            for (double bound : new double[]{model.getRowLower(r), model.getRowUpper(r)}) {
+                if (Double.isInfinite(bound)) continue;
+                planes[numPlanes] = row;
+                rhs[numPlanes++] = bound;
+            }
+        }
+        for (int j = 0; j < NUM_COLUMNS; j++) {
+            for (double bound : new double[]{-COLUMN_BOUND, COLUMN_BOUND}) {
+                planes[numPlanes] = new double[NUM_COLUMNS];
+                planes[numPlanes][j] = 1;
+                rhs[numPlanes++] = bound;
+            }
+        }
+
+        double[] objective = orientedObjective(model);
+        double best = Double.NEGATIVE_INFINITY;
+        int[] chosen = new int[NUM_COLUMNS];
+        for (chosen[0] = 0; chosen[0] < numPlanes; chosen[0]++)
+            for (chosen[1] = chosen[0] + 1; chosen[1] < numPlanes; chosen[1]++)
+                for (chosen[2] = chosen[1] + 1; chosen[2] < numPlanes; chosen[2]++) {
+                    double[] x = intersect(planes, rhs, chosen);
+                    if (x != null && isFeasible(model, x)) best = Math.max(best, dot(objective, x));
+                }
+
+        ADSimplexSolver.Result result = ADSimplexSolver.maximize(model, columnLowers(model), columnUppers(model),
+                objective, Long.MAX_VALUE);
+        if (best == Double.NEGATIVE_INFINITY)
+            return (result.status == ADSimplexSolver.Status.INFEASIBLE) ? null
+                    : "relaxation is infeasible, but the simplex solver reports " + result.status;
+        if (result.status != ADSimplexSolver.Status.OPTIMAL)
+            return "relaxation optimum is " + best + ", but the simplex solver reports " + result.status;
+        if (Math.abs(result.objectiveValue - best) > TOLERANCE * Math.max(1, Math.abs(best)))
+            return "relaxation optimum is " + best + ", but the simplex solver found " + result.objectiveValue;
+        if (!isFeasible(model, result.solution))
+            return "the simplex solver's solution is infeasible";
+        return null;
+    }
+
+    /**
+     * Compares the branch-and-bound optimum with the best of every integer point in the column bounds.
+     *
+     * @return a description of the disagreement, or null
+     */
+    private static String checkMIP(ADLinearModel model) {
+        double[] objective = orientedObjective(model);
+        double best = Double.NEGATIVE_INFINITY;
+        double[] x = new double[NUM_COLUMNS];
+        for (x[0] = -COLUMN_BOUND; x[0] <= COLUMN_BOUND; x[0]++)
+            for (x[1] = -COLUMN_BOUND; x[1] <= COLUMN_BOUND; x[1]++)
+                for (x[2] = -COLUMN_BOUND; x[2] <= COLUMN_BOUND; x[2]++)
+                    if (isFeasible(model, x)) best = Math.max(best, dot(objective, x));
+
+        ADBranchAndBound solver = new ADBranchAndBound();
+        solver.setRelativeGap(0);
+        ADBranchAndBound.Result result = solver.solve(model, null);
+        if (best == Double.NEGATIVE_INFINITY)
+            return (result.status == ADBranchAndBound.Status.INFEASIBLE) ? null
+                    : "MIP is infeasible, but branch and bound reports " + result.status;
+        if (result.status != ADBranchAndBound.Status.OPTIMAL)
+            return "MIP optimum is " + best + ", but branch and bound reports " + result.status;
+        double value = model.isMaximize() ? result.objectiveValue : -result.objectiveValue;
+        if (Math.abs(value - best) > TOLERANCE * Math.max(1, Math.abs(best)))
+            return "MIP optimum is " + best + ", but branch and bound found " + value;
+        if (!isFeasible(model, result.solution))
+            return "branch and bound's solution is infeasible";
+        return null;
+    }
+
+    /**
+     * @return the point at which the chosen planes meet, by Gaussian elimination, or null if they do not meet
+     * in a single point
+     */
+    private static double[] intersect(double[][] planes, double[] rhs, int[] chosen) {
+        double[][] a = new double[NUM_COLUMNS][NUM_COLUMNS + 1];
+        for (int i = 0; i < NUM_COLUMNS; i++) {
+            System.arraycopy(planes[chosen[i]], 0, a[i], 0, NUM_COLUMNS);
+            a[i][NUM_COLUMNS] = rhs[chosen[i]];
+        }
+        for (int c = 0; c < NUM_COLUMNS; c++) {
+            int pivot = c;
+            for (int i = c + 1; i < NUM_COLUMNS; i++)
+                if (Math.abs(a[i][c]) > Math.abs(a[pivot][c])) pivot = i;
+            if (Math.abs(a[pivot][c]) < 1e-9) return null;
+            double[] swap = a[c];
+            a[c] = a[pivot];
+            a[pivot] = swap;
+            for (int i = 0; i < NUM_COLUMNS; i++) {
+                if (i == c) continue;
+                double factor = a[i][c] / a[c][c];
+                for (int k = c; k <= NUM_COLUMNS; k++) a[i][k] -= factor * a[c][k];
+            }
+        }
+        double[] x = new double[NUM_COLUMNS];
+        for (int i = 0; i < NUM_COLUMNS; i++) x[i] = a[i][NUM_COLUMNS] / a[i][i];
+        return x;
+    }
+
+    private static String describe(ADLinearModel model) {
+        StringBuilder description = new StringBuilder(model.isMaximize() ? "max " : "min ");
+        description.append(Arrays.toString(model.getObjectiveCoefficients()));
+        for (int r = 0; r < model.getNumRows(); r++)
+            description.append("\n  ").append(model.getRowLower(r)).append(" <= ")
+                    .append(Arrays.toString(rowCoefficients(model, r))).append(" <= ").append(model.getRowUpper(r));
+        return description.toString();
+    }
+
+    private static boolean isFeasible(ADLinearModel model, double[] x) {
+        for (int j = 0; j < NUM_COLUMNS; j++)
+            if (x[j] < model.getColumnLower(j) - TOLERANCE || x[j] > model.getColumnUpper(j) + TOLERANCE) return false;
+        for (int r = 0; r < model.getNumRows(); r++) {
+            double activity = dot(rowCoefficients(model, r), x);
+            if (activity < model.getRowLower(r) - TOLERANCE || activity > model.getRowUpper(r) + TOLERANCE)
+                return false;
+        }
+        return true;
+    }
+
+    private static double[] rowCoefficients(ADLinearModel model, int row) {
+        double[] coefficients = new double[NUM_COLUMNS];
+        int[] indices = model.getRowIndices(row);
+        double[] values = model.getRowValues(row);
+        for (int k = 0; k < indices.length; k++) coefficients[indices[k]] += values[k];
+        return coefficients;
+    }
+
+    /**
+     * @return the objective coefficients of the model, negated if it is minimized
+     */
+    private static double[] orientedObjective(ADLinearModel model) {
+        double[] objective = model.getObjectiveCoefficients();
+        if (!model.isMaximize())
+            for (int j = 0; j < objective.length; j++) objective[j] = -objective[j];
+        return objective;
+    }
+
+    private static double[] columnLowers(ADLinearModel model) {
+        double[] lower = new double[model.getNumColumns()];
+        for (int j = 0; j < lower.length; j++) lower[j] = model.getColumnLower(j);
+        return lower;
+    }
+
+    private static double[] columnUppers(ADLinearModel model) {
+        double[] upper = new double[model.getNumColumns()];
+        for (int j = 0; j < upper.length; j++) upper[j] = model.getColumnUpper(j);
+        return upper;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int j = 0; j < a.length; j++) sum += a[j] * b[j];
+        return sum;
+    }
+}
@@ -0,0 +1,92 @@
+package mco.alphadelta.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A frontier as read back for scoring: the objective names and one row of objective values per point.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontier {
+
+    private String name = null;
+    private String[] objectiveNames = null;
+    private int[] solutionIndices = null;
+    private double[][] points = null;
+
+    /**
+     * @param name            a label for the frontier, typically the file it came from
+     * @param objectiveNames  the name of each objective
+     * @param solutionIndices the solution index of each point, or null to number the points from 0
+     * @param points          the objective values of each point, one row per point
+     */
+    public ADFrontier(String name, String[] objectiveNames, int[] solutionIndices, double[][] points) {
+        this.name = name;
+        this.objectiveNames = objectiveNames;
+        this.points = points;
+        if (solutionIndices == null) {
+            solutionIndices = new int[points.length];
+            for (int p = 0; p < points.length; p++) solutionIndices[p] = p;
+        }
+        this.solutionIndices = solutionIndices;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNumObjectives() {
+        return objectiveNames.length;
+    }
+
+    public int getNumPoints() {
+        return points.length;
+    }
+
+    public String[] getObjectiveNames() {
+        return objectiveNames;
+    }
+
+    public int getObjectiveIndex(String objectiveName) {
+        for (int i = 0; i < objectiveNames.length; i++)
+            if (objectiveNames[i].equals(objectiveName)) return i;
+        return -1;
+    }
+
+    public int[] getSolutionIndices() {
+        return solutionIndices;
+    }
+
+    public double[][] getPoints() {
+        return points;
+    }
+
+    /**
+     * @return the smallest value of each objective over the frontier
+     */
+    public double[] getMinimums() {
+        double[] minimums = new double[objectiveNames.length];
+        Arrays.fill(minimums, Double.POSITIVE_INFINITY);
+        for (double[] point : points)
+            for (int i = 0; i < minimums.length; i++) minimums[i] = Math.min(minimums[i], point[i]);
+        return minimums;
+    }
+
+    /**
+     * @return the largest value of each objective over the frontier
+     */
+    public double[] getMaximums() {
+        double[] maximums = new double[objectiveNames.length];
+        Arrays.fill(maximums, Double.NEGATIVE_INFINITY);
+        for (double[] point : points)
+            for (int i = 0; i < maximums.length; i++) maximums[i] = Math.max(maximums[i], point[i]);
+        return maximums;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + points.length + " points, " + objectiveNames.length + " objectives)";
+    }
+}
@@ -0,0 +1,209 @@
+package mco.alphadelta.metrics;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Compares the frontiers of a study with fork/join tasks spread over the cores of the machine. The frontiers
+ * are given as ADFrontierStudy.getOrientedPoints returns them: one array per frontier, holding its points one
+ * after another, with every objective maximized.
+ * <p>
+ * The additive binary epsilon indicator of frontiers A and B is the smallest amount by which every point of A
+ * must be improved in every objective so that each point of B is weakly dominated by some point of A. It is
+ * at most 0 if A already weakly dominates B. The epsilon matrix holds it for every ordered pair of frontiers:
+ * entry [a][b] is the indicator of frontier a over frontier b. Large frontiers are split into blocks of points,
+ * so that a single comparison of two large frontiers is also spread over the cores.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierComparison {
+
+    private static final int POINTS_PER_TASK = 256;
+
+    private int numObjectives = -1;
+    private ForkJoinPool pool = null;
+
+    public ADFrontierComparison(int numObjectives) {
+        this(numObjectives, ForkJoinPool.commonPool());
+    }
+
+    public ADFrontierComparison(int numObjectives, ForkJoinPool pool) {
+        this.numObjectives = numObjectives;
+        this.pool = pool;
+    }
+
+    /**
+     * @return the binary epsilon indicator of every ordered pair of frontiers; the diagonal is 0
+     */
+    public double[][] epsilonMatrix(double[][] frontiers) {
+        int numFrontiers = frontiers.length;
+        double[][] matrix = new double[numFrontiers][numFrontiers];
+        pool.invoke(new MatrixTask(frontiers, matrix, 0, numFrontiers * numFrontiers));
+        return matrix;
+    }
+
+    /**
+     * @return the binary epsilon indicator of the first frontier over the second
+     */
+    public double epsilon(double[] first, double[] second) {
+        return pool.invoke(new EpsilonTask(first, second, 0, second.length / numObjectives));
+    }
+
+    /**
+     * The unary epsilon indicator of the notebooks: the improvement needed for the frontier to reach the ideal.
+     */
+    public double unaryEpsilon(double[] frontier, double[] ideal) {
+        return epsilon(frontier, ideal);
+    }
+
+    /**
+     * @return for each frontier, the Euclidean distance from each of its points to the ideal
+     */
+    public double[][] distancesToIdeal(double[][] frontiers, double[] ideal) {
+        double[][] distances = new double[frontiers.length][];
+        ArrayList<DistanceTask> tasks = new ArrayList<>();
+        for (int f = 0; f < frontiers.length; f++) {
+            distances[f] = new double[frontiers[f].length / numObjectives];
+            tasks.add(new DistanceTask(frontiers[f], ideal, distances[f], 0, distances[f].length));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return distances;
+    }
+
+    public static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return (values.length > 0) ? sum / values.length : Double.NaN;
+    }
+
+    /**
+     * Fills a range of the cells of the epsilon matrix, numbered row by row.
+     */
+    private class MatrixTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] frontiers;
+        private final double[][] matrix;
+        private final int fromCell;
+        private final int toCell;
+
+        MatrixTask(double[][] frontiers, double[][] matrix, int fromCell, int toCell) {
+            this.frontiers = frontiers;
+            this.matrix = matrix;
+            this.fromCell = fromCell;
+            this.toCell = toCell;
+        }
+
+        @Override
+        protected void compute() {
+            if (toCell - fromCell > 1) {
+                int middle = (fromCell + toCell) >>> 1;
+                invokeAll(new MatrixTask(frontiers, matrix, fromCell, middle),
+                        new MatrixTask(frontiers, matrix, middle, toCell));
+                return;
+            }
+            int first = fromCell / frontiers.length;
+            int second = fromCell % frontiers.length;
+            if (first == second) return;
+            double[] secondFrontier = frontiers[second];
+            matrix[first][second] = new EpsilonTask(frontiers[first], secondFrontier, 0,
+                    secondFrontier.length / numObjectives).compute();
+        }
+    }
+
+    /**
+     * Computes the epsilon indicator of the first frontier over a range of the points of the second.
+     */
+    private class EpsilonTask extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] first;
+        private final double[] second;
+        private final int fromPoint;
+        private final int toPoint;
+
+        EpsilonTask(double[] first, double[] second, int fromPoint, int toPoint) {
+            this.first = first;
+            this.second = second;
+            this.fromPoint = fromPoint;
+            this.toPoint = toPoint;
+        }
+
+        @Override
+        protected Double compute() {
+            if (toPoint - fromPoint > POINTS_PER_TASK) {
+                int middle = (fromPoint + toPoint) >>> 1;
+                EpsilonTask right = new EpsilonTask(first, second, middle, toPoint);
+                right.fork();
+                double left = new EpsilonTask(first, second, fromPoint, middle).compute();
+                return Math.max(left, right.join());
+            }
+
+            int numFirstPoints = first.length / numObjectives;
+            double epsilon = Double.NEGATIVE_INFINITY;
+            for (int q = fromPoint; q < toPoint; q++) {
+                int qOffset = q * numObjectives;
+                // the smallest improvement that lets some point of the first frontier cover point q
+                double cover = Double.POSITIVE_INFINITY;
+                for (int p = 0; p < numFirstPoints && cover > epsilon; p++) {
+                    int pOffset = p * numObjectives;
+                    double needed = Double.NEGATIVE_INFINITY;
+                    for (int i = 0; i < numObjectives && needed < cover; i++)
+                        needed = Math.max(needed, second[qOffset + i] - first[pOffset + i]);
+                    cover = Math.min(cover, needed);
+                }
+                epsilon = Math.max(epsilon, cover);
+            }
+            return epsilon;
+        }
+    }
+
+    /**
+     * Computes the distance to the ideal of a range of the points of a frontier.
+     */
+    private class DistanceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] frontier;
+        private final double[] ideal;
+        private final double[] distances;
+        private final int fromPoint;
+        private final int toPoint;
+
+        DistanceTask(double[] frontier, double[] ideal, double[] distances, int fromPoint, int toPoint) {
+            this.frontier = frontier;
+            this.ideal = ideal;
+            this.distances = distances;
+            this.fromPoint = fromPoint;
+            this.toPoint = toPoint;
+        }
+
+        @Override
+        protected void compute() {
+            if (toPoint - fromPoint > POINTS_PER_TASK) {
+                int middle = (fromPoint + toPoint) >>> 1;
+                invokeAll(new DistanceTask(frontier, ideal, distances, fromPoint, middle),
+                        new DistanceTask(frontier, ideal, distances, middle, toPoint));
+                return;
+            }
+            for (int p = fromPoint; p < toPoint; p++) {
+                int offset = p * numObjectives;
+                double sumOfSquares = 0;
+                for (int i = 0; i < numObjectives; i++) {
+                    double difference = ideal[i] - frontier[offset + i];
+                    sumOfSquares += difference * difference;
+                }
+                distances[p] = Math.sqrt(sumOfSquares);
+            }
+        }
+    }
+}
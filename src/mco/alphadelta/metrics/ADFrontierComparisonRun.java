@@ -0,0 +1,107 @@
+package mco.alphadelta.metrics;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.regex.Pattern;
+
+/**
+ * Compares every frontier under a directory tree from the command line.
+ * <pre>
+ * ADFrontierComparisonRun &lt;senses&gt; &lt;directory&gt; [-match &lt;regex&gt;] [-raw] [-out &lt;directory&gt;]
+ * </pre>
+ * The senses are as for ADHypervolumeRun. Only files whose path below the directory matches the regular
+ * expression are loaded (for example -match "ClimateChange_.+Optimal"). The objectives are normalized with
+ * the bounds of all the frontiers unless -raw is given. The binary epsilon matrix and the mean distance to the
+ * ideal of each frontier are printed; with -out, they are also written to EpsilonMatrix.csv and, point by point,
+ * DistanceToIdeal.csv in the given directory.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierComparisonRun {
+
+    public static void main(String[] args) throws FileNotFoundException {
+        if (args.length < 2) {
+            System.out.println("Usage: ADFrontierComparisonRun <senses> <directory> [-match <regex>] [-raw] [-out <directory>]");
+            return;
+        }
+
+        boolean[] maximize = ADHypervolumeRun.parseSenses(args[0]);
+        File root = new File(args[1]);
+        Pattern pathPattern = null;
+        boolean normalize = true;
+        File outputDirectory = null;
+        for (int a = 2; a < args.length; a++) {
+            switch (args[a]) {
+                case "-match":
+                    pathPattern = Pattern.compile(args[++a]);
+                    break;
+                case "-raw":
+                    normalize = false;
+                    break;
+                case "-out":
+                    outputDirectory = new File(args[++a]);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[a]);
+                    return;
+            }
+        }
+
+        ADFrontierStudy study = ADFrontierStudy.load(root, pathPattern, maximize);
+        int numFrontiers = study.getNumFrontiers();
+        if (numFrontiers == 0) {
+            System.out.println("No frontiers found under " + root);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        double[][] frontiers = study.getOrientedPoints(normalize);
+        ADFrontierComparison comparison = new ADFrontierComparison(study.getNumObjectives());
+        double[][] epsilons = comparison.epsilonMatrix(frontiers);
+        double[][] distances = comparison.distancesToIdeal(frontiers, study.getOrientedIdeal(normalize));
+        System.out.println("Compared " + numFrontiers + " frontiers in " + (System.currentTimeMillis() - start) + " ms");
+
+        System.out.println();
+        for (int f = 0; f < numFrontiers; f++) System.out.println("[" + f + "] " + study.getFrontier(f));
+        System.out.println();
+        System.out.println("Binary epsilon indicator of frontier [row] over frontier [column]:");
+        printEpsilonMatrix(System.out, study, epsilons, false);
+        System.out.println();
+        System.out.println("Frontier, MeanDistanceToIdeal");
+        for (int f = 0; f < numFrontiers; f++)
+            System.out.println("[" + f + "], " + ADFrontierComparison.mean(distances[f]));
+
+        if (outputDirectory != null) {
+            outputDirectory.mkdirs();
+            try (PrintStream out = new PrintStream(new File(outputDirectory, "EpsilonMatrix.csv"))) {
+                printEpsilonMatrix(out, study, epsilons, true);
+            }
+            try (PrintStream out = new PrintStream(new File(outputDirectory, "DistanceToIdeal.csv"))) {
+                out.println("Frontier, SolutionIndex, DistanceToIdeal");
+                for (int f = 0; f < numFrontiers; f++) {
+                    int[] solutionIndices = study.getFrontier(f).getSolutionIndices();
+                    for (int p = 0; p < distances[f].length; p++)
+                        out.println(study.getFrontier(f).getName() + ", " + solutionIndices[p] + ", " + distances[f][p]);
+                }
+            }
+        }
+    }
+
+    private static void printEpsilonMatrix(PrintStream out, ADFrontierStudy study, double[][] epsilons, boolean useNames) {
+        StringBuilder header = new StringBuilder("Frontier");
+        for (int f = 0; f < epsilons.length; f++) header.append(", ").append(label(study, f, useNames));
+        out.println(header);
+        for (int f = 0; f < epsilons.length; f++) {
+            StringBuilder row = new StringBuilder(label(study, f, useNames));
+            for (double epsilon : epsilons[f]) row.append(", ").append(epsilon);
+            out.println(row);
+        }
+    }
+
+    private static String label(ADFrontierStudy study, int frontier, boolean useName) {
+        return useName ? study.getFrontier(frontier).getName() : "[" + frontier + "]";
+    }
+}
@@ -0,0 +1,131 @@
+package mco.alphadelta.metrics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A k-d tree index over the points of a frontier, shared by the spacing, nearest-neighbour and dominance metrics.
+ * The points are given normalized and oriented so that every objective is maximized, as ADFrontierStudy
+ * returns them. Batch queries are split into fork/join tasks spread over the cores of the machine; the index is
+ * not changed once built, so the tasks query it without locking.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierIndex {
+
+    private static final int QUERIES_PER_TASK = 256;
+
+    private double[][] points = null;
+    private ADKDTree tree = null;
+    private ForkJoinPool pool = null;
+
+    public ADFrontierIndex(double[][] points) {
+        this(points, ForkJoinPool.commonPool());
+    }
+
+    public ADFrontierIndex(double[][] points, ForkJoinPool pool) {
+        this.points = points;
+        this.tree = ADKDTree.build(points, (points.length > 0) ? points[0].length : 1);
+        this.pool = pool;
+    }
+
+    /**
+     * @param values        the points stored one after another, as ADFrontierStudy.getOrientedPoints returns them
+     * @param numObjectives the number of objectives
+     */
+    public static ADFrontierIndex fromValues(double[] values, int numObjectives) {
+        return fromValues(values, numObjectives, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param values        the points stored one after another, as ADFrontierStudy.getOrientedPoints returns them
+     * @param numObjectives the number of objectives
+     * @param pool          the pool the queries run on
+     */
+    public static ADFrontierIndex fromValues(double[] values, int numObjectives, ForkJoinPool pool) {
+        double[][] points = new double[values.length / numObjectives][numObjectives];
+        for (int p = 0; p < points.length; p++)
+            System.arraycopy(values, p * numObjectives, points[p], 0, numObjectives);
+        return new ADFrontierIndex(points, pool);
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    public double[][] getPoints() {
+        return points;
+    }
+
+    /**
+     * @return for each point of the frontier, the distance to the nearest other point of the frontier
+     * (infinite if the frontier has a single point)
+     */
+    public double[] nearestNeighbourDistances() {
+        double[] distances = new double[points.length];
+        pool.invoke(new QueryTask(points, true, distances, null, 0, points.length));
+        return distances;
+    }
+
+    /**
+     * @return for each query point, the distance to the nearest point of this frontier
+     */
+    public double[] nearestDistances(double[][] queries) {
+        double[] distances = new double[queries.length];
+        pool.invoke(new QueryTask(queries, false, distances, null, 0, queries.length));
+        return distances;
+    }
+
+    /**
+     * @return for each query point, whether some point of this frontier weakly dominates it
+     */
+    public boolean[] dominates(double[][] queries) {
+        boolean[] dominated = new boolean[queries.length];
+        pool.invoke(new QueryTask(queries, false, null, dominated, 0, queries.length));
+        return dominated;
+    }
+
+    /**
+     * Answers a range of the queries, filling either the distances or the dominance flags.
+     */
+    private class QueryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] queries;
+        private final boolean excludeSelf;
+        private final double[] distances;
+        private final boolean[] dominated;
+        private final int fromQuery;
+        private final int toQuery;
+
+        QueryTask(double[][] queries, boolean excludeSelf, double[] distances, boolean[] dominated,
+                  int fromQuery, int toQuery) {
+            this.queries = queries;
+            this.excludeSelf = excludeSelf;
+            this.distances = distances;
+            this.dominated = dominated;
+            this.fromQuery = fromQuery;
+            this.toQuery = toQuery;
+        }
+
+        @Override
+        protected void compute() {
+            if (toQuery - fromQuery > QUERIES_PER_TASK) {
+                int middle = (fromQuery + toQuery) >>> 1;
+                invokeAll(new QueryTask(queries, excludeSelf, distances, dominated, fromQuery, middle),
+                        new QueryTask(queries, excludeSelf, distances, dominated, middle, toQuery));
+                return;
+            }
+            for (int q = fromQuery; q < toQuery; q++) {
+                if (dominated != null) {
+                    dominated[q] = tree.anyWeaklyDominating(queries[q]);
+                    continue;
+                }
+                int nearest = tree.nearest(queries[q], excludeSelf ? q : -1);
+                distances[q] = (nearest < 0) ? Double.POSITIVE_INFINITY : ADKDTree.distance(queries[q], points[nearest]);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package mco.alphadelta.metrics;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the spacing and objective-conflict metrics of every frontier under a directory tree (or of a single
+ * frontier file) from the command line.
+ * <pre>
+ * ADFrontierMetricsRun &lt;senses&gt; &lt;file or directory&gt; [-match &lt;regex&gt;] [-raw]
+ * </pre>
+ * The senses and -match are as for ADFrontierComparisonRun. For each frontier the spacing and mean
+ * nearest-neighbour distance (normalized with the frontier's own bounds unless -raw is given), and the
+ * cross-section hypervolume and correlation of each pair of objectives, are printed. With two or more
+ * frontiers, the mean signed nearest-neighbour distance of every ordered pair, normalized with the bounds of
+ * all the frontiers, is also printed.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierMetricsRun {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: ADFrontierMetricsRun <senses> <file or directory> [-match <regex>] [-raw]");
+            return;
+        }
+
+        boolean[] maximize = ADHypervolumeRun.parseSenses(args[0]);
+        File root = new File(args[1]);
+        Pattern pathPattern = null;
+        boolean normalize = true;
+        for (int a = 2; a < args.length; a++) {
+            switch (args[a]) {
+                case "-match":
+                    pathPattern = Pattern.compile(args[++a]);
+                    break;
+                case "-raw":
+                    normalize = false;
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[a]);
+                    return;
+            }
+        }
+
+        ADFrontierStudy study = ADFrontierStudy.load(root, pathPattern, maximize);
+        int numFrontiers = study.getNumFrontiers();
+        int numObjectives = study.getNumObjectives();
+        if (numFrontiers == 0) {
+            System.out.println("No frontiers found under " + root);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        for (int f = 0; f < numFrontiers; f++) {
+            ADFrontier frontier = study.getFrontier(f);
+            ADFrontierStudy own = new ADFrontierStudy(maximize);
+            own.addFrontier(frontier);
+            ADFrontierIndex index = ADFrontierIndex.fromValues(own.getOrientedPoints(normalize)[0], numObjectives);
+            double[] nearestNeighbourDistances = index.nearestNeighbourDistances();
+
+            System.out.println();
+            System.out.println("[" + f + "] " + frontier);
+            System.out.println("Spacing: " + ADFrontierSpacing.spacing(nearestNeighbourDistances));
+            System.out.println("Mean nearest-neighbour distance: " + ADFrontierComparison.mean(nearestNeighbourDistances));
+
+            double[][] volumes = ADObjectiveConflict.crossSectionHypervolumes(frontier, maximize);
+            double[][] correlations = ADObjectiveConflict.pearsonCorrelations(frontier, maximize);
+            System.out.println("Objective1, Objective2, CrossSectionHypervolume, Correlation");
+            String[] names = frontier.getObjectiveNames();
+            for (int i = 0; i < numObjectives; i++)
+                for (int j = i + 1; j < numObjectives; j++)
+                    System.out.println(names[i] + ", " + names[j] + ", " + volumes[i][j] + ", " + correlations[i][j]);
+        }
+
+        if (numFrontiers > 1) {
+            double[][] frontiers = study.getOrientedPoints(normalize);
+            ADFrontierIndex[] indices = new ADFrontierIndex[numFrontiers];
+            for (int f = 0; f < numFrontiers; f++) indices[f] = ADFrontierIndex.fromValues(frontiers[f], numObjectives);
+
+            System.out.println();
+            System.out.println("Mean signed nearest-neighbour distance from frontier [row] to frontier [column]:");
+            StringBuilder header = new StringBuilder("Frontier");
+            for (int f = 0; f < numFrontiers; f++) header.append(", [").append(f).append("]");
+            System.out.println(header);
+            for (int f = 0; f < numFrontiers; f++) {
+                StringBuilder row = new StringBuilder("[" + f + "]");
+                for (int g = 0; g < numFrontiers; g++)
+                    row.append(", ").append((f == g) ? 0.0 : ADFrontierSpacing.signedNearestNeighbourDistance(indices[f], indices[g]));
+                System.out.println(row);
+            }
+        }
+        System.out.println();
+        System.out.println("Computed metrics of " + numFrontiers + " frontiers in " + (System.currentTimeMillis() - start) + " ms");
+    }
+}
@@ -0,0 +1,127 @@
+package mco.alphadelta.metrics;
+
+import mco.alphadelta.implementation.ADFrontierWriter_Binary;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Reads frontier files: the binary .adfr files written by ADFrontierWriter_Binary, and the comma-separated
+ * files under util/solutionSets (.csv or .txt). A text frontier has a header line naming its columns,
+ * then one point per line. A SolutionIndex column, if present, gives the index of each point; a Frontier
+ * column (as in the older ensemble files) and unnamed columns are ignored; every other column is an objective.
+ * Lines with a missing value are skipped.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierReader {
+
+    private static final String SOLUTION_INDEX_COLUMN = "SolutionIndex";
+    private static final String FRONTIER_COLUMN = "Frontier";
+
+    private ADFrontierReader() {
+    }
+
+    /**
+     * @return the frontier files (.csv, .txt and .adfr) at or under the given path, in path order
+     */
+    public static ArrayList<File> findFrontierFiles(File path) {
+        ArrayList<File> frontierFiles = new ArrayList<>();
+        collectFrontierFiles(path, frontierFiles);
+        return frontierFiles;
+    }
+
+    private static void collectFrontierFiles(File file, ArrayList<File> frontierFiles) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children == null) return;
+            Arrays.sort(children);
+            for (File child : children) collectFrontierFiles(child, frontierFiles);
+        } else {
+            String name = file.getName().toLowerCase();
+            if (name.endsWith(".csv") || name.endsWith(".txt") || name.endsWith(".adfr")) frontierFiles.add(file);
+        }
+    }
+
+    public static ADFrontier read(File frontierFile) throws IOException {
+        if (frontierFile.getName().toLowerCase().endsWith(".adfr")) return readBinary(frontierFile);
+        return readText(frontierFile);
+    }
+
+    private static ADFrontier readBinary(File frontierFile) throws IOException {
+        ADFrontierWriter_Binary.Frontier frontier = ADFrontierWriter_Binary.read(frontierFile);
+        return new ADFrontier(frontierFile.getPath(), frontier.objectiveNames, frontier.solutionIndices,
+                frontier.points);
+    }
+
+    private static ADFrontier readText(File frontierFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(frontierFile))) {
+            String headerLine = reader.readLine();
+            while (headerLine != null && headerLine.trim().isEmpty()) headerLine = reader.readLine();
+            if (headerLine == null) throw new IOException(frontierFile + " is empty");
+
+            // sort the columns into the index column, ignored columns and objectives
+            String[] header = headerLine.split(",", -1);
+            int indexColumn = -1;
+            int[] objectiveColumns = new int[header.length];
+            ArrayList<String> objectiveNames = new ArrayList<>();
+            for (int c = 0; c < header.length; c++) {
+                String columnName = header[c].trim();
+                if (columnName.equalsIgnoreCase(SOLUTION_INDEX_COLUMN)) indexColumn = c;
+                else if (!columnName.isEmpty() && !columnName.equalsIgnoreCase(FRONTIER_COLUMN)) {
+                    objectiveColumns[objectiveNames.size()] = c;
+                    objectiveNames.add(columnName);
+                }
+            }
+            int numObjectives = objectiveNames.size();
+            if (numObjectives < 2)
+                throw new IOException(frontierFile + " is not a frontier file: it has fewer than two objective columns");
+
+            ArrayList<double[]> points = new ArrayList<>();
+            ArrayList<Integer> indices = new ArrayList<>();
+            int lineNumber = 1;
+            String line;
+            lines:
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) continue;
+                String[] fields = line.split(",", -1);
+                if (fields.length < header.length)
+                    throw new IOException(frontierFile + ", line " + lineNumber + ": expected " + header.length
+                            + " fields but found " + fields.length);
+
+                double[] point = new double[numObjectives];
+                for (int i = 0; i < numObjectives; i++) {
+                    String field = fields[objectiveColumns[i]].trim();
+                    if (field.isEmpty()) continue lines;
+                    point[i] = parseValue(field, frontierFile, lineNumber);
+                }
+                points.add(point);
+                if (indexColumn >= 0)
+                    indices.add((int) parseValue(fields[indexColumn].trim(), frontierFile, lineNumber));
+            }
+
+            int[] solutionIndices = null;
+            if (indexColumn >= 0) {
+                solutionIndices = new int[indices.size()];
+                for (int p = 0; p < solutionIndices.length; p++) solutionIndices[p] = indices.get(p);
+            }
+            return new ADFrontier(frontierFile.getPath(), objectiveNames.toArray(new String[0]), solutionIndices,
+                    points.toArray(new double[0][]));
+        }
+    }
+
+    private static double parseValue(String field, File frontierFile, int lineNumber) throws IOException {
+        try {
+            return Double.parseDouble(field);
+        } catch (NumberFormatException e) {
+            throw new IOException(frontierFile + ", line " + lineNumber + ": '" + field + "' is not a number");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package mco.alphadelta.metrics;
+
+/**
+ * Spacing metrics of frontiers, on ADFrontierIndex so that every nearest-neighbour search takes logarithmic
+ * rather than linear time.
+ * <p>
+ * The spacing of a frontier (Schott, 1995) is the standard deviation of the distances from each point to its
+ * nearest neighbour on the frontier, as computed by the computingFrontierSpacing notebook; 0 means the points
+ * are evenly spread. The signed nearest-neighbour distance from one frontier to another is the mean distance
+ * from each point of the first to the nearest point of the second, counted as negative for points that the
+ * second frontier weakly dominates, so that it is positive when the first frontier tends to lie beyond the second.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierSpacing {
+
+    private ADFrontierSpacing() {
+    }
+
+    /**
+     * @return the spacing of the frontier, or NaN if it has fewer than two points
+     */
+    public static double spacing(ADFrontierIndex frontier) {
+        return spacing(frontier.nearestNeighbourDistances());
+    }
+
+    /**
+     * @param nearestNeighbourDistances the distance from each point to its nearest neighbour
+     */
+    public static double spacing(double[] nearestNeighbourDistances) {
+        int n = nearestNeighbourDistances.length;
+        if (n < 2) return Double.NaN;
+        double mean = ADFrontierComparison.mean(nearestNeighbourDistances);
+        double sumOfSquares = 0;
+        for (double distance : nearestNeighbourDistances) sumOfSquares += (distance - mean) * (distance - mean);
+        return Math.sqrt(sumOfSquares / (n - 1));
+    }
+
+    /**
+     * @return the mean signed distance from each point of the first frontier to the nearest point of the second
+     */
+    public static double signedNearestNeighbourDistance(ADFrontierIndex from, ADFrontierIndex to) {
+        double[][] points = from.getPoints();
+        if (points.length == 0) return Double.NaN;
+        double[] distances = to.nearestDistances(points);
+        boolean[] dominated = to.dominates(points);
+        double sum = 0;
+        for (int p = 0; p < points.length; p++) sum += dominated[p] ? -distances[p] : distances[p];
+        return sum / points.length;
+    }
+}
@@ -0,0 +1,140 @@
+package mco.alphadelta.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * A set of frontiers of the same model under different scenarios, to be compared with each other. The
+ * objectives are matched by position, so every frontier must list them in the same order (the column names
+ * may differ between files).
+ * <p>
+ * For comparison the frontiers are turned into primitive arrays oriented so that every objective is maximized,
+ * and are optionally normalized as in the util notebooks, though with the bounds of the whole study rather than
+ * of each frontier so that all frontiers share one scale: each value becomes its distance from the worst value
+ * in the study divided by the objective's range in the study.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADFrontierStudy {
+
+    private boolean[] maximize = null;
+    private ArrayList<ADFrontier> frontiers = new ArrayList<>();
+
+    /**
+     * @param maximize the sense of each objective
+     */
+    public ADFrontierStudy(boolean[] maximize) {
+        this.maximize = maximize.clone();
+    }
+
+    /**
+     * Loads every frontier under the root directory whose path relative to the root matches the pattern (all of
+     * them if the pattern is null). Files that cannot be read as frontiers with the study's number of objectives
+     * are reported and skipped.
+     */
+    public static ADFrontierStudy load(File root, Pattern pathPattern, boolean[] maximize) {
+        ADFrontierStudy study = new ADFrontierStudy(maximize);
+        for (File frontierFile : ADFrontierReader.findFrontierFiles(root)) {
+            String relativePath = root.isDirectory()
+                    ? root.toPath().relativize(frontierFile.toPath()).toString() : frontierFile.getName();
+            if (pathPattern != null && !pathPattern.matcher(relativePath.replace(File.separatorChar, '/')).find())
+                continue;
+            try {
+                ADFrontier frontier = ADFrontierReader.read(frontierFile);
+                if (frontier.getNumObjectives() != maximize.length) {
+                    System.out.println("Skipping " + frontierFile + ": it has " + frontier.getNumObjectives()
+                            + " objectives but " + maximize.length + " senses were given");
+                    continue;
+                }
+                study.addFrontier(frontier);
+            } catch (IOException e) {
+                System.out.println("Skipping " + frontierFile + ": " + e.getMessage());
+            }
+        }
+        return study;
+    }
+
+    public void addFrontier(ADFrontier frontier) {
+        if (frontier.getNumObjectives() != maximize.length)
+            throw new IllegalArgumentException(frontier + " does not have " + maximize.length + " objectives");
+        this.frontiers.add(frontier);
+    }
+
+    public int getNumFrontiers() {
+        return frontiers.size();
+    }
+
+    public int getNumObjectives() {
+        return maximize.length;
+    }
+
+    public ADFrontier getFrontier(int index) {
+        return frontiers.get(index);
+    }
+
+    public boolean[] getMaximize() {
+        return maximize.clone();
+    }
+
+    /**
+     * @return the smallest and largest value of each objective over every frontier, as {minimums, maximums}
+     */
+    public double[][] getBounds() {
+        int numObjectives = maximize.length;
+        double[] minimums = new double[numObjectives];
+        double[] maximums = new double[numObjectives];
+        Arrays.fill(minimums, Double.POSITIVE_INFINITY);
+        Arrays.fill(maximums, Double.NEGATIVE_INFINITY);
+        for (ADFrontier frontier : frontiers)
+            for (double[] point : frontier.getPoints())
+                for (int i = 0; i < numObjectives; i++) {
+                    minimums[i] = Math.min(minimums[i], point[i]);
+                    maximums[i] = Math.max(maximums[i], point[i]);
+                }
+        return new double[][]{minimums, maximums};
+    }
+
+    /**
+     * @param normalize whether to normalize the objectives with the bounds of the study
+     * @return for each frontier, its points oriented to maximization and stored point after point in one array
+     * (the value of objective i at point p is at p * numObjectives + i)
+     */
+    public double[][] getOrientedPoints(boolean normalize) {
+        int numObjectives = maximize.length;
+        double[][] bounds = getBounds();
+        double[][] oriented = new double[frontiers.size()][];
+        for (int f = 0; f < frontiers.size(); f++) {
+            double[][] points = frontiers.get(f).getPoints();
+            double[] values = new double[points.length * numObjectives];
+            for (int p = 0; p < points.length; p++)
+                for (int i = 0; i < numObjectives; i++)
+                    values[p * numObjectives + i] = orient(i, points[p][i], bounds, normalize);
+            oriented[f] = values;
+        }
+        return oriented;
+    }
+
+    /**
+     * @return the ideal point of the study (the best value of each objective over every frontier), oriented
+     * to maximization
+     */
+    public double[] getOrientedIdeal(boolean normalize) {
+        double[][] bounds = getBounds();
+        double[] ideal = new double[maximize.length];
+        for (int i = 0; i < maximize.length; i++)
+            ideal[i] = orient(i, maximize[i] ? bounds[1][i] : bounds[0][i], bounds, normalize);
+        return ideal;
+    }
+
+    private double orient(int objective, double value, double[][] bounds, boolean normalize) {
+        if (!normalize) return maximize[objective] ? value : -value;
+        double range = bounds[1][objective] - bounds[0][objective];
+        double fromWorst = maximize[objective] ? value - bounds[0][objective] : bounds[1][objective] - value;
+        return (range > 0) ? fromWorst / range : 0;
+    }
+}
@@ -0,0 +1,309 @@
+package mco.alphadelta.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Computes the hypervolume of a frontier: the volume of the part of objective space that is dominated by
+ * at least one frontier point and bounded by a reference point that is no better than any of them.
+ * <p>
+ * The volume is exact for up to MAX_EXACT_OBJECTIVES objectives: a sort-and-sweep for two objectives, a
+ * sweep over the third objective that keeps the two-dimensional staircase in a sorted map for three, and the
+ * WFG algorithm (While, Bradstreet and Barone, 2012) above that, which recurses down to the three-objective
+ * sweep. With more objectives the volume is estimated by Monte-Carlo sampling.
+ * <p>
+ * The normalized indicators follow the computingFrontierVolume notebooks: each objective is rescaled to
+ * its distance from the worst value on the frontier divided by the objective's range on the frontier, so
+ * that the reference point is the worst corner and the volume is a fraction of the unit box.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADHypervolume {
+
+    public static final int MAX_EXACT_OBJECTIVES = 6;
+    public static final int MONTE_CARLO_SAMPLES = 1000000;
+    public static final long MONTE_CARLO_SEED = 1;
+
+    private ADHypervolume() {
+    }
+
+    /**
+     * @param points    the objective values of each point
+     * @param maximize  the sense of each objective
+     * @param reference the reference point, which should be no better than any point in any objective;
+     *                  points that are not strictly better than it in every objective add no volume
+     * @return the hypervolume, exact for up to MAX_EXACT_OBJECTIVES objectives and estimated otherwise
+     */
+    public static double compute(double[][] points, boolean[] maximize, double[] reference) {
+        return volume(toGains(points, maximize, reference, null));
+    }
+
+    /**
+     * The unary indicator of the notebooks: the fraction of the unit box dominated by the frontier once it
+     * is normalized against its own worst values and ranges.
+     */
+    public static double normalized(ADFrontier frontier, boolean[] maximize) {
+        double[] minimums = frontier.getMinimums();
+        double[] maximums = frontier.getMaximums();
+        return normalized(frontier.getPoints(), maximize, minimums, maximums);
+    }
+
+    /**
+     * @param minimums the smallest value of each objective, used for the normalization
+     * @param maximums the largest value of each objective, used for the normalization
+     * @return the fraction of the unit box dominated by the points once they are normalized with the
+     * given bounds, taking the worst bound of each objective as the reference
+     */
+    public static double normalized(double[][] points, boolean[] maximize, double[] minimums, double[] maximums) {
+        int numObjectives = maximize.length;
+        double[] reference = new double[numObjectives];
+        double[] ranges = new double[numObjectives];
+        for (int i = 0; i < numObjectives; i++) {
+            reference[i] = maximize[i] ? minimums[i] : maximums[i];
+            ranges[i] = maximums[i] - minimums[i];
+        }
+        return volume(toGains(points, maximize, reference, ranges));
+    }
+
+    /**
+     * The binary indicator of the notebooks: the normalized volume dominated by the second frontier but not
+     * by the first, that is, the volume of the two frontiers together less that of the first. Both are
+     * normalized with the bounds of their union, and the objectives must be in the same order in both.
+     *
+     * @return how much the second frontier adds to the first; 0 if the first weakly dominates it everywhere
+     */
+    public static double binary(ADFrontier first, ADFrontier second, boolean[] maximize) {
+        if (first.getNumObjectives() != second.getNumObjectives())
+            throw new IllegalArgumentException("The frontiers have different numbers of objectives: "
+                    + first.getNumObjectives() + " and " + second.getNumObjectives());
+
+        double[][] union = new double[first.getNumPoints() + second.getNumPoints()][];
+        System.arraycopy(first.getPoints(), 0, union, 0, first.getNumPoints());
+        System.arraycopy(second.getPoints(), 0, union, first.getNumPoints(), second.getNumPoints());
+        double[] minimums = first.getMinimums();
+        double[] maximums = first.getMaximums();
+        double[] secondMinimums = second.getMinimums();
+        double[] secondMaximums = second.getMaximums();
+        for (int i = 0; i < minimums.length; i++) {
+            minimums[i] = Math.min(minimums[i], secondMinimums[i]);
+            maximums[i] = Math.max(maximums[i], secondMaximums[i]);
+        }
+
+        return normalized(union, maximize, minimums, maximums)
+                - normalized(first.getPoints(), maximize, minimums, maximums);
+    }
+
+    /**
+     * Estimates the hypervolume by sampling, whatever the number of objectives.
+     */
+    public static double estimate(double[][] points, boolean[] maximize, double[] reference, int samples, long seed) {
+        return monteCarloVolume(toGains(points, maximize, reference, null), samples, seed);
+    }
+
+    /**
+     * Turns the points into their gains over the reference point, each objective scaled by its range if
+     * ranges are given, so that every objective is maximized and the reference is the origin. Points with no
+     * gain in some objective are dropped, as they add no volume (so an objective with a zero range leaves
+     * no volume at all).
+     */
+    private static double[][] toGains(double[][] points, boolean[] maximize, double[] reference, double[] ranges) {
+        int numObjectives = maximize.length;
+        ArrayList<double[]> gains = new ArrayList<>(points.length);
+        points:
+        for (double[] point : points) {
+            double[] gain = new double[numObjectives];
+            for (int i = 0; i < numObjectives; i++) {
+                gain[i] = maximize[i] ? point[i] - reference[i] : reference[i] - point[i];
+                if (ranges != null) gain[i] /= ranges[i];
+                if (!(gain[i] > 0)) continue points;
+            }
+            gains.add(gain);
+        }
+        return gains.toArray(new double[0][]);
+    }
+
+    private static double volume(double[][] gains) {
+        if (gains.length == 0) return 0;
+        int numObjectives = gains[0].length;
+        if (numObjectives > MAX_EXACT_OBJECTIVES) return monteCarloVolume(gains, MONTE_CARLO_SAMPLES, MONTE_CARLO_SEED);
+        return exactVolume(gains, numObjectives);
+    }
+
+    private static double exactVolume(double[][] gains, int numObjectives) {
+        if (gains.length == 0) return 0;
+        if (gains.length == 1) return boxVolume(gains[0]);
+        switch (numObjectives) {
+            case 1:
+                double best = 0;
+                for (double[] gain : gains) best = Math.max(best, gain[0]);
+                return best;
+            case 2:
+                return sweep2D(gains);
+            case 3:
+                return sweep3D(gains);
+            default:
+                return wfg(nondominated(gains), numObjectives);
+        }
+    }
+
+    /**
+     * Sorts by the first objective, best first; each point then adds the strip between the best second
+     * objective seen so far and its own.
+     */
+    private static double sweep2D(double[][] gains) {
+        double[][] sorted = gains.clone();
+        Arrays.sort(sorted, (a, b) -> Double.compare(b[0], a[0]));
+        double area = 0;
+        double bestY = 0;
+        for (double[] gain : sorted) {
+            if (gain[1] <= bestY) continue;
+            area += gain[0] * (gain[1] - bestY);
+            bestY = gain[1];
+        }
+        return area;
+    }
+
+    /**
+     * Sweeps down the third objective, adding each point to the two-dimensional staircase of the points
+     * above it and keeping the staircase's area up to date; each slab between consecutive third-objective
+     * values then adds its thickness times the area.
+     */
+    private static double sweep3D(double[][] gains) {
+        double[][] sorted = gains.clone();
+        Arrays.sort(sorted, (a, b) -> Double.compare(b[2], a[2]));
+
+        // x -> y of the nondominated points in the first two objectives; y falls as x rises
+        TreeMap<Double, Double> staircase = new TreeMap<>();
+        double area = 0;
+        double volume = 0;
+        for (int k = 0; k < sorted.length; k++) {
+            area += addToStaircase(staircase, sorted[k][0], sorted[k][1]);
+            double nextZ = (k + 1 < sorted.length) ? sorted[k + 1][2] : 0;
+            volume += area * (sorted[k][2] - nextZ);
+        }
+        return volume;
+    }
+
+    /**
+     * Adds a point to the staircase, removing the points it dominates.
+     *
+     * @return the area added to the staircase
+     */
+    static double addToStaircase(TreeMap<Double, Double> staircase, double x, double y) {
+        Map.Entry<Double, Double> atOrRight = staircase.ceilingEntry(x);
+        if (atOrRight != null && atOrRight.getValue() >= y) return 0;
+
+        // walk left from x, raising each step of the staircase to y until a step above y is reached
+        Map.Entry<Double, Double> right = staircase.higherEntry(x);
+        double height = (right != null) ? right.getValue() : 0;
+        double stepX = x;
+        double added = 0;
+        boolean reachedHigherStep = false;
+        Iterator<Map.Entry<Double, Double>> left = staircase.headMap(x, true).descendingMap().entrySet().iterator();
+        while (left.hasNext()) {
+            Map.Entry<Double, Double> step = left.next();
+            added += (stepX - step.getKey()) * (y - height);
+            if (step.getValue() > y) {
+                reachedHigherStep = true;
+                break;
+            }
+            height = step.getValue();
+            stepX = step.getKey();
+            left.remove();
+        }
+        if (!reachedHigherStep) added += stepX * (y - height);
+        staircase.put(x, y);
+        return added;
+    }
+
+    /**
+     * The volume is the sum of each point's exclusive volume over the points after it, which is its box less
+     * the volume of those points limited to its box.
+     */
+    private static double wfg(double[][] gains, int numObjectives) {
+        double[][] sorted = gains.clone();
+        int last = numObjectives - 1;
+        Arrays.sort(sorted, (a, b) -> Double.compare(b[last], a[last]));
+
+        double volume = 0;
+        for (int k = 0; k < sorted.length; k++) {
+            double[] point = sorted[k];
+            double[][] limited = new double[sorted.length - k - 1][numObjectives];
+            for (int j = k + 1; j < sorted.length; j++)
+                for (int i = 0; i < numObjectives; i++)
+                    limited[j - k - 1][i] = Math.min(point[i], sorted[j][i]);
+            volume += boxVolume(point) - exactVolume(limited, numObjectives);
+        }
+        return volume;
+    }
+
+    /**
+     * @param gain   a point's gains over the reference
+     * @param others the gains of the points already in the set
+     * @return the volume the point adds to the set: its box less the volume of the set limited to its box
+     */
+    static double exclusiveVolume(double[] gain, ArrayList<double[]> others) {
+        double[][] limited = new double[others.size()][gain.length];
+        for (int j = 0; j < limited.length; j++) {
+            double[] other = others.get(j);
+            for (int i = 0; i < gain.length; i++) limited[j][i] = Math.min(gain[i], other[i]);
+        }
+        return boxVolume(gain) - volume(limited);
+    }
+
+    /**
+     * Keeps the points that no other point weakly dominates, and one copy of repeated points.
+     */
+    static double[][] nondominated(double[][] gains) {
+        boolean[] maximize = new boolean[gains[0].length];
+        Arrays.fill(maximize, true);
+        int[] kept = ADNondominatedFilter.filter(gains, maximize);
+        double[][] front = new double[kept.length][];
+        for (int k = 0; k < kept.length; k++) front[k] = gains[kept[k]];
+        return front;
+    }
+
+    private static boolean weaklyDominates(double[] a, double[] b) {
+        for (int i = 0; i < a.length; i++)
+            if (a[i] < b[i]) return false;
+        return true;
+    }
+
+    private static double boxVolume(double[] gain) {
+        double volume = 1;
+        for (double g : gain) volume *= g;
+        return volume;
+    }
+
+    /**
+     * Samples the box between the origin and the best gain in each objective, counting the samples that
+     * some point dominates.
+     */
+    private static double monteCarloVolume(double[][] gains, int samples, long seed) {
+        if (gains.length == 0) return 0;
+        int numObjectives = gains[0].length;
+        double[] bounds = new double[numObjectives];
+        for (double[] gain : gains)
+            for (int i = 0; i < numObjectives; i++) bounds[i] = Math.max(bounds[i], gain[i]);
+
+        double[][] candidates = nondominated(gains);
+        Random random = new Random(seed);
+        double[] sample = new double[numObjectives];
+        int dominatedSamples = 0;
+        for (int s = 0; s < samples; s++) {
+            for (int i = 0; i < numObjectives; i++) sample[i] = random.nextDouble() * bounds[i];
+            for (double[] candidate : candidates)
+                if (weaklyDominates(candidate, sample)) {
+                    dominatedSamples++;
+                    break;
+                }
+        }
+        return boxVolume(bounds) * dominatedSamples / samples;
+    }
+}
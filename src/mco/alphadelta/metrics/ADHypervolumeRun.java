@@ -0,0 +1,86 @@
+package mco.alphadelta.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Scores frontier files from the command line.
+ * <pre>
+ * ADHypervolumeRun &lt;senses&gt; &lt;frontier file or directory&gt;...
+ * ADHypervolumeRun -binary &lt;senses&gt; &lt;first frontier file&gt; &lt;second frontier file&gt;
+ * </pre>
+ * The senses give one character per objective, in the order of the file's columns: + for an objective that
+ * is maximized and - for one that is minimized (for example, -+- for the climate change frontiers). Each
+ * frontier file found is printed with its normalized hypervolume; files that are not frontiers are skipped.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADHypervolumeRun {
+
+    public static void main(String[] args) {
+        if (args.length >= 4 && args[0].equals("-binary")) {
+            runBinary(parseSenses(args[1]), new File(args[2]), new File(args[3]));
+            return;
+        }
+        if (args.length < 2) {
+            System.out.println("Usage: ADHypervolumeRun <senses> <frontier file or directory>...");
+            System.out.println("       ADHypervolumeRun -binary <senses> <first frontier file> <second frontier file>");
+            System.out.println("where <senses> has a + (maximize) or - (minimize) for each objective, e.g. -+-");
+            return;
+        }
+
+        boolean[] maximize = parseSenses(args[0]);
+        ArrayList<File> frontierFiles = new ArrayList<>();
+        for (int a = 1; a < args.length; a++) frontierFiles.addAll(ADFrontierReader.findFrontierFiles(new File(args[a])));
+
+        System.out.println("Frontier, Points, NormalizedHypervolume, Milliseconds");
+        for (File frontierFile : frontierFiles) {
+            ADFrontier frontier;
+            try {
+                frontier = ADFrontierReader.read(frontierFile);
+            } catch (IOException e) {
+                System.out.println("Skipping " + frontierFile + ": " + e.getMessage());
+                continue;
+            }
+            if (frontier.getNumObjectives() != maximize.length) {
+                System.out.println("Skipping " + frontierFile + ": it has " + frontier.getNumObjectives()
+                        + " objectives but " + maximize.length + " senses were given");
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            double volume = ADHypervolume.normalized(frontier, maximize);
+            System.out.println(frontierFile + ", " + frontier.getNumPoints() + ", " + volume + ", "
+                    + (System.currentTimeMillis() - start));
+        }
+    }
+
+    private static void runBinary(boolean[] maximize, File firstFile, File secondFile) {
+        try {
+            ADFrontier first = ADFrontierReader.read(firstFile);
+            ADFrontier second = ADFrontierReader.read(secondFile);
+            System.out.println("Volume added by " + secondFile + " to " + firstFile + ": "
+                    + ADHypervolume.binary(first, second, maximize));
+            System.out.println("Volume added by " + firstFile + " to " + secondFile + ": "
+                    + ADHypervolume.binary(second, first, maximize));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @param senses a + (maximize) or - (minimize) for each objective
+     */
+    static boolean[] parseSenses(String senses) {
+        boolean[] maximize = new boolean[senses.length()];
+        for (int i = 0; i < senses.length(); i++) {
+            char sense = senses.charAt(i);
+            if (sense != '+' && sense != '-')
+                throw new IllegalArgumentException("Senses must be + or -, found '" + sense + "'");
+            maximize[i] = sense == '+';
+        }
+        return maximize;
+    }
+}
@@ -0,0 +1,123 @@
+package mco.alphadelta.metrics;
+
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+/**
+ * Keeps the hypervolume of a frontier up to date as its points are found, one at a time. Each new point adds
+ * its exclusive volume (its box less the part already dominated), so the frontier is never rescored from
+ * scratch: with two objectives the points are kept as a staircase and a point is added in logarithmic time,
+ * and with more the exclusive volume is computed from the existing points limited to the new point's box.
+ * <p>
+ * Objectives are normalized to the box between their worst case and ideal values, with the reference point
+ * placed REFERENCE_MARGIN beyond the worst case so that the extreme points of the frontier still add volume.
+ * Objectives whose worst case and ideal values are equal are left out. The tracker also records the solver
+ * time spent on each point, giving the rate at which the frontier is currently gaining volume.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADHypervolumeTracker {
+
+    public static final double REFERENCE_MARGIN = 0.01;
+    public static final int GAIN_RATE_WINDOW = 3;
+
+    private boolean[] maximize = null;
+    private double[] worst = null;
+    private double[] ranges = null;
+    private int[] trackedObjectives = null;
+
+    private ArrayList<double[]> gains = new ArrayList<>();
+    private TreeMap<Double, Double> staircase = new TreeMap<>();
+    private double hypervolume = 0;
+    private ArrayList<Double> pointGains = new ArrayList<>();
+    private ArrayList<Double> pointSeconds = new ArrayList<>();
+
+    /**
+     * @param maximize the sense of each objective
+     * @param worst    the worst case value of each objective
+     * @param ideal    the ideal value of each objective
+     */
+    public ADHypervolumeTracker(boolean[] maximize, double[] worst, double[] ideal) {
+        this.maximize = maximize.clone();
+        this.worst = worst.clone();
+        this.ranges = new double[maximize.length];
+
+        int numTracked = 0;
+        int[] tracked = new int[maximize.length];
+        for (int i = 0; i < maximize.length; i++) {
+            ranges[i] = Math.abs(ideal[i] - worst[i]);
+            if (ranges[i] > 0) tracked[numTracked++] = i;
+        }
+        this.trackedObjectives = new int[numTracked];
+        System.arraycopy(tracked, 0, this.trackedObjectives, 0, numTracked);
+    }
+
+    /**
+     * Adds a frontier point.
+     *
+     * @param point         the objective values of the point
+     * @param solverSeconds the solver time spent finding the point
+     * @return the volume the point added to the frontier
+     */
+    public double add(double[] point, double solverSeconds) {
+        double gain = addPoint(point);
+        hypervolume += gain;
+        pointGains.add(gain);
+        pointSeconds.add(solverSeconds);
+        return gain;
+    }
+
+    private double addPoint(double[] point) {
+        if (trackedObjectives.length == 0) return 0;
+
+        double[] gain = new double[trackedObjectives.length];
+        for (int k = 0; k < trackedObjectives.length; k++) {
+            int i = trackedObjectives[k];
+            double improvement = maximize[i] ? point[i] - worst[i] : worst[i] - point[i];
+            gain[k] = improvement / ranges[i] + REFERENCE_MARGIN;
+            if (!(gain[k] > 0)) return 0;
+        }
+
+        if (gain.length == 1) {
+            double best = gains.isEmpty() ? 0 : gains.get(0)[0];
+            if (gain[0] <= best) return 0;
+            gains.clear();
+            gains.add(gain);
+            return gain[0] - best;
+        }
+        if (gain.length == 2) return ADHypervolume.addToStaircase(staircase, gain[0], gain[1]);
+
+        double added = ADHypervolume.exclusiveVolume(gain, gains);
+        if (added > 0) gains.add(gain);
+        return added;
+    }
+
+    /**
+     * @return the normalized hypervolume of the points added so far
+     */
+    public double getHypervolume() {
+        return hypervolume;
+    }
+
+    public int getNumPoints() {
+        return pointGains.size();
+    }
+
+    /**
+     * @return the volume added per solver-second over the last GAIN_RATE_WINDOW points, or positive
+     * infinity until that many points have been added
+     */
+    public double getGainRate() {
+        int numPoints = pointGains.size();
+        if (numPoints < GAIN_RATE_WINDOW) return Double.POSITIVE_INFINITY;
+        double gain = 0;
+        double seconds = 0;
+        for (int p = numPoints - GAIN_RATE_WINDOW; p < numPoints; p++) {
+            gain += pointGains.get(p);
+            seconds += pointSeconds.get(p);
+        }
+        return (seconds > 0) ? gain / seconds : Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,308 @@
+package mco.alphadelta.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A k-d tree over points in objective space, answering the box queries behind dominance tests: a point is
+ * weakly dominated (for maximization) if some point lies in the box above it, and two points are duplicates
+ * within given tolerances if one lies in the box of those tolerances around the other. Every node keeps the
+ * bounding box of its subtree, so subtrees outside the query box are skipped.
+ * <p>
+ * The tree also finds the nearest point (by Euclidean distance) to a query point. Queries do not change the
+ * tree, so any number of threads may query it at once as long as no points are added or removed meanwhile.
+ * <p>
+ * Points are identified by the order in which they were added, starting from 0. Removed points are only
+ * marked, and are dropped when the tree is next rebuilt; the tree is rebuilt, balanced, once points added
+ * since the last rebuild have made it much deeper than a balanced tree would be.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADKDTree {
+
+    private static class Node {
+        final int id;
+        final int splitDimension;
+        final double[] lower;
+        final double[] upper;
+        Node below = null;
+        Node above = null;
+
+        Node(int id, double[] point, int splitDimension) {
+            this.id = id;
+            this.splitDimension = splitDimension;
+            this.lower = point.clone();
+            this.upper = point.clone();
+        }
+    }
+
+    private int numDimensions = -1;
+    private ArrayList<double[]> points = new ArrayList<>();
+    private ArrayList<Boolean> removed = new ArrayList<>();
+    private Node root = null;
+    private int liveCount = 0;
+    private int addedSinceRebuild = 0;
+    private int depth = 0;
+
+    public ADKDTree(int numDimensions) {
+        this.numDimensions = numDimensions;
+    }
+
+    /**
+     * Builds a balanced tree over the given points, which get ids 0 to points.length - 1.
+     */
+    public static ADKDTree build(double[][] points, int numDimensions) {
+        ADKDTree tree = new ADKDTree(numDimensions);
+        for (double[] point : points) {
+            tree.points.add(point.clone());
+            tree.removed.add(false);
+        }
+        tree.liveCount = points.length;
+        tree.rebuild();
+        return tree;
+    }
+
+    /**
+     * @return the id of the point
+     */
+    public int add(double[] point) {
+        int id = points.size();
+        points.add(point.clone());
+        removed.add(false);
+        liveCount++;
+        addedSinceRebuild++;
+
+        int pointDepth = insert(id, point);
+        depth = Math.max(depth, pointDepth);
+        if (depth > 2 * log2(liveCount) + 8 && addedSinceRebuild > liveCount / 4) rebuild();
+        return id;
+    }
+
+    public void remove(int id) {
+        if (removed.get(id)) return;
+        removed.set(id, true);
+        liveCount--;
+    }
+
+    public boolean isRemoved(int id) {
+        return removed.get(id);
+    }
+
+    public double[] getPoint(int id) {
+        return points.get(id);
+    }
+
+    /**
+     * @return the number of points held, not counting those removed
+     */
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * @return true if some point held lies in the box, bounds included
+     */
+    public boolean anyInBox(double[] lower, double[] upper) {
+        return search(root, lower, upper, null);
+    }
+
+    /**
+     * @return the ids of the points held that lie in the box, bounds included, in increasing order
+     */
+    public ArrayList<Integer> findInBox(double[] lower, double[] upper) {
+        ArrayList<Integer> found = new ArrayList<>();
+        search(root, lower, upper, found);
+        found.sort(null);
+        return found;
+    }
+
+    /**
+     * @return true if some point held is at least as large as the given one in every dimension
+     */
+    public boolean anyWeaklyDominating(double[] point) {
+        double[] upper = new double[numDimensions];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        return anyInBox(point, upper);
+    }
+
+    /**
+     * @return the ids of the points held that are at most as large as the given one in every dimension
+     */
+    public ArrayList<Integer> findWeaklyDominated(double[] point) {
+        double[] lower = new double[numDimensions];
+        Arrays.fill(lower, Double.NEGATIVE_INFINITY);
+        return findInBox(lower, point);
+    }
+
+    /**
+     * @param query     the query point
+     * @param excludeId the id of a point to ignore (such as the query point itself), or -1
+     * @return the id of the point held that is nearest to the query, or -1 if there is none
+     */
+    public int nearest(double[] query, int excludeId) {
+        if (root == null) return -1;
+        int bestId = -1;
+        double bestSquaredDistance = Double.POSITIVE_INFINITY;
+
+        Node[] stack = new Node[64];
+        int size = 0;
+        stack[size++] = root;
+        while (size > 0) {
+            Node current = stack[--size];
+            if (squaredDistanceToBox(current, query) >= bestSquaredDistance) continue;
+            if (current.id != excludeId && !removed.get(current.id)) {
+                double squaredDistance = squaredDistance(points.get(current.id), query);
+                if (squaredDistance < bestSquaredDistance) {
+                    bestSquaredDistance = squaredDistance;
+                    bestId = current.id;
+                }
+            }
+            // push the farther child first, so the nearer one is searched first and tightens the bound
+            Node nearer = current.above;
+            Node farther = current.below;
+            if (query[current.splitDimension] < points.get(current.id)[current.splitDimension]) {
+                nearer = current.below;
+                farther = current.above;
+            }
+            if (size + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+            if (farther != null) stack[size++] = farther;
+            if (nearer != null) stack[size++] = nearer;
+        }
+        return bestId;
+    }
+
+    public static double distance(double[] a, double[] b) {
+        return Math.sqrt(squaredDistance(a, b));
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            double difference = a[i] - b[i];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    private double squaredDistanceToBox(Node node, double[] query) {
+        double sum = 0;
+        for (int i = 0; i < numDimensions; i++) {
+            double difference = 0;
+            if (query[i] < node.lower[i]) difference = node.lower[i] - query[i];
+            else if (query[i] > node.upper[i]) difference = query[i] - node.upper[i];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    /**
+     * Searches the subtree for points in the box, stopping at the first one if found is null.
+     */
+    private boolean search(Node node, double[] lower, double[] upper, ArrayList<Integer> found) {
+        // an explicit stack, as a degenerate tree can be deeper than the call stack allows
+        if (node == null) return false;
+        Node[] stack = new Node[64];
+        int size = 0;
+        stack[size++] = node;
+        boolean any = false;
+        while (size > 0) {
+            Node current = stack[--size];
+            if (!overlaps(current, lower, upper)) continue;
+            if (!removed.get(current.id) && inside(points.get(current.id), lower, upper)) {
+                if (found == null) return true;
+                found.add(current.id);
+                any = true;
+            }
+            if (size + 2 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+            if (current.below != null) stack[size++] = current.below;
+            if (current.above != null) stack[size++] = current.above;
+        }
+        return any;
+    }
+
+    private int insert(int id, double[] point) {
+        if (root == null) {
+            root = new Node(id, point, 0);
+            return 1;
+        }
+        Node node = root;
+        int nodeDepth = 1;
+        while (true) {
+            extend(node, point);
+            nodeDepth++;
+            int dimension = node.splitDimension;
+            boolean goAbove = point[dimension] >= points.get(node.id)[dimension];
+            Node child = goAbove ? node.above : node.below;
+            if (child == null) {
+                Node leaf = new Node(id, point, (dimension + 1) % numDimensions);
+                if (goAbove) node.above = leaf;
+                else node.below = leaf;
+                return nodeDepth;
+            }
+            node = child;
+        }
+    }
+
+    private void rebuild() {
+        int[] live = new int[liveCount];
+        int count = 0;
+        for (int id = 0; id < points.size(); id++)
+            if (!removed.get(id)) live[count++] = id;
+        root = build(live, 0, count, 0);
+        depth = 2 * log2(count) + 1;
+        addedSinceRebuild = 0;
+    }
+
+    /**
+     * Builds a balanced subtree over ids[from, to), splitting at the median of the dimension.
+     */
+    private Node build(int[] ids, int from, int to, int dimension) {
+        if (from >= to) return null;
+        Integer[] range = new Integer[to - from];
+        for (int k = from; k < to; k++) range[k - from] = ids[k];
+        Arrays.sort(range, (a, b) -> Double.compare(points.get(a)[dimension], points.get(b)[dimension]));
+        // points equal to the median on the split dimension must go above it, so the median is the first of them
+        int median = range.length / 2;
+        double medianValue = points.get(range[median])[dimension];
+        while (median > 0 && points.get(range[median - 1])[dimension] == medianValue) median--;
+        for (int k = 0; k < range.length; k++) ids[from + k] = range[k];
+
+        int nextDimension = (dimension + 1) % numDimensions;
+        Node node = new Node(ids[from + median], points.get(ids[from + median]), dimension);
+        node.below = build(ids, from, from + median, nextDimension);
+        node.above = build(ids, from + median + 1, to, nextDimension);
+        if (node.below != null) extend(node, node.below);
+        if (node.above != null) extend(node, node.above);
+        return node;
+    }
+
+    private void extend(Node node, double[] point) {
+        for (int i = 0; i < numDimensions; i++) {
+            node.lower[i] = Math.min(node.lower[i], point[i]);
+            node.upper[i] = Math.max(node.upper[i], point[i]);
+        }
+    }
+
+    private void extend(Node node, Node child) {
+        extend(node, child.lower);
+        extend(node, child.upper);
+    }
+
+    private boolean overlaps(Node node, double[] lower, double[] upper) {
+        for (int i = 0; i < numDimensions; i++)
+            if (node.upper[i] < lower[i] || node.lower[i] > upper[i]) return false;
+        return true;
+    }
+
+    private boolean inside(double[] point, double[] lower, double[] upper) {
+        for (int i = 0; i < numDimensions; i++)
+            if (point[i] < lower[i] || point[i] > upper[i]) return false;
+        return true;
+    }
+
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, n));
+    }
+}
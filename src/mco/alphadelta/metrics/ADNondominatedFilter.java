@@ -0,0 +1,186 @@
+package mco.alphadelta.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Removes the dominated points of a frontier, and optionally collapses points that are duplicates within given
+ * tolerances, so that raw run output need not be filtered by hand.
+ * <p>
+ * The points are first sorted in decreasing lexicographic order (after orienting every objective for
+ * maximization), so that a point can only be dominated by points before it. Two objectives then take a single
+ * sweep. With more, Kung's divide and conquer is used: the first and second halves of the sorted points are
+ * filtered separately, and the survivors of the second half are kept unless dominated by a survivor of the first,
+ * which is tested with a k-d tree over the first half's survivors on every objective but the first (on which
+ * the first half is never worse).
+ * <p>
+ * Two points are duplicates if they differ by no more than the tolerance in every objective. Of a group of
+ * duplicates the point first in the sorted order is kept. For a frontier from the alpha-delta algorithm the
+ * tolerances follow from the deltas (see tolerancesFromDeltas): points closer than half a delta in every
+ * objective could not both have been required by the algorithm.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADNondominatedFilter {
+
+    public static final double DUPLICATE_FRACTION_OF_DELTA = 0.5;
+    private static final int NAIVE_FILTER_SIZE = 32;
+
+    private ADNondominatedFilter() {
+    }
+
+    /**
+     * @param deltas the delta of each objective (0 for the principal objective, which has none)
+     * @return the duplicate tolerances for a frontier generated with the deltas
+     */
+    public static double[] tolerancesFromDeltas(double[] deltas) {
+        double[] tolerances = new double[deltas.length];
+        for (int i = 0; i < deltas.length; i++) tolerances[i] = Math.abs(deltas[i]) * DUPLICATE_FRACTION_OF_DELTA;
+        return tolerances;
+    }
+
+    /**
+     * @return the indices of the nondominated points, in increasing order; of identical points only the first is kept
+     */
+    public static int[] filter(double[][] points, boolean[] maximize) {
+        return filter(points, maximize, null);
+    }
+
+    /**
+     * @param tolerances the duplicate tolerance of each objective, or null to collapse only identical points
+     * @return the indices of the points kept, in increasing order
+     */
+    public static int[] filter(double[][] points, boolean[] maximize, double[] tolerances) {
+        int numObjectives = maximize.length;
+        double[][] oriented = new double[points.length][numObjectives];
+        for (int p = 0; p < points.length; p++)
+            for (int i = 0; i < numObjectives; i++)
+                oriented[p][i] = maximize[i] ? points[p][i] : -points[p][i];
+
+        Integer[] sorted = new Integer[points.length];
+        for (int p = 0; p < points.length; p++) sorted[p] = p;
+        Arrays.sort(sorted, (a, b) -> {
+            for (int i = 0; i < numObjectives; i++) {
+                int comparison = Double.compare(oriented[b][i], oriented[a][i]);
+                if (comparison != 0) return comparison;
+            }
+            return Integer.compare(a, b);
+        });
+        int[] order = new int[points.length];
+        for (int k = 0; k < order.length; k++) order[k] = sorted[k];
+
+        int[] front;
+        if (points.length == 0) front = order;
+        else if (numObjectives == 1) front = new int[]{order[0]};
+        else if (numObjectives == 2) front = sweep(order, oriented);
+        else front = kung(order, 0, order.length, oriented);
+
+        if (tolerances != null) front = collapseDuplicates(front, oriented, tolerances);
+
+        int[] kept = front.clone();
+        Arrays.sort(kept);
+        return kept;
+    }
+
+    /**
+     * @return the frontier without its dominated points and duplicates
+     */
+    public static ADFrontier filter(ADFrontier frontier, boolean[] maximize, double[] tolerances) {
+        int[] kept = filter(frontier.getPoints(), maximize, tolerances);
+        int[] solutionIndices = new int[kept.length];
+        double[][] points = new double[kept.length][];
+        for (int k = 0; k < kept.length; k++) {
+            solutionIndices[k] = frontier.getSolutionIndices()[kept[k]];
+            points[k] = frontier.getPoints()[kept[k]];
+        }
+        return new ADFrontier(frontier.getName(), frontier.getObjectiveNames(), solutionIndices, points);
+    }
+
+    /**
+     * Two objectives: in sorted order, a point is nondominated if it beats every earlier point on the second.
+     */
+    private static int[] sweep(int[] order, double[][] oriented) {
+        int[] front = new int[order.length];
+        int count = 0;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int p : order) {
+            if (oriented[p][1] <= best) continue;
+            best = oriented[p][1];
+            front[count++] = p;
+        }
+        return Arrays.copyOf(front, count);
+    }
+
+    /**
+     * @return the nondominated points of order[from, to), in sorted order
+     */
+    private static int[] kung(int[] order, int from, int to, double[][] oriented) {
+        if (to - from <= NAIVE_FILTER_SIZE) return naive(order, from, to, oriented);
+
+        int middle = (from + to) >>> 1;
+        int[] top = kung(order, from, middle, oriented);
+        int[] bottom = kung(order, middle, to, oriented);
+
+        double[][] topProjections = new double[top.length][];
+        for (int k = 0; k < top.length; k++) topProjections[k] = projection(oriented[top[k]]);
+        ADKDTree tree = ADKDTree.build(topProjections, oriented[0].length - 1);
+
+        int[] front = Arrays.copyOf(top, top.length + bottom.length);
+        int count = top.length;
+        for (int p : bottom)
+            if (!tree.anyWeaklyDominating(projection(oriented[p]))) front[count++] = p;
+        return Arrays.copyOf(front, count);
+    }
+
+    private static int[] naive(int[] order, int from, int to, double[][] oriented) {
+        int[] front = new int[to - from];
+        int count = 0;
+        for (int k = from; k < to; k++) {
+            double[] point = oriented[order[k]];
+            boolean dominated = false;
+            for (int j = 0; j < count && !dominated; j++) dominated = weaklyDominates(oriented[front[j]], point);
+            if (!dominated) front[count++] = order[k];
+        }
+        return Arrays.copyOf(front, count);
+    }
+
+    /**
+     * Keeps the first point of each group of duplicates, removing from a k-d tree over the whole front every
+     * point within the tolerances of a point kept.
+     */
+    private static int[] collapseDuplicates(int[] front, double[][] oriented, double[] tolerances) {
+        int numObjectives = tolerances.length;
+        double[][] frontPoints = new double[front.length][];
+        for (int k = 0; k < front.length; k++) frontPoints[k] = oriented[front[k]];
+        ADKDTree tree = ADKDTree.build(frontPoints, numObjectives);
+
+        double[] lower = new double[numObjectives];
+        double[] upper = new double[numObjectives];
+        ArrayList<Integer> kept = new ArrayList<>();
+        for (int k = 0; k < front.length; k++) {
+            if (tree.isRemoved(k)) continue;
+            kept.add(front[k]);
+            for (int i = 0; i < numObjectives; i++) {
+                lower[i] = frontPoints[k][i] - tolerances[i];
+                upper[i] = frontPoints[k][i] + tolerances[i];
+            }
+            for (int duplicate : tree.findInBox(lower, upper)) tree.remove(duplicate);
+        }
+
+        int[] collapsed = new int[kept.size()];
+        for (int k = 0; k < collapsed.length; k++) collapsed[k] = kept.get(k);
+        return collapsed;
+    }
+
+    private static double[] projection(double[] point) {
+        return Arrays.copyOfRange(point, 1, point.length);
+    }
+
+    private static boolean weaklyDominates(double[] a, double[] b) {
+        for (int i = 0; i < a.length; i++)
+            if (a[i] < b[i]) return false;
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+package mco.alphadelta.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Filters a raw frontier file from the command line, writing its nondominated points to a new file.
+ * <pre>
+ * ADNondominatedFilterRun &lt;senses&gt; &lt;input frontier file&gt; &lt;output file&gt; [&lt;deltas&gt;]
+ * </pre>
+ * The senses are as for ADHypervolumeRun. The optional deltas are the comma-separated deltas the frontier was
+ * generated with, one per non-principal objective (or one per objective, the first ignored); points closer than
+ * half a delta in every objective are then collapsed into one. The output is written in the OptimalSolutions.csv
+ * format, keeping the solution index of each point.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADNondominatedFilterRun {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: ADNondominatedFilterRun <senses> <input frontier file> <output file> [<deltas>]");
+            return;
+        }
+
+        boolean[] maximize = ADHypervolumeRun.parseSenses(args[0]);
+        ADFrontier frontier = ADFrontierReader.read(new File(args[1]));
+        if (frontier.getNumObjectives() != maximize.length) {
+            System.out.println(args[1] + " has " + frontier.getNumObjectives() + " objectives but "
+                    + maximize.length + " senses were given");
+            return;
+        }
+
+        double[] tolerances = null;
+        if (args.length > 3) {
+            String[] values = args[3].split(",");
+            double[] deltas = new double[maximize.length];
+            int offset = maximize.length - values.length;
+            if (offset != 0 && offset != 1) {
+                System.out.println("Expected " + (maximize.length - 1) + " deltas but found " + values.length);
+                return;
+            }
+            for (int k = 0; k < values.length; k++) deltas[k + offset] = Double.parseDouble(values[k].trim());
+            deltas[0] = 0;
+            tolerances = ADNondominatedFilter.tolerancesFromDeltas(deltas);
+        }
+
+        long start = System.currentTimeMillis();
+        ADFrontier filtered = ADNondominatedFilter.filter(frontier, maximize, tolerances);
+        System.out.println("Kept " + filtered.getNumPoints() + " of " + frontier.getNumPoints() + " points in "
+                + (System.currentTimeMillis() - start) + " ms");
+
+        try (PrintStream out = new PrintStream(new File(args[2]))) {
+            StringBuilder header = new StringBuilder("SolutionIndex");
+            for (String objective : filtered.getObjectiveNames()) header.append(", ").append(objective);
+            out.println(header);
+            for (int p = 0; p < filtered.getNumPoints(); p++) {
+                StringBuilder line = new StringBuilder(Integer.toString(filtered.getSolutionIndices()[p]));
+                for (double objVal : filtered.getPoints()[p]) line.append(", ").append(objVal);
+                out.println(line);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package mco.alphadelta.metrics;
+
+/**
+ * Measures of the conflict between pairs of objectives within a frontier, as computed by the
+ * computingObjectiveConflictWithinFrontier notebooks. Both work on the frontier normalized to its own bounds,
+ * with every objective oriented for maximization.
+ * <p>
+ * The cross-section hypervolume of a pair of objectives is the normalized area dominated by the frontier
+ * projected onto the two objectives: near 1 if both can be close to their best at once, near 0.5 or below if
+ * improving one costs the other. The Pearson correlation of the oriented values is negative for objectives
+ * that trade off along the frontier.
+ *
+ * @author nkullman
+ * @version %I%, %G%
+ * @since Oct 18, 2026
+ */
+public class ADObjectiveConflict {
+
+    private ADObjectiveConflict() {
+    }
+
+    /**
+     * @return the cross-section hypervolume of each pair of objectives; the diagonal is NaN
+     */
+    public static double[][] crossSectionHypervolumes(ADFrontier frontier, boolean[] maximize) {
+        int numObjectives = frontier.getNumObjectives();
+        double[] minimums = frontier.getMinimums();
+        double[] maximums = frontier.getMaximums();
+        double[][] points = frontier.getPoints();
+
+        double[][] volumes = new double[numObjectives][numObjectives];
+        double[][] projection = new double[points.length][2];
+        for (int i = 0; i < numObjectives; i++) {
+            volumes[i][i] = Double.NaN;
+            for (int j = i + 1; j < numObjectives; j++) {
+                for (int p = 0; p < points.length; p++) {
+                    projection[p][0] = points[p][i];
+                    projection[p][1] = points[p][j];
+                }
+                volumes[i][j] = ADHypervolume.normalized(projection, new boolean[]{maximize[i], maximize[j]},
+                        new double[]{minimums[i], minimums[j]}, new double[]{maximums[i], maximums[j]});
+                volumes[j][i] = volumes[i][j];
+            }
+        }
+        return volumes;
+    }
+
+    /**
+     * @return the Pearson correlation of each pair of objectives, oriented for maximization; NaN for an
+     * objective that is constant on the frontier
+     */
+    public static double[][] pearsonCorrelations(ADFrontier frontier, boolean[] maximize) {
+        int numObjectives = frontier.getNumObjectives();
+        double[][] points = frontier.getPoints();
+        int n = points.length;
+
+        double[] means = new double[numObjectives];
+        for (double[] point : points)
+            for (int i = 0; i < numObjectives; i++) means[i] += orient(point[i], maximize[i]) / n;
+
+        double[][] covariances = new double[numObjectives][numObjectives];
+        for (double[] point : points)
+            for (int i = 0; i < numObjectives; i++) {
+                double di = orient(point[i], maximize[i]) - means[i];
+                for (int j = i; j < numObjectives; j++)
+                    covariances[i][j] += di * (orient(point[j], maximize[j]) - means[j]);
+            }
+
+        double[][] correlations = new double[numObjectives][numObjectives];
+        for (int i = 0; i < numObjectives; i++)
+            for (int j = i; j < numObjectives; j++) {
+                double denominator = Math.sqrt(covariances[i][i] * covariances[j][j]);
+                correlations[i][j] = (denominator > 0) ? covariances[i][j] / denominator : Double.NaN;
+                correlations[j][i] = correlations[i][j];
+            }
+        return correlations;
+    }
+
+    private static double orient(double value, boolean maximize) {
+        return maximize ? value : -value;
+    }
+}